@@ -9,12 +9,16 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyBorrowerRecords;
@@ -24,14 +28,16 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LibraryRecords;
+import seedu.address.storage.PersistenceExecutor;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StorageFormatConverter;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.borrowerrecords.BorrowerRecordsStorage;
-import seedu.address.storage.borrowerrecords.JsonBorrowerRecordsStorage;
 import seedu.address.storage.catalog.CatalogStorage;
-import seedu.address.storage.catalog.JsonCatalogStorage;
-import seedu.address.storage.loanrecords.JsonLoanRecordsStorage;
+import seedu.address.storage.journal.JournalStorage;
+import seedu.address.storage.journal.JsonJournalStorage;
 import seedu.address.storage.loanrecords.LoanRecordsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -67,13 +73,18 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        LoanRecordsStorage loanRecordsStorage = new JsonLoanRecordsStorage(userPrefs.getLoanRecordsFilePath());
-        CatalogStorage catalogStorage = new JsonCatalogStorage(userPrefs.getCatalogFilePath());
+        initStorageFormat(userPrefs);
+        StorageFormat storageFormat = userPrefs.getStorageFormat();
+        LoanRecordsStorage loanRecordsStorage =
+            StorageFormatConverter.createLoanRecordsStorage(storageFormat, userPrefs);
+        CatalogStorage catalogStorage = StorageFormatConverter.createCatalogStorage(storageFormat, userPrefs);
         BorrowerRecordsStorage borrowerRecordsStorage =
-            new JsonBorrowerRecordsStorage(userPrefs.getBorrowerRecordsFilePath());
+            StorageFormatConverter.createBorrowerRecordsStorage(storageFormat, userPrefs);
+        JournalStorage journalStorage = new JsonJournalStorage(userPrefs.getJournalFilePath());
 
         storage = new StorageManager(userPrefsStorage,
-            loanRecordsStorage, catalogStorage, borrowerRecordsStorage);
+            loanRecordsStorage, catalogStorage, borrowerRecordsStorage, journalStorage,
+            new PersistenceExecutor(true));
 
         initLogging(config);
 
@@ -88,53 +99,102 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s catalog, borrower records, loan records
      * and {@code userPrefs}. <br>
      * <p>
-     * The data from the sample catalog will be used instead if {@code storage}'s catalog is not found,
-     * or an empty catalog will be used instead if errors occur when reading {@code storage}'s catalog.
+     * The sample data will be used instead if {@code storage}'s data files are not found, or if errors occur when
+     * reading them or their journal. In the latter case, the files that could not be read are backed up before the
+     * sample data is saved over them.
+     * Changes recorded in {@code storage}'s journal are replayed on top of the data read, and then compacted
+     * into the data files.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
 
-        Optional<ReadOnlyLoanRecords> loanRecordsOptional;
+        Optional<LibraryRecords> libraryRecordsOptional;
         ReadOnlyLoanRecords initialLoanRecords;
-        Optional<ReadOnlyCatalog> catalogOptional;
         ReadOnlyCatalog initialCatalog;
-        Optional<ReadOnlyBorrowerRecords> borrowerRecordsOptional;
         ReadOnlyBorrowerRecords initialBorrowerRecords;
 
         try {
-            loanRecordsOptional = storage.readLoanRecords();
-            if (loanRecordsOptional.isEmpty()) {
+            libraryRecordsOptional = storage.readLibraryRecords();
+            if (libraryRecordsOptional.isEmpty()) {
                 logger.info(MESSAGE_DATA_NOT_FOUND);
-                return getSampleModelManager(userPrefs, MESSAGE_DATA_NOT_FOUND);
+                return getSampleModelManager(storage, userPrefs, MESSAGE_DATA_NOT_FOUND);
             }
-            initialLoanRecords = loanRecordsOptional.get();
-            catalogOptional = storage.readCatalog(initialLoanRecords);
-            borrowerRecordsOptional = storage.readBorrowerRecords(initialLoanRecords);
-
-            if (catalogOptional.isEmpty() || borrowerRecordsOptional.isEmpty()) {
-                logger.info(MESSAGE_DATA_NOT_FOUND);
-                return getSampleModelManager(userPrefs, MESSAGE_DATA_NOT_FOUND);
+            initialLoanRecords = libraryRecordsOptional.get().getLoanRecords();
+            initialCatalog = libraryRecordsOptional.get().getCatalog();
+            initialBorrowerRecords = libraryRecordsOptional.get().getBorrowerRecords();
+
+            if (storage.hasJournalEntries()) {
+                LoanRecords loanRecords = new LoanRecords(initialLoanRecords);
+                Catalog catalog = new Catalog(initialCatalog);
+                BorrowerRecords borrowerRecords = new BorrowerRecords(initialBorrowerRecords);
+                storage.replayJournal(loanRecords, catalog, borrowerRecords);
+                storage.compactJournal(loanRecords, catalog, borrowerRecords);
+                initialLoanRecords = loanRecords;
+                initialCatalog = catalog;
+                initialBorrowerRecords = borrowerRecords;
             }
-            initialCatalog = catalogOptional.get();
-            initialBorrowerRecords = borrowerRecordsOptional.get();
 
         } catch (DataConversionException e) {
             logger.warning(MESSAGE_DATA_INCORRECT_FORMAT);
-            return getSampleModelManager(userPrefs, MESSAGE_DATA_INCORRECT_FORMAT);
+            return getSampleModelManagerAfterBackup(storage, userPrefs, MESSAGE_DATA_INCORRECT_FORMAT);
         } catch (IOException e) {
             logger.warning(MESSAGE_PROBLEM_READING_FILE);
-            return getSampleModelManager(userPrefs, MESSAGE_PROBLEM_READING_FILE);
+            return getSampleModelManagerAfterBackup(storage, userPrefs, MESSAGE_PROBLEM_READING_FILE);
         }
 
         return new ModelManager(initialCatalog, initialLoanRecords, initialBorrowerRecords, userPrefs);
     }
 
-    private Model getSampleModelManager(ReadOnlyUserPrefs userPrefs, String message) {
+    /**
+     * Returns a {@code ModelManager} with the sample data, which is also saved to {@code storage}'s data files
+     * so that later changes are journaled against it rather than against the data that could not be read.
+     */
+    private Model getSampleModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, String message) {
+        Model sampleModel = createSampleModelManager(userPrefs, message);
+        try {
+            storage.compactJournal(sampleModel.getLoanRecords(), sampleModel.getCatalog(),
+                sampleModel.getBorrowerRecords());
+        } catch (IOException e) {
+            logger.warning("Failed to save sample library records " + StringUtil.getDetails(e));
+        }
+        return sampleModel;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the sample data, for when {@code storage}'s library records could not be
+     * read. The sample data is only saved once the files holding the unreadable records have been backed up;
+     * otherwise the files are left untouched.
+     */
+    private Model getSampleModelManagerAfterBackup(Storage storage, ReadOnlyUserPrefs userPrefs, String message) {
+        try {
+            storage.backupLibraryRecords();
+        } catch (IOException e) {
+            logger.warning("Failed to back up unreadable library records, so sample data is not saved over them "
+                + StringUtil.getDetails(e));
+            return createSampleModelManager(userPrefs, message);
+        }
+        return getSampleModelManager(storage, userPrefs, message);
+    }
+
+    private Model createSampleModelManager(ReadOnlyUserPrefs userPrefs, String message) {
         ReadOnlyLoanRecords initialLoanRecords = SampleDataUtil.getSampleLoanRecords();
         return new ModelManager(
             SampleDataUtil.getSampleCatalog(initialLoanRecords), initialLoanRecords,
             SampleDataUtil.getSampleBorrowerRecords(initialLoanRecords), userPrefs, message);
     }
 
+    /**
+     * Converts the library records into the storage format selected in {@code userPrefs},
+     * if they have so far been saved in another format.
+     */
+    private void initStorageFormat(ReadOnlyUserPrefs userPrefs) {
+        try {
+            StorageFormatConverter.convertToSelectedFormat(userPrefs);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert library records to " + userPrefs.getStorageFormat() + " "
+                + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -221,5 +281,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save library records " + StringUtil.getDetails(e));
+        }
     }
 }
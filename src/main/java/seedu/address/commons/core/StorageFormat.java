@@ -0,0 +1,44 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * Represents the format in which the library records are saved on the hard disk.
+ * The data file paths in the user prefs are those of the json files; other formats keep their data files
+ * beside them.
+ */
+public enum StorageFormat {
+    /** Human-readable json files. */
+    JSON(".json"),
+    /** Compact, versioned binary snapshots. */
+    BINARY(".bin"),
+    /** Loan records in a memory-mapped file of fixed-width slots, and the other records as binary snapshots. */
+    MAPPED(".map");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the path of the data file of this format for the data file at {@code jsonFilePath},
+     * which is where the json file is, with the file extension of this format.
+     */
+    public Path getDataFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        if (this == JSON) {
+            return jsonFilePath;
+        }
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + fileExtension);
+    }
+}
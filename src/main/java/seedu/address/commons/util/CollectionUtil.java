@@ -2,9 +2,12 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -48,4 +51,48 @@ public class CollectionUtil {
 
         return true;
     }
+
+    /**
+     * Returns the results of applying {@code mapper} to each of {@code items}, in the order of {@code items}.
+     * The items are mapped in parallel on the common fork-join pool, so {@code mapper} must be safe to call
+     * from several threads at once.
+     *
+     * @throws X the exception thrown by {@code mapper} for the earliest item that it failed on.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R, X extends Exception> List<R> mapInParallel(List<T> items,
+            CheckedFunction<? super T, ? extends R, X> mapper) throws X {
+        requireAllNonNull(items, mapper);
+
+        Object[] results = new Object[items.size()];
+        Exception[] exceptions = new Exception[items.size()];
+        IntStream.range(0, items.size()).parallel().forEach(i -> {
+            try {
+                results[i] = mapper.apply(items.get(i));
+            } catch (Exception e) {
+                exceptions[i] = e;
+            }
+        });
+
+        for (Exception e : exceptions) {
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if (e != null) {
+                throw (X) e;
+            }
+        }
+        List<R> mappedItems = new ArrayList<>(results.length);
+        for (Object result : results) {
+            mappedItems.add((R) result);
+        }
+        return mappedItems;
+    }
+
+    /**
+     * Represents a function that may throw a checked exception of type {@code X}.
+     */
+    @FunctionalInterface
+    public interface CheckedFunction<T, R, X extends Exception> {
+        R apply(T t) throws X;
+    }
 }
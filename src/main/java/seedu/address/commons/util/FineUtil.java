@@ -11,7 +11,7 @@ public class FineUtil {
      * @param cents Fine amount in cents.
      * @return A string representing the fine amount in dollars.
      */
-    public static String centsToDollarString(int cents) {
+    public static String centsToDollarString(long cents) {
         double dollarAmt = cents / 100.0;
         return "$" + String.format("%.2f", dollarAmt);
     }
@@ -2,19 +2,30 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +33,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -90,6 +102,91 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the elements of the array named {@code arrayFieldName} in the Json object stored in {@code filePath},
+     * passing them to {@code elementConsumer} one at a time as they are parsed.
+     * Unlike {@link #readJsonFile(Path, Class)}, neither the file contents nor the whole array are held in memory.
+     * Other fields of the Json object are skipped.
+     * @return false if the file is not found.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws X if {@code elementConsumer} rejects an element.
+     */
+    public static <E, X extends Exception> boolean readJsonArrayFile(Path filePath, String arrayFieldName,
+            Class<E> elementClass, JsonElementConsumer<E, X> elementConsumer) throws DataConversionException, X {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementClass);
+        requireNonNull(elementConsumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object at the start of the file");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    E element = objectMapper.readValue(parser, elementClass);
+                    if (element != null) {
+                        elementConsumer.accept(element);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Saves a Json object with a single array named {@code arrayFieldName} to the specified file.
+     * Each of {@code elements} is converted by {@code adapter} and written out before the next is converted,
+     * so only one adapted element is held in memory at a time.
+     * The elements are written through the generator's own buffer without a flush after each of them.
+     * The file is written to a temporary file first, forced to disk and then moved over {@code filePath},
+     * so an interrupted save or a crash leaves the previous contents intact.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, ?> adapter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(adapter);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (FileOutputStream out = new FileOutputStream(tempFile.toFile());
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayFieldName);
+            Iterator<T> iterator = elements.iterator();
+            while (iterator.hasNext()) {
+                elementWriter.writeValue(generator, adapter.apply(iterator.next()));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            out.getFD().sync();
+        }
+
+        FileUtil.replaceFile(tempFile, filePath);
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +207,26 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation.
+     * Used where one JSON object is stored per line, such as in an append-only journal.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArrayFile(Path, String, Class, JsonElementConsumer)}.
+     * It may reject an element by throwing an exception of type {@code X}, such as an {@link IllegalValueException}.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<E, X extends Exception> {
+        void accept(E element) throws X;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
 
@@ -74,6 +75,38 @@ public class LoanSlipUtil {
         isGenerated = false;
     }
 
+    /**
+     * Mounts several Loans made in one go in a single pass, in preparation for creating a pdf version of the loan slip.
+     * No Loan is mounted if any of them does not match its Book or the Borrower.
+     *
+     * @param loans Loans to be represented in the loan slip.
+     * @param books Books associated to the loans, in the same order.
+     * @param borrower Borrower associated to the loans.
+     */
+    public static void mountLoans(List<Loan> loans, List<Book> books, Borrower borrower) throws LoanSlipException {
+        if (loans.size() != books.size()) {
+            throw new LoanSlipException("Books and Loans do not match!");
+        }
+        for (int i = 0; i < loans.size(); i++) {
+            if (!loans.get(i).getBorrowerId().equals(borrower.getBorrowerId())) {
+                throw new LoanSlipException("Borrower and Loan do not match!");
+            }
+            if (!loans.get(i).getBookSerialNumber().equals(books.get(i).getSerialNumber())) {
+                throw new LoanSlipException("Book and Loan do not match!");
+            }
+        }
+        currentLoans.addAll(loans);
+        currentBooks.addAll(books);
+        loansInCurrentSession.addAll(loans);
+        if (currentBorrower != null) {
+            assert currentBorrower.equals(borrower) : "Wrong borrower";
+        } else {
+            currentBorrower = borrower;
+        }
+        isMounted = true;
+        isGenerated = false;
+    }
+
     /**
      * Unmounts a Loan slip after creating a pdf of it.
      */
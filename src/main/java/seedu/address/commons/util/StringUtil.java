@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -64,6 +66,33 @@ public class StringUtil {
                 .anyMatch(wordInPreppedSentence -> wordInPreppedSentence.contains(preppedWord));
     }
 
+    /**
+     * Returns true if any of {@code lowerCaseWords} contains {@code lowerCaseWord}.
+     * Works like {@link #containsPartialWordIgnoreCase(String, String)} on a sentence already split by
+     * {@link #toLowerCaseWords(String)} and a word already trimmed and in lower case, so that neither has to be
+     * prepared again for every check.
+     */
+    public static boolean containsPartialWord(List<String> lowerCaseWords, String lowerCaseWord) {
+        requireNonNull(lowerCaseWords);
+        requireNonNull(lowerCaseWord);
+
+        for (String wordInSentence : lowerCaseWords) {
+            if (wordInSentence.contains(lowerCaseWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words in {@code sentence} in lower case, split on whitespace in the same way as
+     * {@link #containsPartialWordIgnoreCase(String, String)}.
+     */
+    public static List<String> toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+        return Collections.unmodifiableList(Arrays.asList(sentence.toLowerCase().split("\\s+")));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
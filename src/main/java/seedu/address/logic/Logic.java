@@ -10,6 +10,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.book.Book;
 import seedu.address.model.borrower.Borrower;
+import seedu.address.model.loan.LoanTotals;
 
 /**
  * API of the Logic component
@@ -40,9 +41,15 @@ public interface Logic {
     /** Returns the borrower being served in Serve Mode, or null if in Normal Mode */
     Borrower getServingBorrower();
 
+    /** Returns the fine in cents accrued up to today by the unreturned books of the borrower being served */
+    long getServingBorrowerAccruedFineAmount();
+
     /** Returns the list of books borrowed by the borrower being served */
     ObservableList<Book> getServingBorrowerBookList();
 
+    /** Returns the fine totals and loan counts over all the loans in the library */
+    LoanTotals getLoanTotals();
+
     String getLoanHistoryOfBookAsString(Book target);
 
     /**
@@ -20,6 +20,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.book.Book;
 import seedu.address.model.borrower.Borrower;
+import seedu.address.model.loan.LoanTotals;
 import seedu.address.storage.Storage;
 
 /**
@@ -52,9 +53,11 @@ public class LogicManager implements Logic {
         }
 
         try {
-            storage.saveLoanRecords(model.getLoanRecords());
-            storage.saveCatalog(model.getCatalog());
-            storage.saveBorrowerRecords(model.getBorrowerRecords());
+            storage.saveChanges(model.getLoanRecords(), model.getCatalog(), model.getBorrowerRecords());
+            model.clearPendingChanges();
+            if (command.isDurabilityRequired()) {
+                storage.flush();
+            }
             if (commandResult.isDone()) {
                 if (LoanSlipUtil.isMounted()) {
                     logger.info("making new loan slip");
@@ -80,11 +83,22 @@ public class LogicManager implements Logic {
         return model.getServingBorrower();
     }
 
+    @Override
+    public long getServingBorrowerAccruedFineAmount() {
+        assert (isServeMode()) : "Not in serve mode";
+        return model.getAccruedFineAmount(model.getServingBorrower().getBorrowerId());
+    }
+
     @Override
     public ObservableList<Book> getServingBorrowerBookList() {
         return FXCollections.observableList(model.getBorrowerBooks());
     }
 
+    @Override
+    public LoanTotals getLoanTotals() {
+        return model.getLoanTotals();
+    }
+
     @Override
     public String getLoanHistoryOfBookAsString(Book target) {
         return model.getLoanHistoryOfBookAsString(target);
@@ -0,0 +1,170 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_SUCH_BORROWER_ID;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FineUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.borrower.BorrowerId;
+
+/**
+ * Pays fines incurred by many Borrowers with the payments listed in a CSV file.
+ * Each line of the file is a borrower ID and a dollar amount separated by a comma, and the file may start with a
+ * header line. Every line is checked before any fine is paid.
+ */
+public class BatchPayCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Fines of %1$s paid by %2$d borrowers from %3$s\n"
+            + "Change to be given: %4$s";
+    public static final String MESSAGE_CHANGE_GIVEN = "\n%1$s: %2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read payments file %1$s";
+    public static final String MESSAGE_INVALID_PAYMENT = "Invalid payment on line %1$d of %2$s: %3$s";
+    public static final String MESSAGE_NO_PAYMENTS = "No payments in %1$s";
+    public static final String MESSAGE_PAYMENTS_TOO_LARGE =
+            "Payments by %1$s add up to more than the maximum dollar amount payable of %2$s";
+
+    private static final String SEPARATOR = ",";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Path filePath;
+
+    /**
+     * Creates a BatchPayCommand to pay the fines with the payments in the CSV file at {@code filePath}.
+     */
+    public BatchPayCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Executes the BatchPayCommand and returns the result message.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return Feedback message of the operation result for display.
+     * @throws CommandException If the file cannot be read or any payment in it is invalid.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Map<BorrowerId, Integer> payments = readPayments(model);
+        if (payments.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_PAYMENTS, filePath));
+        }
+
+        model.resetCommandHistory();
+
+        // the payments of all the borrowers together can exceed the amount any one of them can pay
+        long totalPaid = 0;
+        long totalChange = 0;
+        StringBuilder changes = new StringBuilder();
+        for (Map.Entry<BorrowerId, Integer> payment : payments.entrySet()) {
+            int change = model.payFines(payment.getKey(), payment.getValue());
+            totalPaid += payment.getValue() - change;
+            totalChange += change;
+            if (change > 0) {
+                changes.append(String.format(MESSAGE_CHANGE_GIVEN, model.getBorrowerFromId(payment.getKey()),
+                        FineUtil.centsToDollarString(change)));
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, FineUtil.centsToDollarString(totalPaid),
+                payments.size(), filePath, FineUtil.centsToDollarString(totalChange)) + changes);
+    }
+
+    /**
+     * Reads the payments in the file, adding up the amounts paid by the same borrower.
+     * Blank lines are skipped, and so is the first non-blank line if it does not start with a borrower ID.
+     * A byte order mark at the start of the file, as spreadsheet programs often write, is ignored.
+     * The amounts paid by a borrower must add up to at most the maximum dollar amount payable.
+     */
+    private Map<BorrowerId, Integer> readPayments(Model model) throws CommandException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath), e);
+        }
+
+        Map<BorrowerId, Integer> payments = new LinkedHashMap<>();
+        boolean isFirstLine = true;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (i == 0 && line.startsWith(BYTE_ORDER_MARK)) {
+                line = line.substring(BYTE_ORDER_MARK.length());
+            }
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(SEPARATOR, -1);
+            boolean isHeader = isFirstLine && !BorrowerId.isValidBorrowerId(fields[0].trim());
+            isFirstLine = false;
+            if (isHeader) {
+                continue;
+            }
+            if (fields.length != 2) {
+                throw invalidPayment(i, PayCommand.MESSAGE_USAGE);
+            }
+
+            String borrowerId = fields[0].trim();
+            if (!BorrowerId.isValidBorrowerId(borrowerId)) {
+                throw invalidPayment(i, BorrowerId.MESSAGE_CONSTRAINTS);
+            }
+            BorrowerId modelBorrowerId = new BorrowerId(borrowerId);
+            if (!model.hasBorrowerId(modelBorrowerId)) {
+                throw invalidPayment(i, MESSAGE_NO_SUCH_BORROWER_ID);
+            }
+
+            int amountInCents;
+            try {
+                amountInCents = FineUtil.dollarsToCents(ParserUtil.parseDollar(fields[1]));
+            } catch (ParseException e) {
+                throw invalidPayment(i, e.getMessage());
+            }
+            try {
+                payments.merge(modelBorrowerId, amountInCents, Math::addExact);
+            } catch (ArithmeticException e) {
+                throw invalidPayment(i, String.format(MESSAGE_PAYMENTS_TOO_LARGE, modelBorrowerId,
+                        FineUtil.centsToDollarString(Integer.MAX_VALUE)));
+            }
+        }
+        return payments;
+    }
+
+    private CommandException invalidPayment(int lineIndex, String reason) {
+        return new CommandException(String.format(MESSAGE_INVALID_PAYMENT, lineIndex + 1, filePath, reason));
+    }
+
+    /**
+     * Payments are handled as money, so they are always written to storage before the result is shown.
+     */
+    @Override
+    public boolean isDurabilityRequired() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof BatchPayCommand)) {
+            return false;
+        }
+
+        BatchPayCommand otherBatchPayCommand = (BatchPayCommand) o;
+        return this.filePath.equals(otherBatchPayCommand.filePath);
+    }
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the changes made by this command must be written to storage before its result is shown.
+     * By default, changes may still be saving in the background when the next command is entered.
+     */
+    public boolean isDurabilityRequired() {
+        return false;
+    }
+
 }
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.borrower.Borrower;
+
+/**
+ * Finds and lists the borrowers whose name words, phone, email or id start with all of the argument keywords.
+ * Keyword matching is case insensitive.
+ */
+public class FindBorrowerCommand extends Command {
+
+    public static final String COMMAND_WORD = "findborrower";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the borrowers whose name, phone, email "
+            + "or ID start with all of the specified keywords (case-insensitive), closest matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alex 9123";
+
+    public static final String MESSAGE_BORROWERS_LISTED_OVERVIEW = "%1$d borrowers listed!";
+    public static final String MESSAGE_MORE_BORROWERS = "\n...and %1$d more";
+
+    static final int MAX_BORROWERS_SHOWN = 10;
+
+    private final List<String> keywords;
+
+    public FindBorrowerCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Borrower> matches = model.findBorrowers(keywords);
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_BORROWERS_LISTED_OVERVIEW, matches.size()));
+        matches.stream().limit(MAX_BORROWERS_SHOWN).forEach(borrower -> builder.append("\n").append(borrower)
+                .append(" Phone: ").append(borrower.getPhone())
+                .append(" Email: ").append(borrower.getEmail()));
+        if (matches.size() > MAX_BORROWERS_SHOWN) {
+            builder.append(String.format(MESSAGE_MORE_BORROWERS, matches.size() - MAX_BORROWERS_SHOWN));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindBorrowerCommand // instanceof handles nulls
+                && keywords.equals(((FindBorrowerCommand) other).keywords)); // state check
+    }
+}
@@ -7,6 +7,12 @@ import static seedu.address.commons.core.Messages.MESSAGE_NO_SUCH_BOOK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.exceptions.LoanSlipException;
 import seedu.address.commons.util.DateUtil;
@@ -17,22 +23,26 @@ import seedu.address.model.book.Book;
 import seedu.address.model.book.SerialNumber;
 import seedu.address.model.borrower.Borrower;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanId;
 import seedu.address.model.loan.LoanIdGenerator;
 
 /**
- * Loans a Book with the given Serial Number to a Borrower.
+ * Loans the Books with the given Serial Numbers to a Borrower.
+ * All the Books are loaned out together, so a single undo gives them all back.
  */
 public class LoanCommand extends ReversibleCommand {
     public static final String COMMAND_WORD = "loan";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Loans a book to a borrower.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Loans book(s) to a borrower.\n"
             + "Command can only be used in Serve mode.\n"
-            + "Parameters: " + PREFIX_SERIAL_NUMBER + "SERIAL_NUMBER\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_SERIAL_NUMBER + "B00001";
+            + "Parameters: " + PREFIX_SERIAL_NUMBER + "SERIAL_NUMBER [" + PREFIX_SERIAL_NUMBER + "SERIAL_NUMBER]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SERIAL_NUMBER + "B00001 " + PREFIX_SERIAL_NUMBER + "B00002";
 
     public static final String MESSAGE_SUCCESS = "Book: %1$s\nloaned to\nBorrower: %2$s";
+    public static final String MESSAGE_SUCCESS_MULTIPLE_BOOKS = "Books: %1$s\nloaned to\nBorrower: %2$s";
+    public static final String MESSAGE_DUPLICATE_SERIAL_NUMBER = "Serial number %1$s is given more than once";
 
-    private final SerialNumber toLoan;
+    private final List<SerialNumber> toLoan;
 
     /**
      * Creates an LoanCommand to loan the specified {@code Book} to the Borrower currently served.
@@ -40,12 +50,23 @@ public class LoanCommand extends ReversibleCommand {
      * @param bookSn Serial number of Book to be loaned.
      */
     public LoanCommand(SerialNumber bookSn) {
-        requireNonNull(bookSn);
-        this.toLoan = bookSn;
+        this(List.of(bookSn));
+    }
+
+    /**
+     * Creates an LoanCommand to loan the specified {@code Book}s to the Borrower currently served.
+     *
+     * @param bookSns Serial numbers of Books to be loaned.
+     */
+    public LoanCommand(List<SerialNumber> bookSns) {
+        requireNonNull(bookSns);
+        bookSns.forEach(Objects::requireNonNull);
+        this.toLoan = List.copyOf(bookSns);
     }
 
     /**
      * Executes the LoanCommand and returns the result message.
+     * Every Book is checked before any is loaned out, and the Books are then loaned out together.
      *
      * @param model {@code Model} which the command should operate on.
      * @return Feedback message of the operation result for display.
@@ -59,33 +80,36 @@ public class LoanCommand extends ReversibleCommand {
             throw new CommandException(MESSAGE_NOT_IN_SERVE_MODE);
         }
 
-        if (!model.hasBook(this.toLoan)) {
-            throw new CommandException(MESSAGE_NO_SUCH_BOOK);
-        }
-
-        Book bookToBeLoaned = model.getBook(toLoan);
-        if (bookToBeLoaned.isCurrentlyLoanedOut()) {
-            throw new CommandException(String.format(MESSAGE_BOOK_ON_LOAN, bookToBeLoaned));
-        }
+        ArrayList<Book> booksToBeLoaned = getBooksToBeLoaned(model);
 
         Borrower servingBorrower = model.getServingBorrower();
+        LocalDate startDate = DateUtil.getTodayDate();
         LocalDate dueDate = DateUtil.getTodayPlusDays(model.getUserSettings().getLoanPeriod());
-        Loan loan = new Loan(LoanIdGenerator.generateLoanId(), toLoan, servingBorrower.getBorrowerId(),
-                DateUtil.getTodayDate(), dueDate);
-        Book loanedOutBook = bookToBeLoaned.loanOut(loan);
-        Book updatedLoanedOutBook = loanedOutBook.addToLoanHistory(loan);
+        ArrayList<Book> loanedOutBooks = new ArrayList<>();
+        ArrayList<Loan> loans = new ArrayList<>();
+        List<LoanId> loanIds = LoanIdGenerator.generateLoanIds(booksToBeLoaned.size());
+
+        for (int i = 0; i < booksToBeLoaned.size(); i++) {
+            Book bookToBeLoaned = booksToBeLoaned.get(i);
+            Loan loan = new Loan(loanIds.get(i), bookToBeLoaned.getSerialNumber(),
+                    servingBorrower.getBorrowerId(), startDate, dueDate);
+            Book updatedLoanedOutBook = bookToBeLoaned.loanOut(loan);
+
+            loans.add(loan);
+            loanedOutBooks.add(updatedLoanedOutBook);
+        }
 
-        // replace the previous Book object with a new Book object that has a Loan
-        model.setBook(bookToBeLoaned, updatedLoanedOutBook);
-        model.addLoan(loan); // add Loan object to LoanRecords in model
-        model.servingBorrowerNewLoan(loan); // add Loan object to Borrower's currentLoanList
+        // replace the previous Book objects with new Book objects that have a Loan
+        model.replaceBooks(booksToBeLoaned, loanedOutBooks);
+        loans.forEach(model::addLoan); // add Loan objects to LoanRecords in model
+        model.servingBorrowerNewLoans(loans); // add Loan objects to Borrower's currentLoanList
 
-        undoCommand = new UnloanCommand(updatedLoanedOutBook, bookToBeLoaned, loan);
+        undoCommand = new UnloanCommand(loanedOutBooks, booksToBeLoaned, loans);
         redoCommand = this;
-        commandResult = new CommandResult(String.format(MESSAGE_SUCCESS, updatedLoanedOutBook, servingBorrower));
+        commandResult = new CommandResult(getSuccessMessage(loanedOutBooks, servingBorrower));
 
         try {
-            LoanSlipUtil.mountLoan(loan, updatedLoanedOutBook, servingBorrower);
+            LoanSlipUtil.mountLoans(loans, loanedOutBooks, servingBorrower);
         } catch (LoanSlipException e) {
             e.printStackTrace(); // Unable to generate loan slip, does not affect loan functionality
         }
@@ -93,6 +117,50 @@ public class LoanCommand extends ReversibleCommand {
         return commandResult;
     }
 
+    /**
+     * Returns the feedback message for loaning out {@code loanedOutBooks} to {@code borrower}.
+     * A single Book is shown in full, while several Books are listed by their serial numbers.
+     */
+    private static String getSuccessMessage(List<Book> loanedOutBooks, Borrower borrower) {
+        if (loanedOutBooks.size() == 1) {
+            return String.format(MESSAGE_SUCCESS, loanedOutBooks.get(0), borrower);
+        }
+        String serialNumbers = loanedOutBooks.stream()
+                .map(book -> book.getSerialNumber().toString())
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_SUCCESS_MULTIPLE_BOOKS, serialNumbers, borrower);
+    }
+
+    /**
+     * Retrieves the books to be loaned out, checking that each of them exists, is not on loan and is given once.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return ArrayList of books to be loaned out, in the order their serial numbers were given.
+     * @throws CommandException If any of the books cannot be loaned out.
+     */
+    private ArrayList<Book> getBooksToBeLoaned(Model model) throws CommandException {
+        ArrayList<Book> booksToBeLoaned = new ArrayList<>();
+        Set<SerialNumber> seenSerialNumbers = new HashSet<>();
+
+        for (SerialNumber bookSn : toLoan) {
+            if (!seenSerialNumbers.add(bookSn)) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_SERIAL_NUMBER, bookSn));
+            }
+
+            if (!model.hasBook(bookSn)) {
+                throw new CommandException(MESSAGE_NO_SUCH_BOOK);
+            }
+
+            Book bookToBeLoaned = model.getBook(bookSn);
+            if (bookToBeLoaned.isCurrentlyLoanedOut()) {
+                throw new CommandException(String.format(MESSAGE_BOOK_ON_LOAN, bookToBeLoaned));
+            }
+            booksToBeLoaned.add(bookToBeLoaned);
+        }
+
+        return booksToBeLoaned;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) {
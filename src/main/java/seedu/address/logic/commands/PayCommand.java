@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_NOT_IN_SERVE_MODE;
 import static seedu.address.commons.core.Messages.MESSAGE_NO_OUTSTANDING_FINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOLLAR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
 
 import seedu.address.commons.util.FineUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -21,7 +22,10 @@ public class PayCommand extends Command {
             + "Command can only be used in Serve mode.\n"
             + "Parameters: " + PREFIX_DOLLAR
             + "AMOUNT (must be a positive number with at most 2 decimal places)\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_DOLLAR + "1.20";
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DOLLAR + "1.20\n"
+            + "To pay the fines of many borrowers from a CSV file of BORROWER_ID,AMOUNT lines: "
+            + COMMAND_WORD + " " + PREFIX_FILE + "FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "payments.csv";
 
     public static final String MESSAGE_SUCCESS =
             "Fine of %1$s\npaid by\nBorrower: %2$s\nOutstanding fine: %3$s\nChange given: %4$s";
@@ -71,6 +75,14 @@ public class PayCommand extends Command {
                 model.getServingBorrower(), outstandingFineInDollars, changeInDollars));
     }
 
+    /**
+     * Payments are handled as money, so they are always written to storage before the result is shown.
+     */
+    @Override
+    public boolean isDurabilityRequired() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) {
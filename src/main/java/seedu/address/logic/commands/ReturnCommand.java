@@ -89,10 +89,7 @@ public class ReturnCommand extends ReversibleCommand {
             int fineAmount = DateUtil.getNumOfDaysOverdue(loanToBeReturned.getDueDate(), returnDate)
                     * dailyFineIncrement;
             Loan returnedLoan = loanToBeReturned.returnLoan(returnDate, fineAmount);
-            Book returnedBook = bookToBeReturned
-                    .deleteFromLoanHistory(loanToBeReturned)
-                    .addToLoanHistory(returnedLoan)
-                    .returnBook();
+            Book returnedBook = bookToBeReturned.returnBook();
 
             // update Book in model to have Loan removed
             model.setBook(bookToBeReturned, returnedBook);
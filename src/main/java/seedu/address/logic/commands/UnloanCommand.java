@@ -2,25 +2,31 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import static seedu.address.commons.util.CollectionUtil.areAllSameSize;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.util.LoanSlipUtil;
 import seedu.address.model.Model;
 import seedu.address.model.book.Book;
+import seedu.address.model.borrower.Borrower;
 import seedu.address.model.loan.Loan;
 
 /**
- * Unloans a {@code Book}.
+ * Unloans {@code Book}(s).
  * This class is meant to be the reverse of {@code LoanCommand} and is used only for the purpose of
  * a undo/redo Command.
  */
 public class UnloanCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Book: %1$s\nunloaned from\nBorrower: %2$s";
+    public static final String MESSAGE_SUCCESS_MULTIPLE_BOOKS = "Books: %1$s\nunloaned from\nBorrower: %2$s";
 
-    private final Book bookToBeUnloaned;
-    private final Book unloanedBook;
-    private final Loan loanToBeRemoved;
+    private final List<Book> bookToBeUnloanedList;
+    private final List<Book> unloanedBookList;
+    private final List<Loan> loanToBeRemovedList;
 
     /**
      * Creates an UnloanCommand to unloan the specified {@code Book} to the Borrower currently served.
@@ -31,11 +37,25 @@ public class UnloanCommand extends Command {
      * @param loanToBeRemoved loan to be removed from {@code LoanRecords} and borrower's loans.
      */
     public UnloanCommand(Book bookToBeUnloaned, Book unloanedBook, Loan loanToBeRemoved) {
-        requireAllNonNull(bookToBeUnloaned, unloanedBook, loanToBeRemoved);
+        this(List.of(bookToBeUnloaned), List.of(unloanedBook), List.of(loanToBeRemoved));
+    }
 
-        this.bookToBeUnloaned = bookToBeUnloaned;
-        this.unloanedBook = unloanedBook;
-        this.loanToBeRemoved = loanToBeRemoved;
+    /**
+     * Creates an UnloanCommand to unloan the specified {@code Book}s to the Borrower currently served.
+     * This is only used as an undo command for {@code LoanCommand}.
+     *
+     * @param bookToBeUnloanedList {@code Book}s to be unloaned.
+     * @param unloanedBookList resultant {@code Book}s when unloaned.
+     * @param loanToBeRemovedList loans to be removed from {@code LoanRecords} and borrower's loans.
+     */
+    public UnloanCommand(List<Book> bookToBeUnloanedList, List<Book> unloanedBookList,
+                         List<Loan> loanToBeRemovedList) {
+        requireAllNonNull(bookToBeUnloanedList, unloanedBookList, loanToBeRemovedList);
+        assert areAllSameSize(bookToBeUnloanedList, unloanedBookList, loanToBeRemovedList);
+
+        this.bookToBeUnloanedList = bookToBeUnloanedList;
+        this.unloanedBookList = unloanedBookList;
+        this.loanToBeRemovedList = loanToBeRemovedList;
     }
 
     /**
@@ -48,20 +68,34 @@ public class UnloanCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         assert(model.isServeMode());
-        assert(model.hasBook(bookToBeUnloaned));
-        assert(bookToBeUnloaned.isCurrentlyLoanedOut());
+        assert(bookToBeUnloanedList.stream().allMatch(model::hasBook));
+        assert(bookToBeUnloanedList.stream().allMatch(Book::isCurrentlyLoanedOut));
 
-        Book updatedBookToBeUnloaned = bookToBeUnloaned.deleteFromLoanHistory(loanToBeRemoved);
-        // replace the previous Book object with a new Book object that does not have the loan
-        model.setBook(updatedBookToBeUnloaned, unloanedBook);
-        model.removeLoan(loanToBeRemoved); // remove Loan object from LoanRecords in model
-        model.servingBorrowerRemoveLoan(loanToBeRemoved); // remove Loan object from Borrower's currentLoanList
+        // replace the previous Book objects with new Book objects that do not have the loans
+        model.replaceBooks(bookToBeUnloanedList, unloanedBookList);
+        loanToBeRemovedList.forEach(model::removeLoan); // remove Loan objects from LoanRecords in model
+        model.servingBorrowerRemoveLoans(loanToBeRemovedList); // remove Loan objects from Borrower's currentLoanList
 
-        LoanSlipUtil.unmountSpecificLoan(loanToBeRemoved, updatedBookToBeUnloaned);
-        LoanSlipUtil.removeLoanFromSession(loanToBeRemoved);
+        for (int i = 0; i < loanToBeRemovedList.size(); i++) {
+            LoanSlipUtil.unmountSpecificLoan(loanToBeRemovedList.get(i), bookToBeUnloanedList.get(i));
+            LoanSlipUtil.removeLoanFromSession(loanToBeRemovedList.get(i));
+        }
 
+        return new CommandResult(getSuccessMessage(unloanedBookList, model.getServingBorrower()));
+    }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, unloanedBook, model.getServingBorrower()));
+    /**
+     * Returns the feedback message for unloaning {@code unloanedBooks} from {@code borrower}.
+     * A single Book is shown in full, while several Books are listed by their serial numbers.
+     */
+    private static String getSuccessMessage(List<Book> unloanedBooks, Borrower borrower) {
+        if (unloanedBooks.size() == 1) {
+            return String.format(MESSAGE_SUCCESS, unloanedBooks.get(0), borrower);
+        }
+        String serialNumbers = unloanedBooks.stream()
+                .map(book -> book.getSerialNumber().toString())
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_SUCCESS_MULTIPLE_BOOKS, serialNumbers, borrower);
     }
 
     @Override
@@ -75,8 +109,8 @@ public class UnloanCommand extends Command {
         }
 
         UnloanCommand otherUnloanCommand = (UnloanCommand) o;
-        return this.bookToBeUnloaned.equals(otherUnloanCommand.bookToBeUnloaned)
-                && this.unloanedBook.equals(otherUnloanCommand.unloanedBook)
-                && this.loanToBeRemoved.equals(otherUnloanCommand.loanToBeRemoved);
+        return this.bookToBeUnloanedList.equals(otherUnloanCommand.bookToBeUnloanedList)
+                && this.unloanedBookList.equals(otherUnloanCommand.unloanedBookList)
+                && this.loanToBeRemovedList.equals(otherUnloanCommand.loanToBeRemovedList);
     }
 }
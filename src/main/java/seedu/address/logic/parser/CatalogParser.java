@@ -13,6 +13,7 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DoneCommand;
 import seedu.address.logic.commands.EditBorrowerCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindBorrowerCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.InfoCommand;
@@ -73,6 +74,9 @@ public class CatalogParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FindBorrowerCommand.COMMAND_WORD:
+            return new FindBorrowerCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -20,4 +20,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_MAX_RENEWS = new Prefix("mr/");
     public static final Prefix PREFIX_FLAG = new Prefix("-");
     public static final Prefix PREFIX_DOLLAR = new Prefix("$");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
 }
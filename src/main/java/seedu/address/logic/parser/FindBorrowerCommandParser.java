@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.FindBorrowerCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindBorrowerCommand object
+ */
+public class FindBorrowerCommandParser implements Parser<FindBorrowerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindBorrowerCommand
+     * and returns a FindBorrowerCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindBorrowerCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBorrowerCommand.MESSAGE_USAGE));
+        }
+
+        return new FindBorrowerCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+}
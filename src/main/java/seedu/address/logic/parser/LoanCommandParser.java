@@ -3,7 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.LoanCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -26,14 +27,17 @@ public class LoanCommandParser implements Parser<LoanCommand> {
     public LoanCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SERIAL_NUMBER);
 
-        Optional<String> optionalSnString = argMultimap.getValue(PREFIX_SERIAL_NUMBER);
-        if (optionalSnString.isEmpty()) {
+        List<String> snStrings = argMultimap.getAllValues(PREFIX_SERIAL_NUMBER);
+        if (snStrings.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     LoanCommand.MESSAGE_USAGE));
         }
 
-        SerialNumber bookSn = ParserUtil.parseSerialNumber(optionalSnString.get());
+        List<SerialNumber> bookSns = new ArrayList<>();
+        for (String snString : snStrings) {
+            bookSns.add(ParserUtil.parseSerialNumber(snString));
+        }
 
-        return new LoanCommand(bookSn);
+        return new LoanCommand(bookSns);
     }
 }
@@ -2,29 +2,45 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOLLAR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
 
+import java.nio.file.Paths;
 import java.util.Optional;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.FineUtil;
+import seedu.address.logic.commands.BatchPayCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.PayCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new PayCommand object.
+ * Parses input arguments and creates a new PayCommand object, or a BatchPayCommand object if a file is given.
  */
-public class PayCommandParser implements Parser<PayCommand> {
+public class PayCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the PayCommand
-     * and returns a PayCommand object for execution.
+     * and returns a PayCommand or BatchPayCommand object for execution.
      *
      * @param userInput User input.
-     * @return PayCommand object for execution.
+     * @return PayCommand or BatchPayCommand object for execution.
      * @throws ParseException if {@code userInput} does not conform the expected format.
      */
     @Override
-    public PayCommand parse(String userInput) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_DOLLAR);
+    public Command parse(String userInput) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_DOLLAR, PREFIX_FILE);
+
+        Optional<String> optionalFilePath = argMultimap.getValue(PREFIX_FILE);
+        if (optionalFilePath.isPresent()) {
+            String filePath = optionalFilePath.get().trim();
+            if (filePath.isEmpty() || argMultimap.getValue(PREFIX_DOLLAR).isPresent()
+                    || !FileUtil.isValidPath(filePath)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        PayCommand.MESSAGE_USAGE));
+            }
+            return new BatchPayCommand(Paths.get(filePath));
+        }
 
         Optional<String> optionalDollarAmount = argMultimap.getValue(PREFIX_DOLLAR);
         if (optionalDollarAmount.isEmpty()) {
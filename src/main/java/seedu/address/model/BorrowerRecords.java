@@ -3,25 +3,44 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.borrower.Borrower;
 import seedu.address.model.borrower.BorrowerId;
-import seedu.address.model.borrower.BorrowerIdGenerator;
+import seedu.address.model.borrower.BorrowerSearchIndex;
+import seedu.address.model.borrower.Email;
+import seedu.address.model.borrower.Phone;
 import seedu.address.model.borrower.exceptions.BorrowerNotFoundException;
 import seedu.address.model.borrower.exceptions.DuplicateBorrowerException;
+import seedu.address.model.util.IdAllocator;
 
 /**
  * Wraps all data at the catalog level
  * Duplicates are not allowed (by .equals comparison)
+ * Borrowers are indexed by id, phone and email, so that they are found and checked for uniqueness without
+ * going through the whole list.
  */
 public class BorrowerRecords implements ReadOnlyBorrowerRecords {
 
+    private static final int FIRST_BORROWER_ID = 1;
+
     // Placeholder for UniqueBorrowerList
     private ObservableList<Borrower> listOfBorrowers = FXCollections.observableArrayList();
     private HashMap<BorrowerId, Borrower> borrowersMap = new HashMap<>();
+    private final HashMap<BorrowerId, Integer> borrowerPositions = new HashMap<>();
+    private final HashMap<Phone, BorrowerId> phoneIndex = new HashMap<>();
+    private final HashMap<Email, BorrowerId> emailIndex = new HashMap<>();
+    private final BorrowerSearchIndex searchIndex = new BorrowerSearchIndex();
+    private final IdAllocator borrowerIdAllocator = new IdAllocator(FIRST_BORROWER_ID);
+    private final Set<BorrowerId> changedBorrowerIds = new HashSet<>();
+    private long version;
 
     public BorrowerRecords() {
     }
@@ -33,6 +52,7 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
     public BorrowerRecords(ReadOnlyBorrowerRecords toBeCopied) {
         this();
         resetData(toBeCopied);
+        clearChanges();
     }
 
     /**
@@ -41,8 +61,7 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
      * @param borrower Borrower to be checked.
      */
     public boolean hasBorrower(Borrower borrower) {
-        return listOfBorrowers.stream().anyMatch(current -> current.getPhone().equals(borrower.getPhone())
-                || current.getEmail().equals(borrower.getEmail()));
+        return phoneIndex.containsKey(borrower.getPhone()) || emailIndex.containsKey(borrower.getEmail());
     }
 
     /**
@@ -51,8 +70,12 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
      * @param borrower Borrower to be added.
      */
     public void addBorrower(Borrower borrower) {
+        borrowerPositions.put(borrower.getBorrowerId(), listOfBorrowers.size());
         listOfBorrowers.add(borrower);
-        borrowersMap.put(borrower.getBorrowerId(), borrower);
+        index(borrower);
+        borrowerIdAllocator.markUsed(borrower.getBorrowerId().borrowerIdToInt());
+        changedBorrowerIds.add(borrower.getBorrowerId());
+        version++;
     }
 
     private void resetData(ReadOnlyBorrowerRecords newData) {
@@ -61,10 +84,52 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
     }
 
     private void setBorrowers(ObservableList<Borrower> borrowerList) {
+        changedBorrowerIds.addAll(borrowersMap.keySet());
         this.listOfBorrowers = borrowerList;
         this.borrowersMap = new HashMap<>();
-        borrowerList.stream().forEach(borrower -> borrowersMap.put(borrower.getBorrowerId(), borrower));
-        BorrowerIdGenerator.setBorrowers(this);
+        borrowerPositions.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        searchIndex.clear();
+        borrowerIdAllocator.clear();
+        for (int i = 0; i < borrowerList.size(); i++) {
+            borrowerPositions.put(borrowerList.get(i).getBorrowerId(), i);
+            index(borrowerList.get(i));
+            borrowerIdAllocator.markUsed(borrowerList.get(i).getBorrowerId().borrowerIdToInt());
+        }
+        changedBorrowerIds.addAll(borrowersMap.keySet());
+        version++;
+    }
+
+    /**
+     * Adds {@code borrower} to the indexes by id, phone and email.
+     */
+    private void index(Borrower borrower) {
+        borrowersMap.put(borrower.getBorrowerId(), borrower);
+        phoneIndex.put(borrower.getPhone(), borrower.getBorrowerId());
+        emailIndex.put(borrower.getEmail(), borrower.getBorrowerId());
+        searchIndex.add(borrower);
+    }
+
+    /**
+     * Removes {@code borrower} from the indexes by id, phone and email.
+     */
+    private void unindex(Borrower borrower) {
+        borrowersMap.remove(borrower.getBorrowerId());
+        phoneIndex.remove(borrower.getPhone(), borrower.getBorrowerId());
+        emailIndex.remove(borrower.getEmail(), borrower.getBorrowerId());
+        searchIndex.remove(borrower);
+    }
+
+    /**
+     * Returns the position of {@code borrower} in the list, or -1 if the list does not contain it.
+     */
+    private int indexOf(Borrower borrower) {
+        Integer position = borrowerPositions.get(borrower.getBorrowerId());
+        if (position == null || !listOfBorrowers.get(position).equals(borrower)) {
+            return -1;
+        }
+        return position;
     }
 
     /**
@@ -72,11 +137,27 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
      * @param id is the borrower id.
      * @return a boolean true or false of whether the id exists.
      */
+    @Override
     public boolean checkIfBorrowerIdExists(BorrowerId id) {
         requireNonNull(id);
         return borrowersMap.containsKey(id);
     }
 
+    /**
+     * Returns the lowest borrower id that is not in the records and has not been allocated since the last
+     * {@link #resetBorrowerIdAllocation()}.
+     */
+    public BorrowerId allocateBorrowerId() {
+        return BorrowerId.fromInt(borrowerIdAllocator.allocate());
+    }
+
+    /**
+     * Makes {@link #allocateBorrowerId()} start again from the lowest borrower id not in the records.
+     */
+    public void resetBorrowerIdAllocation() {
+        borrowerIdAllocator.reset();
+    }
+
     /**
      * Returns a borrower based on its BorrowerId.
      *
@@ -84,6 +165,7 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
      * @return <code>Borrower</code> which corresponds to the given <code>BorrowerId</code>
      * @throws NullPointerException if borrower is not present in the borrower records.
      */
+    @Override
     public Borrower getBorrowerFromId(BorrowerId id) throws NullPointerException {
         if (!borrowersMap.containsKey(id)) {
             throw new NullPointerException("Borrower " + id.toString() + " does not exists");
@@ -91,12 +173,23 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
         return borrowersMap.get(id);
     }
 
+    /**
+     * Returns the borrowers with a name word, phone, email or id starting with each of {@code keywords},
+     * ignoring case, with the closest matches first.
+     */
+    public List<Borrower> findBorrowers(List<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.find(keywords).stream()
+                .map(borrowersMap::get)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns true if the list contains an equivalent borrower as the given argument.
      */
     public boolean listContains(Borrower toCheck) {
         requireNonNull(toCheck);
-        return listOfBorrowers.stream().anyMatch(toCheck::equals);
+        return toCheck.equals(borrowersMap.get(toCheck.getBorrowerId()));
     }
 
     /**
@@ -106,7 +199,7 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
      */
     public void setBorrower(Borrower target, Borrower editedBorrower) {
         requireAllNonNull(target, editedBorrower);
-        int index = listOfBorrowers.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new BorrowerNotFoundException();
         }
@@ -115,8 +208,17 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
         }
         listOfBorrowers.set(index, editedBorrower);
 
-        borrowersMap.remove(target.getBorrowerId());
-        borrowersMap.put(editedBorrower.getBorrowerId(), editedBorrower);
+        unindex(target);
+        borrowerPositions.remove(target.getBorrowerId());
+        borrowerPositions.put(editedBorrower.getBorrowerId(), index);
+        index(editedBorrower);
+        if (!target.getBorrowerId().equals(editedBorrower.getBorrowerId())) {
+            borrowerIdAllocator.markFree(target.getBorrowerId().borrowerIdToInt());
+            borrowerIdAllocator.markUsed(editedBorrower.getBorrowerId().borrowerIdToInt());
+        }
+        changedBorrowerIds.add(target.getBorrowerId());
+        changedBorrowerIds.add(editedBorrower.getBorrowerId());
+        version++;
     }
 
     @Override
@@ -142,10 +244,13 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
      * @param editedBorrower Borrower to be checked.
      */
     public boolean hasDuplicateBorrower(Borrower editedBorrower) {
-        return listOfBorrowers.stream().anyMatch(current ->
-                current.getBorrowerId() != editedBorrower.getBorrowerId()
-                        && (current.getPhone().equals(editedBorrower.getPhone())
-                        || current.getEmail().equals(editedBorrower.getEmail())));
+        BorrowerId id = editedBorrower.getBorrowerId();
+        return isUsedByOther(phoneIndex.get(editedBorrower.getPhone()), id)
+                || isUsedByOther(emailIndex.get(editedBorrower.getEmail()), id);
+    }
+
+    private static boolean isUsedByOther(BorrowerId userId, BorrowerId id) {
+        return userId != null && !userId.equals(id);
     }
 
     /**
@@ -154,7 +259,40 @@ public class BorrowerRecords implements ReadOnlyBorrowerRecords {
      * @param borrower Borrower to be removed.
      */
     public void removeBorrower(Borrower borrower) {
-        listOfBorrowers.remove(borrower);
-        borrowersMap.remove(borrower.getBorrowerId());
+        int index = indexOf(borrower);
+        if (index != -1) {
+            listOfBorrowers.remove(index);
+            borrowerPositions.remove(borrower.getBorrowerId());
+            for (int i = index; i < listOfBorrowers.size(); i++) {
+                borrowerPositions.put(listOfBorrowers.get(i).getBorrowerId(), i);
+            }
+            unindex(borrower);
+            borrowerIdAllocator.markFree(borrower.getBorrowerId().borrowerIdToInt());
+        }
+        changedBorrowerIds.add(borrower.getBorrowerId());
+        version++;
+    }
+
+    /**
+     * Returns the ids of borrowers that were added, edited or removed since the last call to {@link #clearChanges()}.
+     */
+    @Override
+    public Set<BorrowerId> getChangedBorrowerIds() {
+        return Collections.unmodifiableSet(changedBorrowerIds);
+    }
+
+    /**
+     * Returns a number that increases every time the borrower records are modified.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Forgets all changes recorded so far, typically after they have been persisted.
+     */
+    public void clearChanges() {
+        changedBorrowerIds.clear();
     }
 }
@@ -1,15 +1,31 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookPredicate;
+import seedu.address.model.book.BookQueryPlan;
+import seedu.address.model.book.BookSearchIndex;
 import seedu.address.model.book.SerialNumber;
 import seedu.address.model.book.UniqueBookList;
+import seedu.address.model.util.IdAllocator;
 
 /**
  * Wraps all data at the catalog level
@@ -17,7 +33,19 @@ import seedu.address.model.book.UniqueBookList;
  */
 public class Catalog implements ReadOnlyCatalog {
 
+    /** Number of books from which a search that cannot use the index is run on a parallel stream. */
+    static final int PARALLEL_SCAN_THRESHOLD = 10000;
+
+    private static final int FIRST_SERIAL_NUMBER = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(Catalog.class);
+
     private final UniqueBookList books;
+    private final BookSearchIndex searchIndex = new BookSearchIndex();
+    private final IdAllocator serialNumberAllocator = new IdAllocator(FIRST_SERIAL_NUMBER);
+    private final Set<SerialNumber> retiredSerialNumbers = new HashSet<>();
+    private final Set<SerialNumber> changedSerialNumbers = new HashSet<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -38,6 +66,7 @@ public class Catalog implements ReadOnlyCatalog {
     public Catalog(ReadOnlyCatalog toBeCopied) {
         this();
         resetData(toBeCopied);
+        clearChanges();
     }
 
     //// list overwrite operations
@@ -47,7 +76,13 @@ public class Catalog implements ReadOnlyCatalog {
      * {@code books} must not contain duplicate books.
      */
     public void setBooks(List<Book> books) {
-        this.books.setBooks(books);
+        this.books.forEach(book -> changedSerialNumbers.add(book.getSerialNumber()));
+        updateBooks(() -> searchIndex.setBooks(books), () -> this.books.setBooks(books));
+        serialNumberAllocator.clear();
+        retiredSerialNumbers.forEach(sn -> serialNumberAllocator.markUsed(sn.serialNumberToInt()));
+        books.forEach(book -> serialNumberAllocator.markUsed(book.getSerialNumber().serialNumberToInt()));
+        books.forEach(book -> changedSerialNumbers.add(book.getSerialNumber()));
+        version++;
     }
 
     /**
@@ -74,7 +109,21 @@ public class Catalog implements ReadOnlyCatalog {
      * The book must not already exist in the catalog.
      */
     public void addBook(Book p) {
-        books.add(p);
+        updateBooks(() -> searchIndex.add(p), () -> books.add(p));
+        serialNumberAllocator.markUsed(p.getSerialNumber().serialNumberToInt());
+        changedSerialNumbers.add(p.getSerialNumber());
+        version++;
+    }
+
+    /**
+     * Adds all the books in {@code books} to the catalog at once.
+     * No two books, whether in {@code books} or already in the catalog, may have the same serial number.
+     */
+    public void addBooks(List<Book> books) {
+        updateBooks(() -> books.forEach(searchIndex::add), () -> this.books.addAll(books));
+        books.forEach(book -> serialNumberAllocator.markUsed(book.getSerialNumber().serialNumberToInt()));
+        books.forEach(book -> changedSerialNumbers.add(book.getSerialNumber()));
+        version++;
     }
 
     /**
@@ -85,19 +134,146 @@ public class Catalog implements ReadOnlyCatalog {
     public void setBook(Book target, Book editedBook) {
         requireNonNull(editedBook);
 
-        books.setBook(target, editedBook);
+        updateBooks(() -> {
+            removeFromSearchIndex(target);
+            searchIndex.add(editedBook);
+        }, () -> books.setBook(target, editedBook));
+        if (!target.getSerialNumber().equals(editedBook.getSerialNumber())) {
+            freeSerialNumber(target.getSerialNumber());
+            serialNumberAllocator.markUsed(editedBook.getSerialNumber().serialNumberToInt());
+        }
+        changedSerialNumbers.add(target.getSerialNumber());
+        changedSerialNumbers.add(editedBook.getSerialNumber());
+        version++;
+    }
+
+    /**
+     * Replaces each book in {@code targets} with the book at the same position in {@code editedBooks}, updating the
+     * search index only once.
+     * Each book in {@code targets} must exist in the catalog and have the same serial number as its replacement.
+     */
+    public void replaceBooks(List<Book> targets, List<Book> editedBooks) {
+        requireAllNonNull(targets, editedBooks);
+        assert targets.size() == editedBooks.size() : "Every book to be replaced needs a replacement!";
+
+        updateBooks(() -> {
+            targets.forEach(this::removeFromSearchIndex);
+            editedBooks.forEach(searchIndex::add);
+        }, () -> {
+            for (int i = 0; i < targets.size(); i++) {
+                assert targets.get(i).getSerialNumber().equals(editedBooks.get(i).getSerialNumber())
+                        : "Replacing book has a different serial number!";
+                books.setBook(targets.get(i), editedBooks.get(i));
+            }
+        });
+        targets.forEach(book -> changedSerialNumbers.add(book.getSerialNumber()));
+        version++;
     }
 
     public boolean serialNumberExists(SerialNumber sn) {
         return books.containsSerialNumber(sn);
     }
 
+    /**
+     * Returns the lowest serial number that is not in the catalog and has not been allocated since the last
+     * {@link #resetSerialNumberAllocation()}.
+     */
+    public SerialNumber allocateSerialNumber() {
+        return SerialNumber.fromInt(serialNumberAllocator.allocate());
+    }
+
+    /**
+     * Makes {@link #allocateSerialNumber()} start again from the lowest serial number not in the catalog.
+     */
+    public void resetSerialNumberAllocation() {
+        serialNumberAllocator.reset();
+    }
+
+    /**
+     * Keeps {@code sn} from being allocated by {@link #allocateSerialNumber()}, even after the book with it is
+     * removed from the catalog.
+     * Used for serial numbers that loans still refer to, so that a new book does not take over their loan history.
+     */
+    public void retireSerialNumber(SerialNumber sn) {
+        requireNonNull(sn);
+        retiredSerialNumbers.add(sn);
+        serialNumberAllocator.markUsed(sn.serialNumberToInt());
+    }
+
+    private void freeSerialNumber(SerialNumber sn) {
+        if (!retiredSerialNumbers.contains(sn)) {
+            serialNumberAllocator.markFree(sn.serialNumberToInt());
+        }
+    }
+
     /**
      * Removes {@code key} from this {@code Catalog}.
      * {@code key} must exist in the catalog.
      */
     public void removeBook(Book key) {
-        books.remove(key);
+        updateBooks(() -> removeFromSearchIndex(key), () -> books.remove(key));
+        freeSerialNumber(key.getSerialNumber());
+        changedSerialNumbers.add(key.getSerialNumber());
+        version++;
+    }
+
+    /**
+     * Applies {@code indexUpdate} to the search index and then {@code listUpdate} to the book list.
+     * The index is updated first so that filtered views of the book list, which re-test books as soon as the list
+     * changes, see the updated index. If the list update fails, the index is rebuilt from the unchanged list.
+     */
+    private void updateBooks(Runnable indexUpdate, Runnable listUpdate) {
+        indexUpdate.run();
+        try {
+            listUpdate.run();
+        } catch (RuntimeException e) {
+            searchIndex.setBooks(books);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the book stored with the serial number of {@code book} from the search index.
+     * The stored book is removed rather than {@code book}, which may equal it but have a different loan.
+     */
+    private void removeFromSearchIndex(Book book) {
+        Book storedBook = books.getBook(book.getSerialNumber());
+        if (storedBook != null) {
+            searchIndex.remove(storedBook);
+        }
+    }
+
+    /**
+     * Returns a predicate that matches the same books as {@code predicate}, but tests books through a
+     * {@code BookQueryPlan} over the search index of this catalog.
+     */
+    public Predicate<Book> getIndexedPredicate(BookPredicate predicate) {
+        requireNonNull(predicate);
+        return new IndexedBookPredicate(predicate);
+    }
+
+    /**
+     * Returns the serial numbers of books that were added, edited or removed since the last
+     * call to {@link #clearChanges()}.
+     */
+    @Override
+    public Set<SerialNumber> getChangedSerialNumbers() {
+        return Collections.unmodifiableSet(changedSerialNumbers);
+    }
+
+    /**
+     * Returns a number that increases every time the books in the catalog are modified.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Forgets all changes recorded so far, typically after they have been persisted.
+     */
+    public void clearChanges() {
+        changedSerialNumbers.clear();
     }
 
     /**
@@ -106,11 +282,7 @@ public class Catalog implements ReadOnlyCatalog {
      * @return an ObservableList of books that are loaned out.
      */
     public ObservableList<Book> getLoanedBooks() {
-        List<Book> loanedBooks = getBookList()
-                .stream()
-                .filter(book -> book.isCurrentlyLoanedOut())
-                .collect(Collectors.toList());
-        return FXCollections.observableArrayList(loanedBooks);
+        return getBooks(searchIndex.getLoanedBits());
     }
 
     /**
@@ -119,11 +291,12 @@ public class Catalog implements ReadOnlyCatalog {
      * @return an ObservableList of books that are overdue.
      */
     public ObservableList<Book> getOverdueBooks() {
-        List<Book> loanedBooks = getBookList()
+        List<Book> overdueBooks = searchIndex.getOverdueMatches(DateUtil.getTodayDate())
                 .stream()
-                .filter(book -> book.isOverdue())
+                .sorted()
+                .map(books::getBook)
                 .collect(Collectors.toList());
-        return FXCollections.observableArrayList(loanedBooks);
+        return FXCollections.observableArrayList(overdueBooks);
     }
 
     /**
@@ -132,19 +305,118 @@ public class Catalog implements ReadOnlyCatalog {
      * @return an ObservableList of books that are available.
      */
     public ObservableList<Book> getAvailableBooks() {
-        List<Book> availableBooks = getBookList()
-                .stream()
-                .filter(book -> !book.isCurrentlyLoanedOut())
+        return getBooks(searchIndex.getAvailableBits());
+    }
+
+    /**
+     * Returns the number of books in the catalog that are loaned out.
+     */
+    public int countLoanedBooks() {
+        return searchIndex.countLoaned();
+    }
+
+    /**
+     * Returns the number of books in the catalog that are available.
+     */
+    public int countAvailableBooks() {
+        return searchIndex.countAvailable();
+    }
+
+    /**
+     * Returns the books whose serial numbers have their bits set in {@code serialNumberBits}, in serial number order.
+     */
+    private ObservableList<Book> getBooks(BitSet serialNumberBits) {
+        List<Book> matchingBooks = serialNumberBits.stream()
+                .mapToObj(SerialNumber::fromInt)
+                .map(books::getBook)
                 .collect(Collectors.toList());
-        return FXCollections.observableArrayList(availableBooks);
+        return FXCollections.observableArrayList(matchingBooks);
     }
 
     //// util methods
 
+    @Override
     public Book getBook(SerialNumber bookSn) {
         return books.getBook(bookSn);
     }
 
+    /**
+     * A {@code BookPredicate} that tests books through a plan over the search index.
+     * The plan is made again whenever the index changes.
+     * If the predicate has a display limit, only the first matching books up to the limit, in serial number order,
+     * are matched. They are found by going through the candidates of the plan lazily and stopping at the limit, and
+     * found again whenever the index changes.
+     * Otherwise, if the plan has at least {@code PARALLEL_SCAN_THRESHOLD} candidates with conditions left to check,
+     * the candidates in the catalog when the predicate is created are checked together on a parallel stream, and the
+     * predicate answers from those results until the index changes. Filtered lists only re-test the changed books
+     * after that.
+     */
+    private class IndexedBookPredicate implements Predicate<Book> {
+        private final BookPredicate predicate;
+        private final OptionalInt displayLimit;
+        private BookQueryPlan plan;
+        private long planVersion;
+        private Set<SerialNumber> scannedMatches;
+
+        IndexedBookPredicate(BookPredicate predicate) {
+            this.predicate = predicate;
+            this.displayLimit = predicate.getDisplayLimit();
+            updatePlan();
+
+            if (displayLimit.isEmpty() && plan.hasChecks() && plan.getCandidateCount() >= PARALLEL_SCAN_THRESHOLD) {
+                BookQueryPlan scanPlan = plan;
+                scannedMatches = getCandidateBooks(scanPlan).parallelStream()
+                        .filter(scanPlan::test)
+                        .map(Book::getSerialNumber)
+                        .collect(Collectors.toSet());
+            }
+        }
+
+        @Override
+        public boolean test(Book book) {
+            if (planVersion != searchIndex.getVersion()) {
+                scannedMatches = null;
+                updatePlan();
+            }
+            return scannedMatches != null ? scannedMatches.contains(book.getSerialNumber()) : plan.test(book);
+        }
+
+        private void updatePlan() {
+            plan = predicate.plan(searchIndex);
+            planVersion = searchIndex.getVersion();
+            logger.fine(plan::explain);
+            if (displayLimit.isPresent()) {
+                scannedMatches = findFirstMatches(displayLimit.getAsInt());
+            }
+        }
+
+        /**
+         * Returns the books in the catalog that are candidates of {@code candidatePlan}, in serial number order.
+         */
+        private List<Book> getCandidateBooks(BookQueryPlan candidatePlan) {
+            return candidatePlan.streamCandidates()
+                    .map(serialNumbers -> serialNumbers.map(books::getBook)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList()))
+                    .orElseGet(books::asUnmodifiableObservableList);
+        }
+
+        /**
+         * Returns the serial numbers of the first {@code limit} books that match the plan, going through the
+         * candidates of the plan in serial number order and stopping as soon as enough are found.
+         */
+        private Set<SerialNumber> findFirstMatches(int limit) {
+            BookQueryPlan matchPlan = plan;
+            Stream<Book> candidateBooks = matchPlan.streamCandidates()
+                    .map(serialNumbers -> serialNumbers.map(books::getBook).filter(Objects::nonNull))
+                    .orElseGet(() -> books.asUnmodifiableObservableList().stream());
+            return candidateBooks.filter(matchPlan::test)
+                    .limit(limit)
+                    .map(Book::getSerialNumber)
+                    .collect(Collectors.toSet());
+        }
+    }
+
     @Override
     public String toString() {
         return books.asUnmodifiableObservableList().size() + " books";
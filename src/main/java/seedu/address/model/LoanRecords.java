@@ -2,18 +2,43 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.borrower.BorrowerId;
+import seedu.address.model.loan.FineAccrual;
 import seedu.address.model.loan.Loan;
 import seedu.address.model.loan.LoanId;
+import seedu.address.model.loan.LoanTotals;
 
 /**
  * Wraps all {@code Loan} data at the LoanRecords level.
+ * The loan history of each book is indexed by the serial number of the book, as a list of loan ids in order.
+ * The fine totals and loan counts of the whole library are kept in a {@code LoanTotals} updated with the loans.
+ * The loans with fines remaining are indexed by borrower id in order of loan id, so that paying fines only goes
+ * through the loans with fines.
+ * The overdue days accrued by loans not yet returned are kept in a {@code FineAccrual} swept forward on demand.
  */
 public class LoanRecords implements ReadOnlyLoanRecords {
 
     private HashMap<LoanId, Loan> loansMap;
+    private final HashMap<SerialNumber, List<LoanId>> loanHistories = new HashMap<>();
+    private final Set<LoanId> changedLoanIds = new HashSet<>();
+    private final BitSet usedLoanIds = new BitSet();
+    private final LoanTotals totals = new LoanTotals();
+    private final HashMap<BorrowerId, TreeSet<LoanId>> finedLoanIds = new HashMap<>();
+    private final FineAccrual fineAccrual = new FineAccrual();
+    private long version;
 
     /**
      * Creates a LoanRecords using the Loans in the {@code toBeCopied}
@@ -23,6 +48,13 @@ public class LoanRecords implements ReadOnlyLoanRecords {
 
         loansMap = new HashMap<>();
         toBeCopied.getLoanCollection().forEach(loan -> loansMap.put(loan.getLoanId(), loan));
+        loansMap.keySet().forEach(loanId -> usedLoanIds.set(loanId.loanIdToInt()));
+        loansMap.values().forEach(loan -> loanHistories.computeIfAbsent(loan.getBookSerialNumber(), unused ->
+                new ArrayList<>()).add(loan.getLoanId()));
+        loanHistories.values().forEach(Collections::sort);
+        loansMap.values().forEach(totals::add);
+        loansMap.values().forEach(this::addToFinedLoans);
+        loansMap.values().forEach(this::addToFineAccrual);
     }
 
     public LoanRecords() {
@@ -75,7 +107,20 @@ public class LoanRecords implements ReadOnlyLoanRecords {
      * @param loan Loan object to be added.
      */
     public void addLoan(Loan loan) {
-        loansMap.put(loan.getLoanId(), loan);
+        Loan replacedLoan = loansMap.put(loan.getLoanId(), loan);
+        if (replacedLoan != null) {
+            removeFromLoanHistory(replacedLoan);
+            totals.remove(replacedLoan);
+            removeFromFinedLoans(replacedLoan);
+            fineAccrual.remove(replacedLoan);
+        }
+        usedLoanIds.set(loan.getLoanId().loanIdToInt());
+        addToLoanHistory(loan);
+        totals.add(loan);
+        addToFinedLoans(loan);
+        addToFineAccrual(loan);
+        changedLoanIds.add(loan.getLoanId());
+        version++;
     }
 
     /**
@@ -84,13 +129,20 @@ public class LoanRecords implements ReadOnlyLoanRecords {
      * @param loan Loan object to be removed.
      */
     public void removeLoan(Loan loan) {
-        loansMap.remove(loan.getLoanId());
+        Loan removedLoan = loansMap.remove(loan.getLoanId());
+        if (removedLoan != null) {
+            usedLoanIds.clear(removedLoan.getLoanId().loanIdToInt());
+            removeFromLoanHistory(removedLoan);
+            totals.remove(removedLoan);
+            removeFromFinedLoans(removedLoan);
+            fineAccrual.remove(removedLoan);
+        }
+        changedLoanIds.add(loan.getLoanId());
+        version++;
     }
 
     /**
      * Returns the number of loans in {@code loansMap}.
-     * Used to find the next LoanId in LoanIdGenerator.
-     * Precondition: Loans will never be deleted or removed from storage.
      *
      * @return Number of loans in LoanRecords.
      */
@@ -98,6 +150,17 @@ public class LoanRecords implements ReadOnlyLoanRecords {
         return loansMap.size();
     }
 
+    /**
+     * Returns the highest number among the loan IDs in LoanRecords, or 0 if there are no loans.
+     * Used to find the next LoanId in LoanIdGenerator, so that a new loan never reuses the ID of an existing loan
+     * even after loans are removed.
+     *
+     * @return Highest loan ID number in LoanRecords.
+     */
+    public int getHighestLoanIdNumber() {
+        return Math.max(0, usedLoanIds.length() - 1);
+    }
+
     /**
      * Replaces an existing {@code Loan} object in the loansMap with an edited one.
      *
@@ -105,10 +168,147 @@ public class LoanRecords implements ReadOnlyLoanRecords {
      * @param updatedLoan Updated {@code Loan} object.
      */
     public void updateLoan(Loan existingLoan, Loan updatedLoan) {
-        loansMap.remove(existingLoan.getLoanId());
+        if (existingLoan.getLoanId().equals(updatedLoan.getLoanId())
+                && existingLoan.getBookSerialNumber().equals(updatedLoan.getBookSerialNumber())) {
+            // the loan keeps its place in the loan history
+            Loan replacedLoan = loansMap.put(updatedLoan.getLoanId(), updatedLoan);
+            if (replacedLoan != null) {
+                totals.remove(replacedLoan);
+                removeFromFinedLoans(replacedLoan);
+                fineAccrual.remove(replacedLoan);
+            }
+            totals.add(updatedLoan);
+            addToFinedLoans(updatedLoan);
+            addToFineAccrual(updatedLoan);
+            changedLoanIds.add(updatedLoan.getLoanId());
+            version++;
+            return;
+        }
+        removeLoan(existingLoan);
         addLoan(updatedLoan);
     }
 
+    /**
+     * Returns a copy of the fine totals and loan counts over all the loans.
+     */
+    @Override
+    public LoanTotals getLoanTotals() {
+        return new LoanTotals(totals);
+    }
+
+    /**
+     * Returns the loans of the borrower with {@code borrowerId} that have fines remaining, in order of loan id.
+     */
+    @Override
+    public List<Loan> getFinedLoans(BorrowerId borrowerId) {
+        requireNonNull(borrowerId);
+        return finedLoanIds.getOrDefault(borrowerId, new TreeSet<>()).stream()
+                .map(loansMap::get)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private void addToFinedLoans(Loan loan) {
+        if (loan.getRemainingFineAmount() > 0) {
+            finedLoanIds.computeIfAbsent(loan.getBorrowerId(), unused -> new TreeSet<>()).add(loan.getLoanId());
+        }
+    }
+
+    private void removeFromFinedLoans(Loan loan) {
+        TreeSet<LoanId> loanIds = finedLoanIds.get(loan.getBorrowerId());
+        if (loanIds == null) {
+            return;
+        }
+        loanIds.remove(loan.getLoanId());
+        if (loanIds.isEmpty()) {
+            finedLoanIds.remove(loan.getBorrowerId());
+        }
+    }
+
+    /**
+     * Returns the overdue days accrued by the loans not yet returned of the borrower with {@code borrowerId}
+     * as of {@code today}.
+     * The fine accrual is swept to {@code today} first, going through only the loans that became overdue since
+     * the last sweep.
+     */
+    public long getAccruedOverdueDays(BorrowerId borrowerId, LocalDate today) {
+        fineAccrual.sweepTo(today);
+        return fineAccrual.getAccruedDays(borrowerId);
+    }
+
+    private void addToFineAccrual(Loan loan) {
+        if (loan.getReturnDate() == null) {
+            fineAccrual.add(loan);
+        }
+    }
+
+    /**
+     * Returns the loans of the book with {@code serialNumber}, oldest first.
+     */
+    @Override
+    public List<Loan> getLoanHistory(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        return loanHistories.getOrDefault(serialNumber, Collections.emptyList()).stream()
+                .map(loansMap::get)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the serial numbers of the books that have at least one loan in their loan history.
+     * The books may no longer be in the catalog.
+     */
+    public Set<SerialNumber> getSerialNumbersWithLoanHistory() {
+        return Collections.unmodifiableSet(loanHistories.keySet());
+    }
+
+    /**
+     * Inserts the id of {@code loan} in order into the loan history of its book.
+     * Loan ids are generated in increasing order, so the id is usually appended.
+     */
+    private void addToLoanHistory(Loan loan) {
+        List<LoanId> loanIds = loanHistories.computeIfAbsent(loan.getBookSerialNumber(), unused -> new ArrayList<>());
+        int index = Collections.binarySearch(loanIds, loan.getLoanId());
+        if (index < 0) {
+            loanIds.add(-index - 1, loan.getLoanId());
+        }
+    }
+
+    private void removeFromLoanHistory(Loan loan) {
+        List<LoanId> loanIds = loanHistories.get(loan.getBookSerialNumber());
+        if (loanIds == null) {
+            return;
+        }
+        int index = Collections.binarySearch(loanIds, loan.getLoanId());
+        if (index >= 0) {
+            loanIds.remove(index);
+        }
+        if (loanIds.isEmpty()) {
+            loanHistories.remove(loan.getBookSerialNumber());
+        }
+    }
+
+    /**
+     * Returns the ids of loans that were added, updated or removed since the last call to {@link #clearChanges()}.
+     */
+    @Override
+    public Set<LoanId> getChangedLoanIds() {
+        return Collections.unmodifiableSet(changedLoanIds);
+    }
+
+    /**
+     * Returns a number that increases every time the loan records are modified.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Forgets all changes recorded so far, typically after they have been persisted.
+     */
+    public void clearChanges() {
+        changedLoanIds.clear();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -15,6 +15,7 @@ import seedu.address.model.book.SerialNumber;
 import seedu.address.model.borrower.Borrower;
 import seedu.address.model.borrower.BorrowerId;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanTotals;
 
 /**
  * The API of the Model component.
@@ -96,6 +97,8 @@ public interface Model {
 
     void setBook(Book target, Book editedBook);
 
+    void replaceBooks(List<Book> targets, List<Book> editedBooks);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Book> getFilteredBookList();
 
@@ -120,6 +123,11 @@ public interface Model {
      */
     ReadOnlyLoanRecords getLoanRecords();
 
+    /**
+     * Returns the fine totals and loan counts over all the loans in LoanRecords.
+     */
+    LoanTotals getLoanTotals();
+
     /**
      * Adds a new Loan to LoanRecords.
      */
@@ -134,6 +142,17 @@ public interface Model {
 
     int payFines(int amountInCents);
 
+    /**
+     * Pays the outstanding fines of the borrower with {@code borrowerId}, and returns the change to be given.
+     */
+    int payFines(BorrowerId borrowerId, int amountInCents);
+
+    /**
+     * Returns the fine accrued up to today by the loans of the borrower with {@code borrowerId} whose books have not
+     * been returned, in cents.
+     */
+    long getAccruedFineAmount(BorrowerId borrowerId);
+
     // ================================================================ BorrowerRecords
 
     /**
@@ -178,6 +197,10 @@ public interface Model {
 
     void servingBorrowerRemoveLoan(Loan removeLoan);
 
+    void servingBorrowerNewLoans(List<Loan> newLoans);
+
+    void servingBorrowerRemoveLoans(List<Loan> removeLoans);
+
     void servingBorrowerReturnLoan(Loan loanToBeReturned, Loan returnedLoan);
 
     void servingBorrowerUnreturnLoan(Loan loanToBeUnreturned, Loan unturnedLoan);
@@ -198,6 +221,12 @@ public interface Model {
 
     boolean hasDuplicatedBorrower(Borrower editedBorrower);
 
+    /**
+     * Returns the borrowers with a name word, phone, email or id starting with each of {@code keywords},
+     * with the closest matches first.
+     */
+    List<Borrower> findBorrowers(List<String> keywords);
+
     void unregisterBorrower(Borrower toUnregister);
 
     //=========== CommandHistoryManager ===============================================================================
@@ -241,4 +270,10 @@ public interface Model {
      * gets the initial load status message on start up
      */
     String getLoadStatus();
+
+    /**
+     * Clears the changes recorded by the loan records, catalog and borrower records.
+     * Called once the changes have been persisted to storage.
+     */
+    void clearPendingChanges();
 }
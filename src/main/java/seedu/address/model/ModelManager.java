@@ -24,6 +24,7 @@ import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ReversibleCommand;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookPredicate;
 import seedu.address.model.book.SerialNumber;
 import seedu.address.model.book.SerialNumberGenerator;
 import seedu.address.model.borrower.Borrower;
@@ -32,7 +33,7 @@ import seedu.address.model.borrower.BorrowerIdGenerator;
 import seedu.address.model.exceptions.NotInServeModeException;
 import seedu.address.model.loan.Loan;
 import seedu.address.model.loan.LoanIdGenerator;
-import seedu.address.model.loan.LoanList;
+import seedu.address.model.loan.LoanTotals;
 
 /**
  * Represents the in-memory model of the Library data.
@@ -70,9 +71,12 @@ public class ModelManager implements Model {
         LoanIdGenerator.setLoanRecords(this.loanRecords);
         // testing
         this.catalog = new Catalog(catalog);
-        SerialNumberGenerator.setCatalog((Catalog) catalog);
+        // loans of books deleted in earlier sessions still refer to their serial numbers
+        this.loanRecords.getSerialNumbersWithLoanHistory().forEach(this.catalog::retireSerialNumber);
+        SerialNumberGenerator.setCatalog(this.catalog);
         // testing
         this.borrowerRecords = new BorrowerRecords(borrowerRecords);
+        BorrowerIdGenerator.setBorrowers(this.borrowerRecords);
         filteredBooks = new FilteredList<>(this.catalog.getBookList());
 
         this.commandHistory = new CommandHistoryManager();
@@ -97,6 +101,13 @@ public class ModelManager implements Model {
         return initLoadMessage;
     }
 
+    @Override
+    public void clearPendingChanges() {
+        loanRecords.clearChanges();
+        catalog.clearChanges();
+        borrowerRecords.clearChanges();
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -175,6 +186,11 @@ public class ModelManager implements Model {
         return loanRecords;
     }
 
+    @Override
+    public LoanTotals getLoanTotals() {
+        return loanRecords.getLoanTotals();
+    }
+
     /**
      * Adds a <code>Loan</code> object to the loan records.
      *
@@ -215,48 +231,63 @@ public class ModelManager implements Model {
      */
     @Override
     public int payFines(int amountInCents) {
-        Borrower serving = getServingBorrower();
-        LoanList updatedReturnedLoanList = new LoanList();
-
-        int change = payLoansFine(serving.getReturnedLoanList(), updatedReturnedLoanList, amountInCents);
-
-        Borrower updatedBorrower = new Borrower(serving.getName(), serving.getPhone(), serving.getEmail(),
-                serving.getBorrowerId(), serving.getCurrentLoanList(), updatedReturnedLoanList);
-        borrowerRecords.setBorrower(serving, updatedBorrower);
-
-        setServingBorrower(updatedBorrower);
-
-        return change;
+        return payFines(getServingBorrower().getBorrowerId(), amountInCents);
     }
 
     /**
-     * Private helper method to help iterate through each Loan in the returnedLoanList and then to update each Loan
-     * object with the maximum possible amount paid.
-     * Returns the leftover amount, i.e., the change.
+     * Pays the outstanding fines of the borrower with {@code borrowerId}, oldest loan first.
+     * Only the loans with fines remaining are gone through, and the borrower's returnedLoanList is copied once.
+     *
+     * @param borrowerId Id of the borrower paying.
+     * @param amountInCents Amount borrower is paying in cents.
+     * @return Leftover amount in cents, i.e., change to be given.
      */
-    private int payLoansFine(LoanList origReturnedLoanList, LoanList updatedReturnedLoanList, int amountInCents) {
+    @Override
+    public int payFines(BorrowerId borrowerId, int amountInCents) {
+        requireNonNull(borrowerId);
+        List<Loan> finedLoans = new ArrayList<>();
+        List<Loan> paidLoans = new ArrayList<>();
         int payingAmount = amountInCents;
-        for (Loan loan : origReturnedLoanList) {
-            int remainingFineAmount = loan.getRemainingFineAmount();
-            if (payingAmount == 0 || remainingFineAmount == 0) { // no payingAmount left or no remainingFine to pay
-                updatedReturnedLoanList.add(loan); // just add to new copy
-            } else {
-                Loan updatedLoan;
-                if (payingAmount >= remainingFineAmount) { // can fully pay off this fine
-                    updatedLoan = loan.payFine(remainingFineAmount);
-                    payingAmount -= remainingFineAmount;
-                } else {
-                    updatedLoan = loan.payFine(payingAmount);
-                    payingAmount = 0;
-                }
-                updatedReturnedLoanList.add(updatedLoan);
-                updateLoan(loan, updatedLoan);
+        for (Loan loan : loanRecords.getFinedLoans(borrowerId)) {
+            if (payingAmount == 0) {
+                break;
+            }
+            int paidAmount = Math.min(payingAmount, loan.getRemainingFineAmount());
+            Loan paidLoan = loan.payFine(paidAmount);
+            payingAmount -= paidAmount;
+            finedLoans.add(loan);
+            paidLoans.add(paidLoan);
+            updateLoan(loan, paidLoan);
+        }
+
+        if (!paidLoans.isEmpty()) {
+            Borrower borrower = getBorrowerFromId(borrowerId);
+            Borrower updatedBorrower = new Borrower(borrower.getName(), borrower.getPhone(), borrower.getEmail(),
+                    borrower.getBorrowerId(), borrower.getCurrentLoanList(),
+                    borrower.getReturnedLoanList().replaceAllInNewCopy(finedLoans, paidLoans));
+            borrowerRecords.setBorrower(borrower, updatedBorrower);
+            if (isServeMode() && getServingBorrower().isSameBorrower(updatedBorrower)) {
+                setServingBorrower(updatedBorrower);
             }
         }
 
         return payingAmount;
     }
 
+    @Override
+    public long getAccruedFineAmount(BorrowerId borrowerId) {
+        requireNonNull(borrowerId);
+        return toFineAmount(loanRecords.getAccruedOverdueDays(borrowerId, DateUtil.getTodayDate()));
+    }
+
+    /**
+     * Returns the fine for {@code overdueDays} at the current fine increment, as charged when books are returned.
+     * The fine accrued by many loans together can exceed the fine of any one loan, so it is kept as a long.
+     */
+    private long toFineAmount(long overdueDays) {
+        return overdueDays * getUserSettings().getFineIncrement();
+    }
+
     //=========== Catalog ===============================================================================
 
 
@@ -285,15 +316,17 @@ public class ModelManager implements Model {
     @Override
     public void deleteBook(Book target) {
         requireNonNull(target);
+        if (loanRecords.getSerialNumbersWithLoanHistory().contains(target.getSerialNumber())) {
+            // the loan history stays with the serial number, so it is not given to a new book
+            catalog.retireSerialNumber(target.getSerialNumber());
+        }
         catalog.removeBook(target);
-        SerialNumberGenerator.setCatalog(catalog);
     }
 
     @Override
     public void addBook(Book book) {
         requireNonNull(book);
         catalog.addBook(book);
-        SerialNumberGenerator.setCatalog(catalog);
         updateFilteredBookList(PREDICATE_SHOW_ALL_BOOKS);
     }
 
@@ -307,7 +340,12 @@ public class ModelManager implements Model {
     public void setBook(Book target, Book editedBook) {
         requireAllNonNull(target, editedBook);
         catalog.setBook(target, editedBook);
-        SerialNumberGenerator.setCatalog(catalog);
+    }
+
+    @Override
+    public void replaceBooks(List<Book> targets, List<Book> editedBooks) {
+        requireAllNonNull(targets, editedBooks);
+        catalog.replaceBooks(targets, editedBooks);
     }
 
     /**
@@ -325,10 +363,11 @@ public class ModelManager implements Model {
         ArrayList<Loan> loanStream = new ArrayList<>();
         StringBuilder sb = new StringBuilder();
         sb.append("Loan History:\n");
-        if (target.getLoanHistory().isEmpty()) {
+        List<Loan> loanHistory = loanRecords.getLoanHistory(target.getSerialNumber());
+        if (loanHistory.isEmpty()) {
             sb.append("No loan history!");
         } else {
-            target.getLoanHistory().forEach(loan -> loanStream.add(loan));
+            loanStream.addAll(loanHistory);
             Collections.sort(loanStream);
             Collections.reverse(loanStream); // To make latest loan go on top
             loanStream.stream()
@@ -372,7 +411,12 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredBookList(Predicate<Book> predicate) {
         requireNonNull(predicate);
-        filteredBooks.setPredicate(predicate);
+        if (!(predicate instanceof BookPredicate)) {
+            filteredBooks.setPredicate(predicate);
+            return;
+        }
+
+        filteredBooks.setPredicate(catalog.getIndexedPredicate((BookPredicate) predicate));
     }
 
     public void resetFilteredBookList() {
@@ -494,6 +538,47 @@ public class ModelManager implements Model {
         setServingBorrower(loanRemovedBorrower);
     }
 
+    /**
+     * Adds new {@code Loan} objects to a single new copy of servingBorrower and its currentLoanList.
+     * This method is called only when in Serve mode.
+     *
+     * @param newLoans New {@code Loan} objects to be added.
+     */
+    @Override
+    public void servingBorrowerNewLoans(List<Loan> newLoans) {
+        if (!isServeMode()) {
+            throw new NotInServeModeException();
+        }
+
+        Borrower serving = servingBorrower.get();
+        Borrower loansAddedBorrower = new Borrower(serving.getName(), serving.getPhone(), serving.getEmail(),
+                serving.getBorrowerId(), serving.getAddedCurrentLoanList(newLoans), serving.getReturnedLoanList());
+        borrowerRecords.setBorrower(serving, loansAddedBorrower);
+
+        setServingBorrower(loansAddedBorrower);
+    }
+
+    /**
+     * Removes {@code Loan} objects from a single new copy of servingBorrower and its currentLoanList.
+     * This method is called only when in Serve mode.
+     *
+     * @param removeLoans {@code Loan} objects to be removed.
+     */
+    @Override
+    public void servingBorrowerRemoveLoans(List<Loan> removeLoans) {
+        if (!isServeMode()) {
+            throw new NotInServeModeException();
+        }
+
+        Borrower serving = servingBorrower.get();
+        Borrower loansRemovedBorrower = new Borrower(serving.getName(), serving.getPhone(), serving.getEmail(),
+                serving.getBorrowerId(), serving.getRemovedCurrentLoanList(removeLoans),
+                serving.getReturnedLoanList());
+        borrowerRecords.setBorrower(serving, loansRemovedBorrower);
+
+        setServingBorrower(loansRemovedBorrower);
+    }
+
     /**
      * Removes {@code loanToBeReturned} from {@code servingBorrower}'s currentLoanList and
      * adds {@code returnedLoan} to its returnedLoanList.
@@ -639,8 +724,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setBorrower(Borrower borrowerToEdit, Borrower editedBorrower) {
-        borrowerRecords.removeBorrower(borrowerToEdit);
-        borrowerRecords.addBorrower(editedBorrower);
+        borrowerRecords.setBorrower(borrowerToEdit, editedBorrower);
     }
 
     @Override
@@ -648,6 +732,11 @@ public class ModelManager implements Model {
         return borrowerRecords.hasDuplicateBorrower(editedBorrower);
     }
 
+    @Override
+    public List<Borrower> findBorrowers(List<String> keywords) {
+        return borrowerRecords.findBorrowers(keywords);
+    }
+
     @Override
     public void unregisterBorrower(Borrower toUnregister) {
         assert toUnregister.getCurrentLoanList().isEmpty() : "Books still on loan, cannot unregister";
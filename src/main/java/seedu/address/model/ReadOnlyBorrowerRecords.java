@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.borrower.Borrower;
+import seedu.address.model.borrower.BorrowerId;
 
 /**
  * Unmodifiable view of an address book
@@ -10,4 +13,19 @@ public interface ReadOnlyBorrowerRecords {
 
     ObservableList<Borrower> getBorrowerList();
 
+    boolean checkIfBorrowerIdExists(BorrowerId id);
+
+    Borrower getBorrowerFromId(BorrowerId id);
+
+    /**
+     * Returns the ids of borrowers that have changed since the changes were last cleared.
+     */
+    Set<BorrowerId> getChangedBorrowerIds();
+
+    /**
+     * Returns a number that increases every time the records are modified.
+     * Two calls returning the same number mean the records did not change in between.
+     */
+    long getVersion();
+
 }
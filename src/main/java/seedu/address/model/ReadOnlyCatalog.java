@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.SerialNumber;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +17,20 @@ public interface ReadOnlyCatalog {
      */
     ObservableList<Book> getBookList();
 
+    /**
+     * Returns the book with the given serial number, or null if there is no such book.
+     */
+    Book getBook(SerialNumber bookSn);
+
+    /**
+     * Returns the serial numbers of books that have changed since the changes were last cleared.
+     */
+    Set<SerialNumber> getChangedSerialNumbers();
+
+    /**
+     * Returns a number that increases every time the records are modified.
+     * Two calls returning the same number mean the records did not change in between.
+     */
+    long getVersion();
+
 }
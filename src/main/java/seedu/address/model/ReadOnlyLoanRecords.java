@@ -2,9 +2,14 @@ package seedu.address.model;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.borrower.BorrowerId;
 import seedu.address.model.loan.Loan;
 import seedu.address.model.loan.LoanId;
+import seedu.address.model.loan.LoanTotals;
 
 /**
  * Unmodifiable view of an address book
@@ -15,4 +20,30 @@ public interface ReadOnlyLoanRecords {
 
     HashMap<LoanId, Loan> getLoansMap();
 
+    /**
+     * Returns the loans of the book with {@code serialNumber}, oldest first.
+     */
+    List<Loan> getLoanHistory(SerialNumber serialNumber);
+
+    /**
+     * Returns the loans of the borrower with {@code borrowerId} that have fines remaining, in order of loan id.
+     */
+    List<Loan> getFinedLoans(BorrowerId borrowerId);
+
+    /**
+     * Returns the fine totals and loan counts over all the loans.
+     */
+    LoanTotals getLoanTotals();
+
+    /**
+     * Returns the ids of loans that have changed since the changes were last cleared.
+     */
+    Set<LoanId> getChangedLoanIds();
+
+    /**
+     * Returns a number that increases every time the records are modified.
+     * Two calls returning the same number mean the records did not change in between.
+     */
+    long getVersion();
+
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.UserSettings;
 
 /**
@@ -20,4 +21,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getBorrowerRecordsFilePath();
 
+    Path getJournalFilePath();
+
+    StorageFormat getStorageFormat();
+
 }
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.UserSettings;
 
 /**
@@ -19,6 +20,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path loanRecordsFilePath = Paths.get("data", "loanrecords.json");
     private Path catalogFilePath = Paths.get("data", "catalog.json");
     private Path borrowerRecordsFilePath = Paths.get("data", "borrowerrecords.json");
+    private Path journalFilePath = Paths.get("data", "journal.jsonl");
+    private StorageFormat storageFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -43,6 +46,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setLoanRecordsFilePath(newUserPrefs.getLoanRecordsFilePath());
         setCatalogFilePath(newUserPrefs.getCatalogFilePath());
         setBorrowerRecordsFilePath(newUserPrefs.getBorrowerRecordsFilePath());
+        setJournalFilePath(newUserPrefs.getJournalFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -91,6 +96,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.borrowerRecordsFilePath = borrowerRecordsFilePath;
     }
 
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -106,12 +129,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && userSettings.equals(o.userSettings)
                 && loanRecordsFilePath.equals(o.loanRecordsFilePath)
                 && catalogFilePath.equals(o.catalogFilePath)
-                && borrowerRecordsFilePath.equals(o.borrowerRecordsFilePath);
+                && borrowerRecordsFilePath.equals(o.borrowerRecordsFilePath)
+                && journalFilePath.equals(o.journalFilePath)
+                && storageFormat == o.storageFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, userSettings, catalogFilePath, loanRecordsFilePath, borrowerRecordsFilePath);
+        return Objects.hash(guiSettings, userSettings, catalogFilePath, loanRecordsFilePath, borrowerRecordsFilePath,
+                journalFilePath, storageFormat);
     }
 
     @Override
@@ -122,6 +148,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal LoanRecords data file location : " + loanRecordsFilePath);
         sb.append("\nLocal Catalog data file location : " + catalogFilePath);
         sb.append("\nLocal BorrowerRecords data file location : " + borrowerRecordsFilePath);
+        sb.append("\nLocal journal file location : " + journalFilePath);
+        sb.append("\nStorage format : " + storageFormat);
         return sb.toString();
     }
 
@@ -3,6 +3,10 @@ package seedu.address.model.book;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable.
@@ -13,6 +17,7 @@ public class Author {
             + " and it should not be blank";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}\\p{Punct} ]*";
     public final String value;
+    private List<String> lowerCaseWords;
 
     /**
      * Constructs an {@code Author}.
@@ -29,6 +34,17 @@ public class Author {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this author in lower case, for matching keywords against.
+     * The words are computed on first use and then kept.
+     */
+    public List<String> getLowerCaseWords() {
+        if (lowerCaseWords == null) {
+            lowerCaseWords = StringUtil.toLowerCaseWords(value);
+        }
+        return lowerCaseWords;
+    }
+
     @Override
     public String toString() {
         return value;
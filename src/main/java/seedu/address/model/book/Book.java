@@ -2,6 +2,7 @@ package seedu.address.model.book;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -11,7 +12,6 @@ import java.util.Set;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.model.genre.Genre;
 import seedu.address.model.loan.Loan;
-import seedu.address.model.loan.LoanList;
 
 /**
  * Represents a Book in the Catalog.
@@ -26,27 +26,18 @@ public class Book implements Comparable<Book> {
     private final Author author;
     private final Set<Genre> genres = new HashSet<>();
     private final Optional<Loan> loan;
-    private final LoanList loanHistory;
 
     /**
      * Constructor of book when specifying attributes.
+     * The loan history of the book is kept in {@code LoanRecords}, indexed by serial number.
      */
     public Book(Title title, SerialNumber serialNumber, Author author, Loan loan, Set<Genre> genres) {
-        this(title, serialNumber, author, loan, genres, new LoanList());
-    }
-
-    /**
-     * Constructor when loading the file from history or when loading sample data/tests.
-     */
-    public Book(Title title, SerialNumber serialNumber, Author author,
-                Loan loan, Set<Genre> genres, LoanList loanHistory) {
         requireAllNonNull(title, serialNumber, author, genres);
         this.title = title;
         this.serialNumber = serialNumber;
         this.author = author;
         this.genres.addAll(genres);
         this.loan = Optional.ofNullable(loan);
-        this.loanHistory = loanHistory;
     }
 
     /**
@@ -93,15 +84,6 @@ public class Book implements Comparable<Book> {
         return loan;
     }
 
-    /**
-     * Returns loan history of book
-     *
-     * @return {@code LoanList} containing the history of loans associated with the book object.
-     */
-    public LoanList getLoanHistory() {
-        return loanHistory;
-    }
-
     /**
      * Returns true if book is currently on loan.
      *
@@ -117,11 +99,20 @@ public class Book implements Comparable<Book> {
      * @return true if book is on loan and overdue.
      */
     public boolean isOverdue() {
+        return isOverdue(DateUtil.getTodayDate());
+    }
+
+    /**
+     * Checks if a book is overdue on {@code today}.
+     *
+     * @return true if book is on loan and was due before {@code today}.
+     */
+    public boolean isOverdue(LocalDate today) {
         if (this.loan.isEmpty()) {
             //a book without loan cannot be overdue
             return false;
         } else {
-            return this.loan.get().getDueDate().compareTo(DateUtil.getTodayDate()) < 0;
+            return this.loan.get().getDueDate().compareTo(today) < 0;
         }
     }
 
@@ -138,8 +129,7 @@ public class Book implements Comparable<Book> {
                 this.getSerialNumber(),
                 this.getAuthor(),
                 loan,
-                this.getGenres(),
-                this.getLoanHistory());
+                this.getGenres());
     }
 
     /**
@@ -154,86 +144,23 @@ public class Book implements Comparable<Book> {
                 this.getSerialNumber(),
                 this.getAuthor(),
                 NULL_LOAN,
-                this.getGenres(),
-                this.getLoanHistory());
+                this.getGenres());
     }
 
     /**
      * Renews a book.
      *
-     * @param renewedLoan renewed loan to be updated in the book's loan history.
+     * @param renewedLoan renewed loan of the book.
      * @return a new renewed book.
      */
     public Book renewBook(Loan renewedLoan) {
         assert this.isCurrentlyLoanedOut() : "Book is not on loan.";
-        Book holdingBook = new Book(
-                this.getTitle(),
-                this.getSerialNumber(),
-                this.getAuthor(),
-                renewedLoan,
-                this.getGenres(),
-                this.getLoanHistory());
-        return holdingBook
-                .deleteFromLoanHistory(this.getLoan().get())
-                .addToLoanHistory(renewedLoan);
-    }
-
-    /**
-     * Adds to the loan history of a book.
-     *
-     * @param loan {@code Loan} to be added into the history.
-     * @return a new {@code Book} with the added loan history.
-     */
-    public Book addToLoanHistory(Loan loan) {
-        LoanList newHistory = new LoanList();
-        newHistory.add(loan);
-        this.getLoanHistory().forEach(newHistory::add);
-        return new Book(
-                this.getTitle(),
-                this.getSerialNumber(),
-                this.getAuthor(),
-                this.getLoan().orElse(NULL_LOAN),
-                this.getGenres(),
-                newHistory);
-    }
-
-    /**
-     * Adds to the loan history of a book
-     *
-     * @param loanList {@code LoanList} to be added into the history
-     */
-    public Book addToLoanHistory(LoanList loanList) {
-        this.getLoanHistory().forEach(loanList::add);
         return new Book(
                 this.getTitle(),
                 this.getSerialNumber(),
                 this.getAuthor(),
-                this.getLoan().orElse(NULL_LOAN),
-                this.getGenres(),
-                loanList);
-    }
-
-    /**
-     * Deletes from the loan history of a book.
-     *
-     * @param loan {@code Loan} to be added into the history.
-     * @return a new {@code Book} with the added loan history.
-     */
-    public Book deleteFromLoanHistory(Loan loan) {
-        assert getLoanHistory().contains(loan) : "Loan history does not contain loan to be deleted.";
-        LoanList newHistory = new LoanList();
-        this.getLoanHistory().forEach(currentLoan -> {
-            if (!currentLoan.equals(loan)) {
-                newHistory.add(currentLoan);
-            }
-        });
-        return new Book(
-                this.getTitle(),
-                this.getSerialNumber(),
-                this.getAuthor(),
-                this.getLoan().orElse(NULL_LOAN),
-                this.getGenres(),
-                newHistory);
+                renewedLoan,
+                this.getGenres());
     }
 
     /**
@@ -244,7 +171,7 @@ public class Book implements Comparable<Book> {
     }
 
     /**
-     * Checks if a book is same, regardless of serial number, loan status and loan history.
+     * Checks if a book is same, regardless of serial number and loan status.
      *
      * @param b Book to be checked against
      * @return true if both books are the same, even if they are different copies
@@ -292,7 +219,7 @@ public class Book implements Comparable<Book> {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, serialNumber, author, genres, loan, loanHistory);
+        return Objects.hash(title, serialNumber, author, genres, loan);
     }
 
     /**
@@ -1,16 +1,23 @@
 package seedu.address.model.book;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.book.Author.isValidAuthor;
 import static seedu.address.model.book.SerialNumber.isValidSerialNumber;
 import static seedu.address.model.book.Title.isValidTitle;
 import static seedu.address.model.genre.Genre.isValidGenreName;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.DateUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.Flag;
 import seedu.address.model.genre.Genre;
@@ -18,11 +25,15 @@ import seedu.address.model.util.SampleDataUtil;
 
 /**
  * Tests that a {@code Book} matches all of the conditions given.
- * Increases performance by returning whenever a condition is not met
+ * Increases performance by returning whenever a condition is not met.
+ * The display limit is not a condition, as it depends on the other books being tested; it is applied by whoever
+ * filters a list of books with this predicate.
  */
 public class BookPredicate implements Predicate<Book> {
     private String title;
+    private List<String> titleKeywords;
     private String author;
+    private List<String> authorKeywords;
     private String serialNumber;
     private Set<Genre> genres;
     private Flag loanState;
@@ -44,19 +55,13 @@ public class BookPredicate implements Predicate<Book> {
     @Override
     public boolean test(Book book) {
 
-        if (title != null
-                && !Arrays.stream(title.split(" "))
-                .allMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(book.getTitle().value, keyword))) {
+        if (title != null && !containsAllKeywords(book.getTitle().getLowerCaseWords(), titleKeywords)) {
             return false;
         }
-        if (author != null
-                && !Arrays.stream(author.split(" "))
-                .allMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(book.getAuthor().value, keyword))) {
+        if (author != null && !containsAllKeywords(book.getAuthor().getLowerCaseWords(), authorKeywords)) {
             return false;
         }
-        if (serialNumber != null
-                && !Stream.of(serialNumber)
-                .allMatch(keyword -> StringUtil.containsWordIgnoreCase(book.getSerialNumber().value, keyword))) {
+        if (serialNumber != null && !matchesSerialNumber(book)) {
             return false;
         }
         if (genres != null
@@ -64,17 +69,90 @@ public class BookPredicate implements Predicate<Book> {
                 .allMatch(keyword -> book.getGenres().contains(keyword))) {
             return false;
         }
-        if ((loanState == Flag.AVAILABLE && book.isCurrentlyLoanedOut())
-                || (loanState == Flag.LOANED && !book.isCurrentlyLoanedOut())
-                || (loanState == Flag.OVERDUE && !book.isOverdue())) {
-            return false;
+        return loanState == null || matchesLoanState(book, DateUtil.getTodayDate());
+    }
+
+    /**
+     * Returns the maximum number of matching books to display, or {@code OptionalInt.empty()} to display all.
+     */
+    public OptionalInt getDisplayLimit() {
+        return displayLimit == -1 ? OptionalInt.empty() : OptionalInt.of(displayLimit);
+    }
+
+    /**
+     * Returns a plan for finding the books in {@code index} that meet the conditions of this predicate.
+     */
+    public BookQueryPlan plan(BookSearchIndex index) {
+        requireNonNull(index);
+        List<BookQueryPlan.Condition> conditions = new ArrayList<>();
+        if (serialNumber != null) {
+            conditions.add(new BookQueryPlan.Condition("serial number " + serialNumber, 1, () ->
+                Collections.singleton(new SerialNumber(serialNumber)), this::matchesSerialNumber));
+        }
+        if (genres != null) {
+            genres.forEach(genre -> conditions.add(new BookQueryPlan.Condition("genre " + genre,
+                index.getGenreMatches(genre).size(), () -> index.getGenreMatches(genre), book ->
+                book.getGenres().contains(genre))));
+        }
+        if (title != null) {
+            titleKeywords.forEach(keyword -> conditions.add(new BookQueryPlan.Condition(
+                "title word containing \"" + keyword + "\"", index.estimateTitleMatches(keyword), () ->
+                index.getTitleMatches(keyword), book -> matchesTitleKeyword(book, keyword))));
+        }
+        if (author != null) {
+            authorKeywords.forEach(keyword -> conditions.add(new BookQueryPlan.Condition(
+                "author word containing \"" + keyword + "\"", index.estimateAuthorMatches(keyword), () ->
+                index.getAuthorMatches(keyword), book -> matchesAuthorKeyword(book, keyword))));
+        }
+        LocalDate today = DateUtil.getTodayDate();
+        if (loanState == Flag.OVERDUE) {
+            conditions.add(new BookQueryPlan.Condition("loan state " + loanState, index.countOverdue(today), () ->
+                index.getOverdueMatches(today), book -> matchesLoanState(book, today)));
+        } else if (loanState == Flag.LOANED) {
+            conditions.add(new BookQueryPlan.Condition("loan state " + loanState, index.countLoaned(),
+                index.getLoanedBits()));
+        } else if (loanState == Flag.AVAILABLE) {
+            conditions.add(new BookQueryPlan.Condition("loan state " + loanState, index.countAvailable(),
+                index.getAvailableBits()));
         }
+        return new BookQueryPlan(conditions, index.size());
+    }
 
-        if (displayLimit > 0) {
-            displayLimit--;
-            return true;
+    /**
+     * Returns the non-empty keywords in {@code keywords}, trimmed and in lower case.
+     */
+    private static List<String> getKeywords(String keywords) {
+        return Arrays.stream(keywords.split(" "))
+                .map(keyword -> keyword.trim().toLowerCase())
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static boolean containsAllKeywords(List<String> lowerCaseWords, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (!StringUtil.containsPartialWord(lowerCaseWords, keyword)) {
+                return false;
+            }
         }
-        return displayLimit == -1;
+        return true;
+    }
+
+    private static boolean matchesTitleKeyword(Book book, String keyword) {
+        return StringUtil.containsPartialWord(book.getTitle().getLowerCaseWords(), keyword);
+    }
+
+    private static boolean matchesAuthorKeyword(Book book, String keyword) {
+        return StringUtil.containsPartialWord(book.getAuthor().getLowerCaseWords(), keyword);
+    }
+
+    private boolean matchesSerialNumber(Book book) {
+        return StringUtil.containsWordIgnoreCase(book.getSerialNumber().value, serialNumber);
+    }
+
+    private boolean matchesLoanState(Book book, LocalDate today) {
+        return !((loanState == Flag.AVAILABLE && book.isCurrentlyLoanedOut())
+                || (loanState == Flag.LOANED && !book.isCurrentlyLoanedOut())
+                || (loanState == Flag.OVERDUE && !book.isOverdue(today)));
     }
 
     /**
@@ -85,6 +163,7 @@ public class BookPredicate implements Predicate<Book> {
     public BookPredicate setTitle(String title) {
         checkArgument(isValidTitle(title), Title.MESSAGE_CONSTRAINTS);
         this.title = title;
+        this.titleKeywords = getKeywords(title);
         return this;
     }
 
@@ -96,6 +175,7 @@ public class BookPredicate implements Predicate<Book> {
     public BookPredicate setAuthor(String author) {
         checkArgument(isValidAuthor(author), Author.MESSAGE_CONSTRAINTS);
         this.author = author;
+        this.authorKeywords = getKeywords(author);
         return this;
     }
 
@@ -0,0 +1,190 @@
+package seedu.address.model.book;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A plan for finding the books that match a {@code BookPredicate}.
+ * The condition with the fewest estimated matches that can be looked up in a {@code BookSearchIndex} drives the
+ * search, and only the books it finds are candidates. The other conditions are checked against each candidate,
+ * the most selective first, so that most candidates are rejected by the first check.
+ * Conditions kept as bit sets of serial numbers are combined with the candidates by bitwise AND instead of being
+ * checked against each candidate.
+ */
+public class BookQueryPlan {
+
+    private final int bookCount;
+    private final Condition driver;
+    private final List<Condition> masks = new ArrayList<>();
+    private final List<Condition> residuals = new ArrayList<>();
+    private final BitSet candidates;
+
+    /**
+     * Plans a search through {@code bookCount} books for the books that match all of {@code conditions}.
+     */
+    BookQueryPlan(List<Condition> conditions, int bookCount) {
+        requireAllNonNull(conditions);
+        this.bookCount = bookCount;
+
+        List<Condition> sortedConditions = new ArrayList<>(conditions);
+        sortedConditions.sort(Comparator.comparingInt(condition -> condition.estimate));
+        Condition indexedDriver = null;
+        for (Condition condition : sortedConditions) {
+            if (condition.bits != null) {
+                masks.add(condition);
+            } else if (indexedDriver == null && condition.lookup != null) {
+                indexedDriver = condition;
+            } else {
+                residuals.add(condition);
+            }
+        }
+        driver = indexedDriver;
+        candidates = getCandidateBits();
+    }
+
+    /**
+     * Returns the bits of the serial numbers found by the driver, ANDed with the bit set of every mask,
+     * or null if there is neither a driver nor a mask.
+     */
+    private BitSet getCandidateBits() {
+        BitSet candidateBits = null;
+        if (driver != null) {
+            candidateBits = new BitSet();
+            for (SerialNumber serialNumber : driver.lookup.get()) {
+                candidateBits.set(serialNumber.serialNumberToInt());
+            }
+        }
+        for (Condition mask : masks) {
+            if (candidateBits == null) {
+                candidateBits = (BitSet) mask.bits.clone();
+            } else {
+                candidateBits.and(mask.bits);
+            }
+        }
+        return candidateBits;
+    }
+
+    /**
+     * Returns the serial numbers of the books that can match, or {@code Optional.empty()} if every book can match
+     * because no condition can be looked up in the index.
+     */
+    public Optional<Set<SerialNumber>> getCandidates() {
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.stream().mapToObj(SerialNumber::fromInt).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Returns a lazy stream of the serial numbers of the books that can match, in increasing order, or
+     * {@code Optional.empty()} if every book can match because no condition can be looked up in the index.
+     */
+    public Optional<Stream<SerialNumber>> streamCandidates() {
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.stream().mapToObj(SerialNumber::fromInt));
+    }
+
+    /**
+     * Returns true if every book is a candidate because no condition can be looked up in the index.
+     */
+    public boolean scansAllBooks() {
+        return candidates == null;
+    }
+
+    /**
+     * Returns the number of books that can match, which is every book if no condition can be looked up in the index.
+     */
+    public int getCandidateCount() {
+        return candidates == null ? bookCount : candidates.cardinality();
+    }
+
+    /**
+     * Returns true if the candidates have conditions left to be checked against each of them.
+     */
+    public boolean hasChecks() {
+        return !residuals.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code book} is a candidate and meets all the other conditions of the plan.
+     */
+    public boolean test(Book book) {
+        if (candidates != null && !candidates.get(book.getSerialNumber().serialNumberToInt())) {
+            return false;
+        }
+        return residuals.stream().allMatch(condition -> condition.check.test(book));
+    }
+
+    /**
+     * Returns a description of how this plan finds the matching books, for debugging.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Plan over ").append(bookCount).append(" books");
+        if (candidates == null) {
+            builder.append("\n  scan all books");
+        } else {
+            if (driver != null) {
+                builder.append("\n  index lookup: ").append(driver);
+            }
+            masks.forEach(condition -> builder.append("\n  bit mask: ").append(condition));
+            builder.append("\n  ").append(candidates.cardinality()).append(" candidates");
+        }
+        residuals.forEach(condition -> builder.append("\n  check: ").append(condition));
+        return builder.toString();
+    }
+
+    /**
+     * A condition that matching books must meet.
+     */
+    static class Condition {
+        private final String description;
+        private final int estimate;
+        private final Supplier<Set<SerialNumber>> lookup;
+        private final BitSet bits;
+        private final Predicate<Book> check;
+
+        /**
+         * Creates a condition that is checked with {@code check}, and that {@code estimate} books are expected
+         * to meet. {@code lookup} returns the serial numbers of the books that can meet the condition, and is null
+         * if the condition cannot be looked up in an index.
+         */
+        Condition(String description, int estimate, Supplier<Set<SerialNumber>> lookup, Predicate<Book> check) {
+            requireAllNonNull(description, check);
+            this.description = description;
+            this.estimate = estimate;
+            this.lookup = lookup;
+            this.bits = null;
+            this.check = check;
+        }
+
+        /**
+         * Creates a condition that is met by the books whose serial numbers have their bits set in {@code bits},
+         * and that {@code estimate} books are expected to meet.
+         */
+        Condition(String description, int estimate, BitSet bits) {
+            requireAllNonNull(description, bits);
+            this.description = description;
+            this.estimate = estimate;
+            this.lookup = null;
+            this.bits = bits;
+            this.check = book -> bits.get(book.getSerialNumber().serialNumberToInt());
+        }
+
+        @Override
+        public String toString() {
+            return description + " (estimated " + estimate + " books)";
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.genre.Genre;
+
+/**
+ * Inverted indexes from the title words, author words and genres of books to the serial numbers of those books.
+ * Words are indexed in lower case, split on whitespace in the same way as
+ * {@link seedu.address.commons.util.StringUtil#containsPartialWordIgnoreCase(String, String)}.
+ * The indexed words are in turn indexed by their trigrams, so that the words containing a keyword can be found
+ * without checking every word.
+ * Books on loan are also indexed by the due date of their loan, so that overdue books are found by a range query.
+ * Whether each book is on loan is kept in bit sets indexed by the number of its serial number, which can be
+ * combined with other bit sets by bitwise operations and counted by a popcount.
+ */
+public class BookSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final WordIndex titleWords = new WordIndex();
+    private final WordIndex authorWords = new WordIndex();
+    private final Map<Genre, Set<SerialNumber>> genrePostings = new HashMap<>();
+    private final TreeMap<LocalDate, Set<SerialNumber>> dueDatePostings = new TreeMap<>();
+    private final BitSet catalogedBits = new BitSet();
+    private final BitSet loanedBits = new BitSet();
+    private int size;
+    private long version;
+
+    /**
+     * Adds {@code book} to the indexes.
+     */
+    public void add(Book book) {
+        requireNonNull(book);
+        SerialNumber serialNumber = book.getSerialNumber();
+        getWords(book.getTitle().getLowerCaseWords()).forEach(word -> titleWords.add(word, serialNumber));
+        getWords(book.getAuthor().getLowerCaseWords()).forEach(word -> authorWords.add(word, serialNumber));
+        book.getGenres().forEach(genre -> addPosting(genrePostings, genre, serialNumber));
+        book.getLoan().ifPresent(loan -> addPosting(dueDatePostings, loan.getDueDate(), serialNumber));
+        catalogedBits.set(serialNumber.serialNumberToInt());
+        loanedBits.set(serialNumber.serialNumberToInt(), book.isCurrentlyLoanedOut());
+        size++;
+        version++;
+    }
+
+    /**
+     * Removes {@code book} from the indexes.
+     * {@code book} must have been added to the indexes.
+     */
+    public void remove(Book book) {
+        requireNonNull(book);
+        SerialNumber serialNumber = book.getSerialNumber();
+        getWords(book.getTitle().getLowerCaseWords()).forEach(word -> titleWords.remove(word, serialNumber));
+        getWords(book.getAuthor().getLowerCaseWords()).forEach(word -> authorWords.remove(word, serialNumber));
+        book.getGenres().forEach(genre -> removePosting(genrePostings, genre, serialNumber));
+        book.getLoan().ifPresent(loan -> removePosting(dueDatePostings, loan.getDueDate(), serialNumber));
+        catalogedBits.clear(serialNumber.serialNumberToInt());
+        loanedBits.clear(serialNumber.serialNumberToInt());
+        size--;
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the indexes with {@code books}.
+     */
+    public void setBooks(Iterable<Book> books) {
+        requireNonNull(books);
+        titleWords.clear();
+        authorWords.clear();
+        genrePostings.clear();
+        dueDatePostings.clear();
+        catalogedBits.clear();
+        loanedBits.clear();
+        size = 0;
+        books.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns the serial numbers of the books with a word in their title that contains {@code keyword},
+     * ignoring case.
+     */
+    public Set<SerialNumber> getTitleMatches(String keyword) {
+        return titleWords.getPartialWordMatches(keyword);
+    }
+
+    /**
+     * Returns the serial numbers of the books with a word in their author that contains {@code keyword},
+     * ignoring case.
+     */
+    public Set<SerialNumber> getAuthorMatches(String keyword) {
+        return authorWords.getPartialWordMatches(keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of books that {@link #getTitleMatches(String)} returns for
+     * {@code keyword}, without collecting their serial numbers.
+     */
+    public int estimateTitleMatches(String keyword) {
+        return Math.min(size, titleWords.estimatePartialWordMatches(keyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of books that {@link #getAuthorMatches(String)} returns for
+     * {@code keyword}, without collecting their serial numbers.
+     */
+    public int estimateAuthorMatches(String keyword) {
+        return Math.min(size, authorWords.estimatePartialWordMatches(keyword));
+    }
+
+    /**
+     * Returns the serial numbers of the books with {@code genre}.
+     */
+    public Set<SerialNumber> getGenreMatches(Genre genre) {
+        requireNonNull(genre);
+        return Collections.unmodifiableSet(genrePostings.getOrDefault(genre, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the serial numbers of the books on loan that were due before {@code today}.
+     */
+    public Set<SerialNumber> getOverdueMatches(LocalDate today) {
+        requireNonNull(today);
+        Set<SerialNumber> matches = new HashSet<>();
+        dueDatePostings.headMap(today).values().forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Returns the number of books on loan that were due before {@code today}.
+     */
+    public int countOverdue(LocalDate today) {
+        requireNonNull(today);
+        return dueDatePostings.headMap(today).values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Returns a bit set with the bits of the serial numbers of the books on loan set.
+     * The bit set is a copy that the caller may modify.
+     */
+    public BitSet getLoanedBits() {
+        return (BitSet) loanedBits.clone();
+    }
+
+    /**
+     * Returns a bit set with the bits of the serial numbers of the books not on loan set.
+     * The bit set is a copy that the caller may modify.
+     */
+    public BitSet getAvailableBits() {
+        BitSet availableBits = (BitSet) catalogedBits.clone();
+        availableBits.andNot(loanedBits);
+        return availableBits;
+    }
+
+    /**
+     * Returns the number of books on loan.
+     */
+    public int countLoaned() {
+        return loanedBits.cardinality();
+    }
+
+    /**
+     * Returns the number of books not on loan.
+     */
+    public int countAvailable() {
+        return catalogedBits.cardinality() - loanedBits.cardinality();
+    }
+
+    /**
+     * Returns the number of books in the indexes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a number that increases every time the indexes are modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the distinct non-empty words in {@code lowerCaseWords}.
+     */
+    private static Set<String> getWords(List<String> lowerCaseWords) {
+        Set<String> words = new HashSet<>();
+        for (String word : lowerCaseWords) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static <K> void addPosting(Map<K, Set<SerialNumber>> postings, K key, SerialNumber serialNumber) {
+        postings.computeIfAbsent(key, unused -> new HashSet<>()).add(serialNumber);
+    }
+
+    /**
+     * Removes {@code serialNumber} from the postings of {@code key}, and the postings themselves if they become empty.
+     * Returns true if the postings of {@code key} were removed.
+     */
+    private static <K> boolean removePosting(Map<K, Set<SerialNumber>> postings, K key, SerialNumber serialNumber) {
+        Set<SerialNumber> serialNumbers = postings.get(key);
+        if (serialNumbers == null) {
+            return false;
+        }
+        serialNumbers.remove(serialNumber);
+        if (serialNumbers.isEmpty()) {
+            postings.remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct substrings of length {@code GRAM_LENGTH} in {@code word}.
+     */
+    private static Set<String> getGrams(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Postings from words to serial numbers, with the words themselves indexed by their trigrams.
+     */
+    private static class WordIndex {
+        private final Map<String, Set<SerialNumber>> wordPostings = new HashMap<>();
+        private final Map<String, Set<String>> gramWords = new HashMap<>();
+
+        void add(String word, SerialNumber serialNumber) {
+            if (!wordPostings.containsKey(word)) {
+                getGrams(word).forEach(gram -> gramWords.computeIfAbsent(gram, unused -> new HashSet<>()).add(word));
+            }
+            addPosting(wordPostings, word, serialNumber);
+        }
+
+        void remove(String word, SerialNumber serialNumber) {
+            if (!removePosting(wordPostings, word, serialNumber)) {
+                return;
+            }
+            for (String gram : getGrams(word)) {
+                Set<String> words = gramWords.get(gram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    gramWords.remove(gram);
+                }
+            }
+        }
+
+        void clear() {
+            wordPostings.clear();
+            gramWords.clear();
+        }
+
+        /**
+         * Returns the serial numbers in the postings of every word that contains {@code keyword}, ignoring case.
+         * Keywords shorter than a trigram are checked against every word.
+         */
+        Set<SerialNumber> getPartialWordMatches(String keyword) {
+            requireNonNull(keyword);
+            String preppedKeyword = keyword.trim().toLowerCase();
+            Set<SerialNumber> matches = new HashSet<>();
+            for (String word : getCandidateWords(preppedKeyword)) {
+                if (word.contains(preppedKeyword)) {
+                    matches.addAll(wordPostings.get(word));
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Returns the total size of the postings of every word that contains {@code keyword}, ignoring case.
+         * Keywords shorter than a trigram are estimated to match every book.
+         */
+        int estimatePartialWordMatches(String keyword) {
+            requireNonNull(keyword);
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (preppedKeyword.length() < GRAM_LENGTH) {
+                return Integer.MAX_VALUE;
+            }
+            int estimate = 0;
+            for (String word : getCandidateWords(preppedKeyword)) {
+                if (word.contains(preppedKeyword)) {
+                    estimate += wordPostings.get(word).size();
+                }
+            }
+            return estimate;
+        }
+
+        /**
+         * Returns the words that contain every trigram of {@code keyword}.
+         */
+        private Set<String> getCandidateWords(String keyword) {
+            if (keyword.length() < GRAM_LENGTH) {
+                return wordPostings.keySet();
+            }
+
+            List<Set<String>> gramPostings = new ArrayList<>();
+            getGrams(keyword).forEach(gram -> gramPostings.add(gramWords.getOrDefault(gram, Collections.emptySet())));
+            gramPostings.sort(Comparator.comparingInt(Set::size));
+
+            Set<String> candidateWords = new HashSet<>(gramPostings.get(0));
+            for (int i = 1; i < gramPostings.size() && !candidateWords.isEmpty(); i++) {
+                candidateWords.retainAll(gramPostings.get(i));
+            }
+            return candidateWords;
+        }
+    }
+}
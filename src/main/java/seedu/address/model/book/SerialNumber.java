@@ -12,7 +12,10 @@ public class SerialNumber implements Comparable<SerialNumber> {
     public static final String MESSAGE_CONSTRAINTS =
             "Serial numbers should start with prefix \"B\", followed by 5 digits. They should be unique.";
     public static final String VALIDATION_REGEX = "B\\d{5}";
+    private static final String PREFIX = "B";
+    private static final String NUMBER_FORMAT = PREFIX + "%05d";
     public final String value;
+    private final int number;
 
     /**
      * Constructs a {@code SerialNumber}.
@@ -23,6 +26,16 @@ public class SerialNumber implements Comparable<SerialNumber> {
         requireNonNull(serialNumber);
         checkArgument(isValidSerialNumber(serialNumber), MESSAGE_CONSTRAINTS);
         value = serialNumber;
+        number = Integer.parseInt(serialNumber.substring(PREFIX.length()));
+    }
+
+    /**
+     * Returns the serial number whose numeric part is {@code number}.
+     *
+     * @param number A number from 0 to 99999.
+     */
+    public static SerialNumber fromInt(int number) {
+        return new SerialNumber(String.format(NUMBER_FORMAT, number));
     }
 
     /**
@@ -38,8 +51,7 @@ public class SerialNumber implements Comparable<SerialNumber> {
      * @return an integer represented by the given serial number.
      */
     public int serialNumberToInt() {
-        assert this.value.length() > 0 : "Invalid serial number";
-        return Integer.parseInt(this.toString().substring(1));
+        return number;
     }
 
     @Override
@@ -56,7 +68,7 @@ public class SerialNumber implements Comparable<SerialNumber> {
 
     @Override
     public int compareTo(SerialNumber b) {
-        return Integer.compare(this.serialNumberToInt(), b.serialNumberToInt());
+        return Integer.compare(number, b.number);
     }
 
     @Override
@@ -3,6 +3,10 @@ package seedu.address.model.book;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -15,6 +19,7 @@ public class Title {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}\\p{Punct} ]*";
 
     public final String value;
+    private List<String> lowerCaseWords;
 
     /**
      * Constructs a {@code Name}.
@@ -35,6 +40,17 @@ public class Title {
     }
 
 
+    /**
+     * Returns the words of this title in lower case, for matching keywords against.
+     * The words are computed on first use and then kept.
+     */
+    public List<String> getLowerCaseWords() {
+        if (lowerCaseWords == null) {
+            lowerCaseWords = StringUtil.toLowerCaseWords(value);
+        }
+        return lowerCaseWords;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -3,6 +3,7 @@ package seedu.address.model.book;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,6 +22,9 @@ import seedu.address.model.book.exceptions.DuplicateBookException;
  * unique in terms of identity in the UniqueBookList. However, the removal of a book uses Book#equals(Object) so
  * as to ensure that the book with exactly the same fields will be removed.
  *
+ * Books are kept sorted by serial number. Each change is located by binary search and applied in place,
+ * so listeners of the list are notified of that single change rather than of a re-sort of the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  */
@@ -36,7 +40,7 @@ public class UniqueBookList implements Iterable<Book> {
      */
     public boolean contains(Book toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return toCheck.equals(booksMap.get(toCheck.getSerialNumber()));
     }
 
     /**
@@ -49,18 +53,36 @@ public class UniqueBookList implements Iterable<Book> {
 
     /**
      * Adds a book to the list.
-     * The book must not already exist in the list.
+     * No book in the list may have the same serial number as the book.
      */
     public void add(Book toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (containsSerialNumber(toAdd.getSerialNumber())) {
             throw new DuplicateBookException();
         }
-        internalList.add(toAdd);
-        Collections.sort(internalList);
+        internalList.add(getInsertionIndex(toAdd.getSerialNumber()), toAdd);
         booksMap.put(toAdd.getSerialNumber(), toAdd);
     }
 
+    /**
+     * Adds all the books in {@code toAdd} to the list, sorting the list only once.
+     * No two books, whether in {@code toAdd} or already in the list, may have the same serial number.
+     */
+    public void addAll(List<Book> toAdd) {
+        requireAllNonNull(toAdd);
+        HashSet<SerialNumber> serialNumbers = new HashSet<>();
+        for (Book book : toAdd) {
+            if (!serialNumbers.add(book.getSerialNumber()) || booksMap.containsKey(book.getSerialNumber())) {
+                throw new DuplicateBookException();
+            }
+        }
+        List<Book> books = new ArrayList<>(internalList);
+        books.addAll(toAdd);
+        Collections.sort(books);
+        internalList.setAll(books);
+        toAdd.forEach(book -> booksMap.put(book.getSerialNumber(), book));
+    }
+
     public Book getBook(SerialNumber bookSn) {
         return booksMap.get(bookSn);
     }
@@ -72,18 +94,22 @@ public class UniqueBookList implements Iterable<Book> {
      */
     public void setBook(Book target, Book editedBook) {
         requireAllNonNull(target, editedBook);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int index = indexOf(target);
+        if (index < 0) {
             throw new BookNotFoundException();
         }
-        if (!target.equals(editedBook) && contains(editedBook)) {
+
+        SerialNumber serialNumber = editedBook.getSerialNumber();
+        if (serialNumber.equals(target.getSerialNumber())) {
+            internalList.set(index, editedBook);
+        } else if (containsSerialNumber(serialNumber)) {
             throw new DuplicateBookException();
+        } else {
+            internalList.remove(index);
+            internalList.add(getInsertionIndex(serialNumber), editedBook);
+            booksMap.remove(target.getSerialNumber());
         }
-        internalList.set(index, editedBook);
-        Collections.sort(internalList);
-
-        booksMap.remove(target.getSerialNumber());
-        booksMap.put(editedBook.getSerialNumber(), editedBook);
+        booksMap.put(serialNumber, editedBook);
     }
 
     /**
@@ -92,16 +118,17 @@ public class UniqueBookList implements Iterable<Book> {
      */
     public void remove(Book toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index < 0) {
             throw new BookNotFoundException();
         }
+        internalList.remove(index);
         booksMap.remove(toRemove.getSerialNumber());
     }
 
     public void setBooks(UniqueBookList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        Collections.sort(internalList);
         booksMap.clear();
         replacement.forEach(book -> booksMap.put(book.getSerialNumber(), book));
     }
@@ -116,8 +143,9 @@ public class UniqueBookList implements Iterable<Book> {
             throw new DuplicateBookException();
         }
 
-        internalList.setAll(books);
-        Collections.sort(internalList);
+        List<Book> sortedBooks = new ArrayList<>(books);
+        Collections.sort(sortedBooks);
+        internalList.setAll(sortedBooks);
         booksMap.clear();
         books.forEach(book -> booksMap.put(book.getSerialNumber(), book));
     }
@@ -148,10 +176,49 @@ public class UniqueBookList implements Iterable<Book> {
     }
 
     /**
-     * Returns true if {@code books} contains only unique books.
+     * Returns the index of the book equal to {@code book} in the list, or a negative number if there is none.
+     */
+    private int indexOf(Book book) {
+        int index = binarySearch(book.getSerialNumber());
+        return index >= 0 && book.equals(internalList.get(index)) ? index : -1;
+    }
+
+    /**
+     * Returns the index at which a book with {@code serialNumber} should be inserted to keep the list sorted.
+     * No book in the list may have the same serial number.
+     */
+    private int getInsertionIndex(SerialNumber serialNumber) {
+        int index = binarySearch(serialNumber);
+        assert index < 0 : "Serial number already in the list";
+        return -(index + 1);
+    }
+
+    /**
+     * Searches the sorted list for the book with {@code serialNumber}.
+     * Follows the return value convention of {@link Collections#binarySearch}.
+     */
+    private int binarySearch(SerialNumber serialNumber) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = internalList.get(mid).getSerialNumber().compareTo(serialNumber);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns true if no two books in {@code books} have the same serial number.
      */
     private boolean booksAreUnique(List<Book> books) {
-        HashSet<Book> bookSet = new HashSet<>(books);
-        return bookSet.size() == books.size();
+        HashSet<SerialNumber> serialNumbers = new HashSet<>();
+        return books.stream().allMatch(book -> serialNumbers.add(book.getSerialNumber()));
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.borrower;
 
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.loan.Loan;
@@ -77,6 +78,16 @@ public class Borrower {
         return currentLoanList.addToNewCopy(newLoan);
     }
 
+    /**
+     * Adds new Loan objects to a single new copy of the currentLoanList.
+     *
+     * @param newLoans New {@code Loan} objects to be added to currentLoanList.
+     * @return A new copy of currentLoanList with the new Loan objects added in to it.
+     */
+    public LoanList getAddedCurrentLoanList(List<Loan> newLoans) {
+        return currentLoanList.addAllToNewCopy(newLoans);
+    }
+
     /**
      * Removes a Loan object from a new copy of the currentLoanList.
      *
@@ -87,6 +98,16 @@ public class Borrower {
         return currentLoanList.removeFromNewCopy(returnedLoan);
     }
 
+    /**
+     * Removes Loan objects from a single new copy of the currentLoanList.
+     *
+     * @param removedLoans {@code Loan} objects to be removed from the currentLoanList.
+     * @return A new copy of the currentLoanList with the Loan objects removed from it.
+     */
+    public LoanList getRemovedCurrentLoanList(List<Loan> removedLoans) {
+        return currentLoanList.removeAllFromNewCopy(removedLoans);
+    }
+
     /**
      * Replaces a a Loan object in a new copy of the currentLoanList.
      *
@@ -130,8 +151,31 @@ public class Borrower {
      *
      * @return Total remaining fine amount in cents/
      */
-    public int getOutstandingFineAmount() {
-        return returnedLoanList.calculateOutstandingFineAmount();
+    public long getOutstandingFineAmount() {
+        return returnedLoanList.getOutstandingFineAmount();
+    }
+
+    /**
+     * Gets the total fine amount paid from Borrower's returnedLoanList.
+     *
+     * @return Total paid fine amount in cents.
+     */
+    public long getPaidFineAmount() {
+        return returnedLoanList.getPaidFineAmount();
+    }
+
+    /**
+     * Returns the number of books the Borrower currently loans.
+     */
+    public int getActiveLoanCount() {
+        return currentLoanList.getActiveLoanCount();
+    }
+
+    /**
+     * Returns the number of books the Borrower returned after their due date.
+     */
+    public int getOverdueLoanCount() {
+        return returnedLoanList.getOverdueLoanCount();
     }
 
     /**
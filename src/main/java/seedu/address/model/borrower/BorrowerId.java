@@ -11,12 +11,32 @@ public class BorrowerId {
     public static final String MESSAGE_CONSTRAINTS = "Borrower's ID should start with prefix \"K\", "
             + "followed by 4 digits. They should be unique.";
     private static final String VALIDATION_REGEX = "K\\d{4}";
+    private static final String PREFIX = "K";
+    private static final String NUMBER_FORMAT = PREFIX + "%04d";
     public final String value;
+    private final int number;
 
     public BorrowerId(String borrowerId) {
         requireNonNull(borrowerId);
         checkArgument(isValidBorrowerId(borrowerId), MESSAGE_CONSTRAINTS);
         value = borrowerId;
+        number = Integer.parseInt(borrowerId.substring(PREFIX.length()));
+    }
+
+    /**
+     * Returns the borrower ID whose numeric part is {@code number}.
+     *
+     * @param number A number from 0 to 9999.
+     */
+    public static BorrowerId fromInt(int number) {
+        return new BorrowerId(String.format(NUMBER_FORMAT, number));
+    }
+
+    /**
+     * Returns the numeric part of this borrower ID.
+     */
+    public int borrowerIdToInt() {
+        return number;
     }
 
     public static boolean isValidBorrowerId(String borrowerId) {
@@ -0,0 +1,120 @@
+package seedu.address.model.borrower;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index from the name words, phone, email and id of borrowers to the ids of those borrowers.
+ * Tokens are indexed in lower case in a sorted map, so that the tokens starting with a keyword are found by a
+ * range query instead of checking every borrower.
+ */
+public class BorrowerSearchIndex {
+
+    private static final int EXACT_MATCH_SCORE = 2;
+    private static final int PREFIX_MATCH_SCORE = 1;
+
+    private final TreeMap<String, Set<BorrowerId>> tokenPostings = new TreeMap<>();
+
+    /**
+     * Adds {@code borrower} to the index.
+     */
+    public void add(Borrower borrower) {
+        requireNonNull(borrower);
+        getTokens(borrower).forEach(token ->
+                tokenPostings.computeIfAbsent(token, unused -> new HashSet<>()).add(borrower.getBorrowerId()));
+    }
+
+    /**
+     * Removes {@code borrower} from the index.
+     */
+    public void remove(Borrower borrower) {
+        requireNonNull(borrower);
+        for (String token : getTokens(borrower)) {
+            Set<BorrowerId> borrowerIds = tokenPostings.get(token);
+            if (borrowerIds == null) {
+                continue;
+            }
+            borrowerIds.remove(borrower.getBorrowerId());
+            if (borrowerIds.isEmpty()) {
+                tokenPostings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every borrower from the index.
+     */
+    public void clear() {
+        tokenPostings.clear();
+    }
+
+    /**
+     * Returns the ids of the borrowers with a token starting with each of {@code keywords}, ignoring case.
+     * Borrowers with more tokens equal to a keyword come first.
+     */
+    public List<BorrowerId> find(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<BorrowerId, Integer> scores = null;
+        for (String keyword : keywords) {
+            Map<BorrowerId, Integer> keywordScores = getPrefixMatches(keyword.trim().toLowerCase());
+            if (scores == null) {
+                scores = keywordScores;
+            } else {
+                scores.keySet().retainAll(keywordScores.keySet());
+                scores.replaceAll((borrowerId, score) -> score + keywordScores.get(borrowerId));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        if (scores == null) {
+            return new ArrayList<>();
+        }
+
+        Map<BorrowerId, Integer> finalScores = scores;
+        List<BorrowerId> matches = new ArrayList<>(scores.keySet());
+        matches.sort(Comparator.<BorrowerId>comparingInt(finalScores::get).reversed()
+                .thenComparing(borrowerId -> borrowerId.value));
+        return matches;
+    }
+
+    /**
+     * Returns the ids of the borrowers with a token starting with {@code prefix}, each with the score of its best
+     * matching token.
+     */
+    private Map<BorrowerId, Integer> getPrefixMatches(String prefix) {
+        Map<BorrowerId, Integer> matches = new HashMap<>();
+        if (prefix.isEmpty()) {
+            return matches;
+        }
+        tokenPostings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).forEach((token, borrowerIds) -> {
+            int score = token.equals(prefix) ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE;
+            borrowerIds.forEach(borrowerId -> matches.merge(borrowerId, score, Math::max));
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the distinct lower case tokens that {@code borrower} is indexed by.
+     */
+    private static Set<String> getTokens(Borrower borrower) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : borrower.getName().name.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+        tokens.add(borrower.getPhone().value);
+        tokens.add(borrower.getEmail().value.toLowerCase());
+        tokens.add(borrower.getBorrowerId().value.toLowerCase());
+        return tokens;
+    }
+}
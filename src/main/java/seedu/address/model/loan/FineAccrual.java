@@ -0,0 +1,110 @@
+package seedu.address.model.loan;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.borrower.BorrowerId;
+
+/**
+ * Keeps track of the overdue days accrued by loans whose books have not been returned, for each borrower.
+ * Active loans are indexed by due date. For each borrower, only the number of overdue loans and the sum of their
+ * due dates are kept, from which the overdue days accrued by any date follow directly. A sweep to a new date only
+ * goes through the loans that became overdue since the last sweep, however many days are skipped.
+ */
+public class FineAccrual {
+
+    private final TreeMap<LocalDate, Map<LoanId, Loan>> activeLoansByDueDate = new TreeMap<>();
+    private final Map<BorrowerId, Accrual> borrowerAccruals = new HashMap<>();
+    private LocalDate sweepDate = LocalDate.MIN;
+
+    /**
+     * Adds {@code loan}, whose book has not been returned, to the accrual.
+     */
+    public void add(Loan loan) {
+        requireNonNull(loan);
+        activeLoansByDueDate.computeIfAbsent(loan.getDueDate(), unused -> new HashMap<>())
+                .put(loan.getLoanId(), loan);
+        if (loan.getDueDate().isBefore(sweepDate)) {
+            accrue(loan, 1);
+        }
+    }
+
+    /**
+     * Removes {@code loan} from the accrual, if it was added.
+     */
+    public void remove(Loan loan) {
+        requireNonNull(loan);
+        Map<LoanId, Loan> loans = activeLoansByDueDate.get(loan.getDueDate());
+        if (loans == null || loans.remove(loan.getLoanId()) == null) {
+            return;
+        }
+        if (loans.isEmpty()) {
+            activeLoansByDueDate.remove(loan.getDueDate());
+        }
+        if (loan.getDueDate().isBefore(sweepDate)) {
+            accrue(loan, -1);
+        }
+    }
+
+    /**
+     * Brings the accrual up to {@code today}, counting the loans due before {@code today} as overdue.
+     * Only the loans due between the last sweep and {@code today} are gone through.
+     */
+    public void sweepTo(LocalDate today) {
+        requireNonNull(today);
+        if (today.isAfter(sweepDate)) {
+            activeLoansByDueDate.subMap(sweepDate, true, today, false).values()
+                    .forEach(loans -> loans.values().forEach(loan -> accrue(loan, 1)));
+        } else if (today.isBefore(sweepDate)) {
+            activeLoansByDueDate.subMap(today, true, sweepDate, false).values()
+                    .forEach(loans -> loans.values().forEach(loan -> accrue(loan, -1)));
+        }
+        sweepDate = today;
+    }
+
+    /**
+     * Returns the date the accrual was last swept to.
+     */
+    public LocalDate getSweepDate() {
+        return sweepDate;
+    }
+
+    /**
+     * Returns the total overdue days accrued by the active loans of the borrower with {@code borrowerId} as of the
+     * last sweep.
+     */
+    public long getAccruedDays(BorrowerId borrowerId) {
+        requireNonNull(borrowerId);
+        Accrual accrual = borrowerAccruals.get(borrowerId);
+        return accrual == null ? 0 : accrual.getAccruedDays(sweepDate);
+    }
+
+    private void accrue(Loan loan, int sign) {
+        Accrual borrowerAccrual = borrowerAccruals.computeIfAbsent(loan.getBorrowerId(), unused -> new Accrual());
+        borrowerAccrual.update(loan.getDueDate(), sign);
+        if (borrowerAccrual.overdueLoanCount == 0) {
+            borrowerAccruals.remove(loan.getBorrowerId());
+        }
+    }
+
+    /**
+     * The number of overdue loans and the sum of their due dates, as days since the epoch.
+     */
+    private static class Accrual {
+        private int overdueLoanCount;
+        private long dueEpochDaySum;
+
+        void update(LocalDate dueDate, int sign) {
+            overdueLoanCount += sign;
+            dueEpochDaySum += sign * dueDate.toEpochDay();
+        }
+
+        long getAccruedDays(LocalDate today) {
+            return overdueLoanCount * today.toEpochDay() - dueEpochDaySum;
+        }
+    }
+}
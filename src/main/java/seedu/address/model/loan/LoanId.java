@@ -14,6 +14,7 @@ public class LoanId implements Comparable<LoanId> {
     public static final String PREFIX = "L";
     public static final String VALIDATION_REGEX = PREFIX + "\\d{6}";
     public final String value;
+    private final int number;
 
     /**
      * Constructs a {@code LoanId}
@@ -24,6 +25,7 @@ public class LoanId implements Comparable<LoanId> {
         requireNonNull(loanId);
         checkArgument(isValidLoanId(loanId), MESSAGE_CONSTRAINTS);
         value = loanId;
+        number = Integer.parseInt(loanId.substring(PREFIX.length()));
     }
 
     /**
@@ -36,6 +38,15 @@ public class LoanId implements Comparable<LoanId> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the number of this loan ID, without its prefix.
+     *
+     * @return An integer represented by this loan ID.
+     */
+    public int loanIdToInt() {
+        return number;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -43,8 +54,7 @@ public class LoanId implements Comparable<LoanId> {
 
     @Override
     public int compareTo(LoanId other) {
-        return Integer.compare(
-                Integer.parseInt(this.toString().substring(1)), Integer.parseInt(other.toString().substring(1)));
+        return Integer.compare(number, other.number);
     }
 
     @Override
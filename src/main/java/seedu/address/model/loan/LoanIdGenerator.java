@@ -1,5 +1,8 @@
 package seedu.address.model.loan;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.model.LoanRecords;
 
 /**
@@ -17,12 +20,28 @@ public class LoanIdGenerator {
     }
 
     /**
-     * Generates a loan ID based on the current loan ID index.
+     * Generates a loan ID following the highest loan ID in the loan records.
      *
      * @return A unused {@code LoanId}.
      */
     public static LoanId generateLoanId() {
-        int nextLoanIdDigits = (loanRecords == null ? 0 : loanRecords.getLoanCount()) + 1;
+        int nextLoanIdDigits = (loanRecords == null ? 0 : loanRecords.getHighestLoanIdNumber()) + 1;
         return new LoanId(String.format(LOAN_ID_FORMATTER, nextLoanIdDigits));
     }
+
+    /**
+     * Generates {@code count} consecutive loan IDs following the highest loan ID in the loan records, for loans that
+     * are added to the loan records together.
+     *
+     * @param count Number of loan IDs to generate.
+     * @return Unused {@code LoanId}s, in increasing order.
+     */
+    public static List<LoanId> generateLoanIds(int count) {
+        int firstLoanIdDigits = (loanRecords == null ? 0 : loanRecords.getHighestLoanIdNumber()) + 1;
+        List<LoanId> loanIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            loanIds.add(new LoanId(String.format(LOAN_ID_FORMATTER, firstLoanIdDigits + i)));
+        }
+        return loanIds;
+    }
 }
@@ -1,31 +1,57 @@
 package seedu.address.model.loan;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 /**
- * A list of {@code Loan} objects that represents the loans a borrower currently has.
+ * A list of {@code Loan} objects that represents the loans a borrower currently has, in order of loan id.
+ * The loans are kept in a persistent {@code LoanTree}, so a new copy of the list with a loan added, removed or
+ * replaced shares all but O(log n) of its nodes with the old list.
+ * The fine totals and loan counts of the list are kept in a {@code LoanTotals} updated with the list.
  */
 public class LoanList implements Iterable<Loan> {
-    private final ArrayList<Loan> loanList;
+    private LoanTree loans;
+    private final LoanTotals totals;
 
     public LoanList() {
-        loanList = new ArrayList<>();
+        loans = null;
+        totals = new LoanTotals();
     }
 
-    private LoanList(ArrayList<Loan> newList) {
-        this.loanList = newList;
+    private LoanList(LoanTree loans, LoanTotals totals) {
+        this.loans = loans;
+        this.totals = totals;
     }
 
     /**
-     * Adds a {@code Loan} object into the list.
+     * Adds a {@code Loan} object into the list, in place of any loan with the same loan id.
      *
      * @param loan {@code Loan} object to be added.
      */
     public void add(Loan loan) {
-        loanList.add(loan);
-        Collections.sort(loanList);
+        Loan replacedLoan = LoanTree.get(loans, loan.getLoanId());
+        if (replacedLoan != null) {
+            totals.remove(replacedLoan);
+        }
+        loans = LoanTree.put(loans, loan);
+        totals.add(loan);
+    }
+
+    /**
+     * Adds all the {@code Loan} objects in {@code loans} into the list.
+     *
+     * @param loans {@code Loan} objects to be added.
+     */
+    public void addAll(Collection<Loan> loans) {
+        loans.forEach(this::add);
+    }
+
+    /**
+     * Returns a copy of the list that shares its loans with this list, to be updated without changing this list.
+     */
+    private LoanList newCopy() {
+        return new LoanList(loans, new LoanTotals(totals));
     }
 
     /**
@@ -35,28 +61,49 @@ public class LoanList implements Iterable<Loan> {
      * @return A new LoanList with the Loan object added.
      */
     public LoanList addToNewCopy(Loan loan) {
-        ArrayList<Loan> newList = new ArrayList<>(this.loanList);
-        newList.add(loan);
-        Collections.sort(newList);
-        return new LoanList(newList);
+        LoanList newLoanList = newCopy();
+        newLoanList.add(loan);
+        return newLoanList;
+    }
+
+    /**
+     * Adds all the {@code Loan} objects in {@code loans} into a single copy of the list.
+     *
+     * @param loans {@code Loan} objects to be added.
+     * @return A new LoanList with the Loan objects added.
+     */
+    public LoanList addAllToNewCopy(Collection<Loan> loans) {
+        LoanList newLoanList = newCopy();
+        newLoanList.addAll(loans);
+        return newLoanList;
     }
 
     /**
      * Returns the number of {@code Loan} objects in the {@code LoanList}.
      */
     public int size() {
-        return loanList.size();
+        return LoanTree.size(loans);
     }
 
     /**
      * Returns true if the {@code LoanList} is empty.
      */
     public boolean isEmpty() {
-        return loanList.isEmpty();
+        return loans == null;
     }
 
     public boolean contains(Loan loan) {
-        return loanList.contains(loan);
+        return loan.equals(LoanTree.get(loans, loan.getLoanId()));
+    }
+
+    /**
+     * Removes {@code loan} from the list if the list contains it.
+     */
+    private void remove(Loan loan) {
+        if (contains(loan)) {
+            loans = LoanTree.remove(loans, loan.getLoanId());
+            totals.remove(loan);
+        }
     }
 
     /**
@@ -66,11 +113,21 @@ public class LoanList implements Iterable<Loan> {
      * @return A new LoanList with the Loan object removed.
      */
     public LoanList removeFromNewCopy(Loan loan) {
-        ArrayList<Loan> newList = new ArrayList<>(this.loanList);
-        newList.remove(loan);
-        Collections.sort(newList);
-        return new LoanList(newList);
+        LoanList newLoanList = newCopy();
+        newLoanList.remove(loan);
+        return newLoanList;
+    }
 
+    /**
+     * Removes all the {@code Loan} objects in {@code loans} from a single copy of the list.
+     *
+     * @param loans {@code Loan} objects to be removed.
+     * @return A new LoanList with the Loan objects removed.
+     */
+    public LoanList removeAllFromNewCopy(Collection<Loan> loans) {
+        LoanList newLoanList = newCopy();
+        loans.forEach(newLoanList::remove);
+        return newLoanList;
     }
 
     /**
@@ -82,30 +139,73 @@ public class LoanList implements Iterable<Loan> {
      * @return A new LoanList with the Loan object replaced.
      */
     public LoanList replaceInNewCopy(Loan loanToBeReplaced, Loan replacingLoan) {
-        assert loanList.contains(loanToBeReplaced) : "loanList does not contain loanToBeReplaced!";
+        assert contains(loanToBeReplaced) : "loanList does not contain loanToBeReplaced!";
 
-        ArrayList<Loan> newList = new ArrayList<>(this.loanList);
-        newList.set(newList.indexOf(loanToBeReplaced), replacingLoan);
-        Collections.sort(newList);
-        return new LoanList(newList);
+        LoanList newLoanList = newCopy();
+        newLoanList.remove(loanToBeReplaced);
+        newLoanList.add(replacingLoan);
+        return newLoanList;
     }
 
     /**
-     * Adds up all the remaining fine of the loans.
+     * Replaces each {@code Loan} object in {@code loansToBeReplaced} with the {@code Loan} object at the same position
+     * in {@code replacingLoans}, in a single copy of the list.
+     * Each replacing loan must have the same loan id as the loan it replaces, so the list stays in order.
      *
-     * @return Total remaining fine amount in cents.
+     * @param loansToBeReplaced {@code Loan} objects to be removed, which the list should contain.
+     * @param replacingLoans Replacing {@code Loan} objects.
+     * @return A new LoanList with the Loan objects replaced.
      */
-    public int calculateOutstandingFineAmount() {
-        int total = 0;
-        for (Loan loan : loanList) {
-            total += loan.getRemainingFineAmount();
+    public LoanList replaceAllInNewCopy(List<Loan> loansToBeReplaced, List<Loan> replacingLoans) {
+        assert loansToBeReplaced.size() == replacingLoans.size() : "Every loan to be replaced needs a replacement!";
+
+        LoanList newLoanList = newCopy();
+        for (int i = 0; i < loansToBeReplaced.size(); i++) {
+            Loan loanToBeReplaced = loansToBeReplaced.get(i);
+            Loan replacingLoan = replacingLoans.get(i);
+            assert loanToBeReplaced.compareTo(replacingLoan) == 0 : "Replacing loan has a different loan id!";
+            assert contains(loanToBeReplaced) : "loanList does not contain loanToBeReplaced!";
+
+            newLoanList.add(replacingLoan);
         }
-        return total;
+        return newLoanList;
+    }
+
+    /**
+     * Returns the total remaining fine of the loans.
+     *
+     * @return Total remaining fine amount in cents.
+     */
+    public long getOutstandingFineAmount() {
+        return totals.getOutstandingFineAmount();
+    }
+
+    /**
+     * Returns the total fine paid for the loans.
+     *
+     * @return Total paid fine amount in cents.
+     */
+    public long getPaidFineAmount() {
+        return totals.getPaidFineAmount();
+    }
+
+    /**
+     * Returns the number of loans whose books have not been returned.
+     */
+    public int getActiveLoanCount() {
+        return totals.getActiveLoanCount();
+    }
+
+    /**
+     * Returns the number of loans whose books were returned after their due date.
+     */
+    public int getOverdueLoanCount() {
+        return totals.getOverdueLoanCount();
     }
 
     @Override
     public Iterator<Loan> iterator() {
-        return loanList.iterator();
+        return LoanTree.iterator(loans);
     }
 
     @Override
@@ -119,6 +219,15 @@ public class LoanList implements Iterable<Loan> {
         }
 
         LoanList otherLoanList = (LoanList) o;
-        return this.loanList.equals(otherLoanList.loanList);
+        if (this.size() != otherLoanList.size()) {
+            return false;
+        }
+        Iterator<Loan> otherLoans = otherLoanList.iterator();
+        for (Loan loan : this) {
+            if (!loan.equals(otherLoans.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 }
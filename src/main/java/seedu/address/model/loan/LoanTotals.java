@@ -0,0 +1,118 @@
+package seedu.address.model.loan;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Running totals over a collection of loans: the fines outstanding and paid, the number of loans not yet returned
+ * and the number of loans returned after their due date.
+ * The totals are updated as loans are added and removed, so reading them does not go through the loans.
+ * The fines of many loans together can exceed the fine of any one loan, so they are kept as longs.
+ */
+public class LoanTotals {
+
+    private long outstandingFineAmount; // in cents
+    private long paidFineAmount; // in cents
+    private int activeLoanCount;
+    private int overdueLoanCount;
+
+    public LoanTotals() {}
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public LoanTotals(LoanTotals toBeCopied) {
+        requireNonNull(toBeCopied);
+        outstandingFineAmount = toBeCopied.outstandingFineAmount;
+        paidFineAmount = toBeCopied.paidFineAmount;
+        activeLoanCount = toBeCopied.activeLoanCount;
+        overdueLoanCount = toBeCopied.overdueLoanCount;
+    }
+
+    /**
+     * Adds {@code loan} to the totals.
+     */
+    public void add(Loan loan) {
+        requireNonNull(loan);
+        outstandingFineAmount = Math.addExact(outstandingFineAmount, loan.getRemainingFineAmount());
+        paidFineAmount = Math.addExact(paidFineAmount, loan.getPaidFineAmount());
+        updateCounts(loan, 1);
+    }
+
+    /**
+     * Removes {@code loan}, which must have been added, from the totals.
+     */
+    public void remove(Loan loan) {
+        requireNonNull(loan);
+        outstandingFineAmount = Math.subtractExact(outstandingFineAmount, loan.getRemainingFineAmount());
+        paidFineAmount = Math.subtractExact(paidFineAmount, loan.getPaidFineAmount());
+        updateCounts(loan, -1);
+    }
+
+    /**
+     * Replaces {@code existingLoan}, which must have been added, with {@code updatedLoan} in the totals.
+     */
+    public void replace(Loan existingLoan, Loan updatedLoan) {
+        remove(existingLoan);
+        add(updatedLoan);
+    }
+
+    private void updateCounts(Loan loan, int sign) {
+        if (loan.getReturnDate() == null) {
+            activeLoanCount += sign;
+        } else if (loan.getReturnDate().isAfter(loan.getDueDate())) {
+            overdueLoanCount += sign;
+        }
+    }
+
+    /**
+     * Returns the total remaining fine of the loans, in cents.
+     */
+    public long getOutstandingFineAmount() {
+        return outstandingFineAmount;
+    }
+
+    /**
+     * Returns the total fine paid for the loans, in cents.
+     */
+    public long getPaidFineAmount() {
+        return paidFineAmount;
+    }
+
+    /**
+     * Returns the number of loans whose books have not been returned.
+     */
+    public int getActiveLoanCount() {
+        return activeLoanCount;
+    }
+
+    /**
+     * Returns the number of loans whose books were returned after their due date.
+     */
+    public int getOverdueLoanCount() {
+        return overdueLoanCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LoanTotals)) {
+            return false;
+        }
+
+        LoanTotals otherTotals = (LoanTotals) other;
+        return outstandingFineAmount == otherTotals.outstandingFineAmount
+                && paidFineAmount == otherTotals.paidFineAmount
+                && activeLoanCount == otherTotals.activeLoanCount
+                && overdueLoanCount == otherTotals.overdueLoanCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(outstandingFineAmount, paidFineAmount, activeLoanCount, overdueLoanCount);
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model.loan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable AVL tree of {@code Loan} objects ordered by loan id, with at most one loan per loan id.
+ * Updates return a new tree that copies only the nodes on the path to the updated loan and shares every other node
+ * with the old tree, so that they take O(log n) time and space. The empty tree is {@code null}.
+ * Each node keeps the number of its loan id, so that searching the tree compares ints.
+ */
+final class LoanTree {
+    private final int key;
+    private final Loan loan;
+    private final LoanTree left;
+    private final LoanTree right;
+    private final int height;
+    private final int size;
+
+    private LoanTree(LoanTree left, int key, Loan loan, LoanTree right) {
+        this.key = key;
+        this.loan = loan;
+        this.left = left;
+        this.right = right;
+        this.height = Math.max(height(left), height(right)) + 1;
+        this.size = size(left) + size(right) + 1;
+    }
+
+    /**
+     * Returns the number of loans in {@code tree}.
+     */
+    static int size(LoanTree tree) {
+        return tree == null ? 0 : tree.size;
+    }
+
+    private static int height(LoanTree tree) {
+        return tree == null ? 0 : tree.height;
+    }
+
+    /**
+     * Returns the loan in {@code tree} with {@code loanId}, or null if there is none.
+     */
+    static Loan get(LoanTree tree, LoanId loanId) {
+        int key = loanId.loanIdToInt();
+        LoanTree node = tree;
+        while (node != null) {
+            if (key == node.key) {
+                return node.loan;
+            }
+            node = key < node.key ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a tree with the loans in {@code tree} and {@code loan}, in place of any loan with the same loan id.
+     */
+    static LoanTree put(LoanTree tree, Loan loan) {
+        return put(tree, loan.getLoanId().loanIdToInt(), loan);
+    }
+
+    private static LoanTree put(LoanTree tree, int key, Loan loan) {
+        if (tree == null) {
+            return new LoanTree(null, key, loan, null);
+        }
+        if (key == tree.key) {
+            return new LoanTree(tree.left, key, loan, tree.right);
+        }
+        return key < tree.key
+                ? balance(put(tree.left, key, loan), tree.key, tree.loan, tree.right)
+                : balance(tree.left, tree.key, tree.loan, put(tree.right, key, loan));
+    }
+
+    /**
+     * Returns a tree with the loans in {@code tree} except the one with {@code loanId}.
+     */
+    static LoanTree remove(LoanTree tree, LoanId loanId) {
+        return remove(tree, loanId.loanIdToInt());
+    }
+
+    private static LoanTree remove(LoanTree tree, int key) {
+        if (tree == null) {
+            return null;
+        }
+        if (key < tree.key) {
+            return balance(remove(tree.left, key), tree.key, tree.loan, tree.right);
+        }
+        if (key > tree.key) {
+            return balance(tree.left, tree.key, tree.loan, remove(tree.right, key));
+        }
+        if (tree.left == null) {
+            return tree.right;
+        }
+        if (tree.right == null) {
+            return tree.left;
+        }
+        LoanTree successor = first(tree.right);
+        return balance(tree.left, successor.key, successor.loan, remove(tree.right, successor.key));
+    }
+
+    private static LoanTree first(LoanTree tree) {
+        LoanTree node = tree;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    /**
+     * Returns a tree of {@code left}, the {@code loan} with {@code key} and {@code right}, rotated so that the heights
+     * of the subtrees of every node differ by at most one.
+     * {@code left} and {@code right} must be balanced, and their heights must differ by at most two.
+     */
+    private static LoanTree balance(LoanTree left, int key, Loan loan, LoanTree right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new LoanTree(left.left, left.key, left.loan, new LoanTree(left.right, key, loan, right));
+            }
+            LoanTree pivot = left.right;
+            return new LoanTree(new LoanTree(left.left, left.key, left.loan, pivot.left), pivot.key, pivot.loan,
+                    new LoanTree(pivot.right, key, loan, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new LoanTree(new LoanTree(left, key, loan, right.left), right.key, right.loan, right.right);
+            }
+            LoanTree pivot = right.left;
+            return new LoanTree(new LoanTree(left, key, loan, pivot.left), pivot.key, pivot.loan,
+                    new LoanTree(pivot.right, right.key, right.loan, right.right));
+        }
+        return new LoanTree(left, key, loan, right);
+    }
+
+    /**
+     * Returns an iterator over the loans in {@code tree} in order of loan id.
+     */
+    static Iterator<Loan> iterator(LoanTree tree) {
+        return new Iterator<>() {
+            private final Deque<LoanTree> path = new ArrayDeque<>();
+
+            {
+                pushLeftPath(tree);
+            }
+
+            private void pushLeftPath(LoanTree node) {
+                for (LoanTree current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Loan next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                LoanTree node = path.pop();
+                pushLeftPath(node.right);
+                return node.loan;
+            }
+        };
+    }
+}
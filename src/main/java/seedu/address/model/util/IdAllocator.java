@@ -0,0 +1,62 @@
+package seedu.address.model.util;
+
+import java.util.BitSet;
+
+/**
+ * Allocates the lowest free numeric ids, keeping the ids in use in a bit set.
+ * Ids are allocated in increasing order from the last allocated id, so an id that was allocated but never marked
+ * as used is not allocated again until the allocator is reset or a lower id is freed.
+ */
+public class IdAllocator {
+
+    private final int firstId;
+    private final BitSet usedIds = new BitSet();
+    private int nextId;
+
+    /**
+     * Creates an allocator that allocates ids from {@code firstId} onwards.
+     */
+    public IdAllocator(int firstId) {
+        this.firstId = firstId;
+        this.nextId = firstId;
+    }
+
+    /**
+     * Records that {@code id} is in use.
+     */
+    public void markUsed(int id) {
+        usedIds.set(id);
+    }
+
+    /**
+     * Records that {@code id} is no longer in use, so that it can be allocated again.
+     */
+    public void markFree(int id) {
+        usedIds.clear(id);
+        nextId = Math.max(firstId, Math.min(nextId, id));
+    }
+
+    /**
+     * Records that no id is in use, and starts allocating from the first id again.
+     */
+    public void clear() {
+        usedIds.clear();
+        reset();
+    }
+
+    /**
+     * Starts allocating from the lowest free id again.
+     */
+    public void reset() {
+        nextId = firstId;
+    }
+
+    /**
+     * Returns the lowest id that is not in use and has not been allocated since the last reset.
+     */
+    public int allocate() {
+        int id = usedIds.nextClearBit(nextId);
+        nextId = id + 1;
+        return id;
+    }
+}
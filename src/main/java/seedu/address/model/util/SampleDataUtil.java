@@ -149,14 +149,13 @@ public class SampleDataUtil {
     /**
      * Returns a sample {@code Catalog} populated with books corresponding to the given loanRecords
      *
-     * @param loanRecords loan records to populate loan history of books in sample catalog
+     * @param loanRecords loan records to find the current loans of books in sample catalog
      */
     public static ReadOnlyCatalog getSampleCatalog(ReadOnlyLoanRecords loanRecords) {
         Catalog catalog = new Catalog();
         Arrays.stream(getSampleBooks()).map(
             book -> {
-                // Populate book with the relevant loan records
-                LoanList loanList = new LoanList();
+                // Populate book with its current loan
                 Book updatedBook = new Book(
                     book.getTitle(),
                     book.getSerialNumber(),
@@ -173,8 +172,7 @@ public class SampleDataUtil {
                         updatedBook = book.loanOut(loan);
                     }
                 }
-                listOfLoans.forEach(loanList::add);
-                return updatedBook.addToLoanHistory(loanList);
+                return updatedBook;
             }
         ).forEach(catalog::addBook);
         return catalog;
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.ReadOnlyBorrowerRecords;
+import seedu.address.model.ReadOnlyCatalog;
+import seedu.address.model.ReadOnlyLoanRecords;
+
+/**
+ * The loan records, catalog and borrower records read from storage together.
+ */
+public class LibraryRecords {
+
+    private final ReadOnlyLoanRecords loanRecords;
+    private final ReadOnlyCatalog catalog;
+    private final ReadOnlyBorrowerRecords borrowerRecords;
+
+    public LibraryRecords(ReadOnlyLoanRecords loanRecords, ReadOnlyCatalog catalog,
+            ReadOnlyBorrowerRecords borrowerRecords) {
+        requireAllNonNull(loanRecords, catalog, borrowerRecords);
+        this.loanRecords = loanRecords;
+        this.catalog = catalog;
+        this.borrowerRecords = borrowerRecords;
+    }
+
+    public ReadOnlyLoanRecords getLoanRecords() {
+        return loanRecords;
+    }
+
+    public ReadOnlyCatalog getCatalog() {
+        return catalog;
+    }
+
+    public ReadOnlyBorrowerRecords getBorrowerRecords() {
+        return borrowerRecords;
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyBorrowerRecords;
+import seedu.address.model.ReadOnlyCatalog;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.storage.borrowerrecords.BorrowerRecordsStorage;
+import seedu.address.storage.catalog.CatalogStorage;
+import seedu.address.storage.loanrecords.LoanRecordsStorage;
+
+/**
+ * Reads the loan records, catalog and borrower records together.
+ * The three data files are parsed concurrently, and the catalog and borrower records are only linked to their loans
+ * once the loan records are ready. The time taken by each phase is logged.
+ */
+public class LibraryRecordsLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(LibraryRecordsLoader.class);
+    private static final String LOADER_THREAD_NAME = "storage-loader";
+
+    private final LoanRecordsStorage loanRecordsStorage;
+    private final CatalogStorage catalogStorage;
+    private final BorrowerRecordsStorage borrowerRecordsStorage;
+
+    public LibraryRecordsLoader(LoanRecordsStorage loanRecordsStorage, CatalogStorage catalogStorage,
+            BorrowerRecordsStorage borrowerRecordsStorage) {
+        requireAllNonNull(loanRecordsStorage, catalogStorage, borrowerRecordsStorage);
+        this.loanRecordsStorage = loanRecordsStorage;
+        this.catalogStorage = catalogStorage;
+        this.borrowerRecordsStorage = borrowerRecordsStorage;
+    }
+
+    /**
+     * Returns the library records, or {@code Optional.empty()} if any of the data files is not found.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    public Optional<LibraryRecords> load() throws DataConversionException, IOException {
+        long startTime = System.nanoTime();
+        ExecutorService parser = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, LOADER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Future<Optional<UnlinkedRecords<ReadOnlyCatalog>>> catalogFuture = parser.submit(() ->
+                timePhase("Parse catalog", catalogStorage::parseCatalog));
+            Future<Optional<UnlinkedRecords<ReadOnlyBorrowerRecords>>> borrowerRecordsFuture = parser.submit(() ->
+                timePhase("Parse borrower records", borrowerRecordsStorage::parseBorrowerRecords));
+            Optional<ReadOnlyLoanRecords> loanRecords =
+                timePhase("Read loan records", loanRecordsStorage::readLoanRecords);
+            Optional<UnlinkedRecords<ReadOnlyCatalog>> unlinkedCatalog = getResult(catalogFuture);
+            Optional<UnlinkedRecords<ReadOnlyBorrowerRecords>> unlinkedBorrowerRecords =
+                getResult(borrowerRecordsFuture);
+
+            if (loanRecords.isEmpty() || unlinkedCatalog.isEmpty() || unlinkedBorrowerRecords.isEmpty()) {
+                return Optional.empty();
+            }
+
+            ReadOnlyCatalog catalog = timePhase("Link catalog", () ->
+                unlinkedCatalog.get().link(loanRecords.get()));
+            ReadOnlyBorrowerRecords borrowerRecords = timePhase("Link borrower records", () ->
+                unlinkedBorrowerRecords.get().link(loanRecords.get()));
+            logger.info("Loaded library records in " + getElapsedMillis(startTime) + " ms");
+            return Optional.of(new LibraryRecords(loanRecords.get(), catalog, borrowerRecords));
+        } finally {
+            parser.shutdownNow();
+        }
+    }
+
+    private static <T> T timePhase(String phase, StorageTask<T> task) throws DataConversionException, IOException {
+        long startTime = System.nanoTime();
+        T result = task.call();
+        logger.info(phase + " took " + getElapsedMillis(startTime) + " ms");
+        return result;
+    }
+
+    private static long getElapsedMillis(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Waits for {@code future} and returns its result, rethrowing any exception it completed with.
+     */
+    private static <T> T getResult(Future<T> future) throws DataConversionException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading library records", ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Represents a step of reading the library records.
+     */
+    @FunctionalInterface
+    private interface StorageTask<T> {
+        T call() throws DataConversionException, IOException;
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs the save tasks of {@code StorageManager}.
+ * A synchronous executor runs each task immediately on the calling thread.
+ * An asynchronous executor runs the tasks in order on a single background writer thread, so that commands do not
+ * wait for the disk. A task that is still waiting to run is replaced by a later task with the same key, so a burst
+ * of commands results in a single write per data file. A task submitted with {@link #submitInOrder} is never
+ * overtaken: tasks submitted after it always run after it, even if a task with the same key is waiting before it.
+ * It is also skipped if any task that ran since the previous task submitted in order failed, as it may depend on the
+ * writes of those tasks.
+ */
+public class PersistenceExecutor {
+
+    /**
+     * A task that writes data to storage.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        void save() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceExecutor.class);
+    private static final String WRITER_THREAD_NAME = "storage-writer";
+
+    private final boolean isAsynchronous;
+    /** Waiting tasks, in runs of coalescible tasks; each run but the last ends with a task submitted in order. */
+    private final Deque<Map<String, SaveTask>> pendingTasks = new ArrayDeque<>(List.of(new LinkedHashMap<>()));
+    private final ExecutorService writer;
+    private boolean isWriterBusy;
+    private IOException deferredException;
+    /** Whether a task of the run being written failed; only used by the writer thread. */
+    private boolean isRunFailed;
+
+    /**
+     * Creates a {@code PersistenceExecutor} that runs save tasks in the background if {@code isAsynchronous}
+     * is true, or on the calling thread otherwise.
+     */
+    public PersistenceExecutor(boolean isAsynchronous) {
+        this.isAsynchronous = isAsynchronous;
+        if (isAsynchronous) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            writer = null;
+        }
+    }
+
+    public boolean isAsynchronous() {
+        return isAsynchronous;
+    }
+
+    /**
+     * Runs {@code task}, or schedules it to run after the tasks already waiting.
+     * A waiting task with the same {@code key} is dropped in favour of {@code task}.
+     *
+     * @throws IOException if {@code task} fails when run synchronously, or if an earlier background task failed.
+     */
+    public void submit(String key, SaveTask task) throws IOException {
+        submit(key, task, false);
+    }
+
+    /**
+     * Runs {@code task}, or schedules it to run after the tasks already waiting.
+     * A waiting task with the same {@code key} is dropped in favour of {@code task} only if no task submitted in
+     * order is waiting after it, and tasks submitted later are never moved in front of {@code task}.
+     *
+     * @throws IOException if {@code task} fails when run synchronously, or if an earlier background task failed.
+     */
+    public void submitInOrder(String key, SaveTask task) throws IOException {
+        submit(key, task, true);
+    }
+
+    private void submit(String key, SaveTask task, boolean isInOrder) throws IOException {
+        requireAllNonNull(key, task);
+        if (!isAsynchronous) {
+            task.save();
+            return;
+        }
+
+        synchronized (this) {
+            throwDeferredException();
+            Map<String, SaveTask> lastRun = pendingTasks.getLast();
+            lastRun.remove(key);
+            lastRun.put(key, task);
+            if (isInOrder) {
+                pendingTasks.addLast(new LinkedHashMap<>());
+            }
+            if (!isWriterBusy) {
+                isWriterBusy = true;
+                writer.execute(this::runPendingTasks);
+            }
+        }
+    }
+
+    /**
+     * Blocks until every task submitted so far has been written.
+     *
+     * @throws IOException if any background task failed since the last time a failure was reported.
+     */
+    public void flush() throws IOException {
+        if (!isAsynchronous) {
+            return;
+        }
+
+        synchronized (this) {
+            while (isWriterBusy) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for data to be saved", ie);
+                }
+            }
+            throwDeferredException();
+        }
+    }
+
+    /**
+     * Runs waiting tasks on the writer thread until there are none left.
+     * A task submitted in order is the last task of its run, and is skipped if another task of the run failed.
+     */
+    private void runPendingTasks() {
+        while (true) {
+            SaveTask task;
+            boolean isInOrderTask;
+            synchronized (this) {
+                while (pendingTasks.size() > 1 && pendingTasks.getFirst().isEmpty()) {
+                    pendingTasks.removeFirst();
+                }
+                Iterator<SaveTask> iterator = pendingTasks.getFirst().values().iterator();
+                if (!iterator.hasNext()) {
+                    isWriterBusy = false;
+                    notifyAll();
+                    return;
+                }
+                task = iterator.next();
+                iterator.remove();
+                isInOrderTask = pendingTasks.size() > 1 && !iterator.hasNext();
+            }
+
+            if (isInOrderTask && isRunFailed) {
+                logger.warning("Skipped a save task as an earlier save task it depends on failed");
+                isRunFailed = false;
+                continue;
+            }
+
+            try {
+                task.save();
+                if (isInOrderTask) {
+                    isRunFailed = false;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save data in the background: " + e);
+                isRunFailed = !isInOrderTask;
+                synchronized (this) {
+                    if (deferredException == null) {
+                        deferredException = e instanceof IOException ? (IOException) e : new IOException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void throwDeferredException() throws IOException {
+        if (deferredException != null) {
+            IOException e = deferredException;
+            deferredException = null;
+            throw e;
+        }
+    }
+
+}
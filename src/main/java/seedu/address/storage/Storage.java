@@ -6,6 +6,9 @@ import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.LoanSlipException;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
 import seedu.address.model.ReadOnlyBorrowerRecords;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.ReadOnlyLoanRecords;
@@ -65,4 +68,68 @@ public interface Storage extends UserPrefsStorage,
 
     @Override
     void saveBorrowerRecords(ReadOnlyBorrowerRecords borrowerRecords) throws IOException;
+
+    /**
+     * Returns the loan records, catalog and borrower records, read by parsing their data files concurrently.
+     *   Returns {@code Optional.empty()} if any of the data files is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<LibraryRecords> readLibraryRecords() throws DataConversionException, IOException;
+
+    /**
+     * Copies the data files and the journal that exist to backup files next to them, so that they are kept
+     * when the library records they hold cannot be read and are about to be overwritten.
+     *
+     * @throws IOException if any of the files could not be copied.
+     */
+    void backupLibraryRecords() throws IOException;
+
+    // Journal methods
+
+    /**
+     * Returns true if there are changes in the journal that have not been compacted into the data files.
+     *
+     * @throws IOException if there was any problem when reading from the journal.
+     */
+    boolean hasJournalEntries() throws IOException;
+
+    /**
+     * Persists the changes recorded by the given records since their changes were last cleared.
+     * The changes are appended to the journal where possible, and the full data files are only rewritten
+     * when there is no journal, a data file is missing or the journal has grown too large.
+     * The changes may be written in the background; see {@link #flush()}.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveChanges(ReadOnlyLoanRecords loanRecords, ReadOnlyCatalog catalog,
+            ReadOnlyBorrowerRecords borrowerRecords) throws IOException;
+
+    /**
+     * Applies the changes recorded in the journal on top of the given records.
+     *
+     * @return the number of journal entries applied.
+     * @throws DataConversionException if the journal is not in the expected format.
+     * @throws IOException if there was any problem when reading from the journal.
+     */
+    int replayJournal(LoanRecords loanRecords, Catalog catalog, BorrowerRecords borrowerRecords)
+            throws DataConversionException, IOException;
+
+    /**
+     * Saves the given records to their data files in full and clears the journal.
+     * Records that have not changed since this storage last saved them are not written again.
+     * The records may be written in the background; see {@link #flush()}.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void compactJournal(ReadOnlyLoanRecords loanRecords, ReadOnlyCatalog catalog,
+            ReadOnlyBorrowerRecords borrowerRecords) throws IOException;
+
+    /**
+     * Blocks until all library records passed to this storage so far have been written.
+     * Used as a durability barrier by commands whose changes must not be lost.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void flush() throws IOException;
 }
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyBorrowerRecords;
+import seedu.address.model.ReadOnlyCatalog;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.storage.borrowerrecords.BinaryBorrowerRecordsStorage;
+import seedu.address.storage.borrowerrecords.BorrowerRecordsStorage;
+import seedu.address.storage.borrowerrecords.JsonBorrowerRecordsStorage;
+import seedu.address.storage.catalog.BinaryCatalogStorage;
+import seedu.address.storage.catalog.CatalogStorage;
+import seedu.address.storage.catalog.JsonCatalogStorage;
+import seedu.address.storage.loanrecords.BinaryLoanRecordsStorage;
+import seedu.address.storage.loanrecords.JsonLoanRecordsStorage;
+import seedu.address.storage.loanrecords.LoanRecordsStorage;
+import seedu.address.storage.loanrecords.MappedLoanRecordsStorage;
+
+/**
+ * Creates the storages of the library records for each {@link StorageFormat},
+ * and converts the library records saved in one format into another.
+ */
+public class StorageFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageFormatConverter.class);
+
+    /**
+     * Returns a {@code LoanRecordsStorage} of {@code format} for the loan records file in {@code userPrefs}.
+     */
+    public static LoanRecordsStorage createLoanRecordsStorage(StorageFormat format, ReadOnlyUserPrefs userPrefs) {
+        switch (format) {
+        case BINARY:
+            return new BinaryLoanRecordsStorage(format.getDataFilePath(userPrefs.getLoanRecordsFilePath()));
+        case MAPPED:
+            return new MappedLoanRecordsStorage(format.getDataFilePath(userPrefs.getLoanRecordsFilePath()));
+        default:
+            return new JsonLoanRecordsStorage(userPrefs.getLoanRecordsFilePath());
+        }
+    }
+
+    /**
+     * Returns a {@code CatalogStorage} of {@code format} for the catalog file in {@code userPrefs}.
+     */
+    public static CatalogStorage createCatalogStorage(StorageFormat format, ReadOnlyUserPrefs userPrefs) {
+        switch (format) {
+        case BINARY:
+        case MAPPED:
+            return new BinaryCatalogStorage(StorageFormat.BINARY.getDataFilePath(userPrefs.getCatalogFilePath()));
+        default:
+            return new JsonCatalogStorage(userPrefs.getCatalogFilePath());
+        }
+    }
+
+    /**
+     * Returns a {@code BorrowerRecordsStorage} of {@code format} for the borrower records file in {@code userPrefs}.
+     */
+    public static BorrowerRecordsStorage createBorrowerRecordsStorage(StorageFormat format,
+            ReadOnlyUserPrefs userPrefs) {
+        switch (format) {
+        case BINARY:
+        case MAPPED:
+            return new BinaryBorrowerRecordsStorage(
+                    StorageFormat.BINARY.getDataFilePath(userPrefs.getBorrowerRecordsFilePath()));
+        default:
+            return new JsonBorrowerRecordsStorage(userPrefs.getBorrowerRecordsFilePath());
+        }
+    }
+
+    /**
+     * Converts the library records saved in {@code sourceFormat} at the data files in {@code userPrefs}
+     * into {@code targetFormat}.
+     * Returns false, without saving anything, if any of the data files in {@code sourceFormat} is not found.
+     *
+     * @throws DataConversionException if the data files in {@code sourceFormat} are not in the expected format.
+     * @throws IOException if there was any problem reading or writing the data files.
+     */
+    public static boolean convert(ReadOnlyUserPrefs userPrefs, StorageFormat sourceFormat,
+            StorageFormat targetFormat) throws DataConversionException, IOException {
+        requireNonNull(userPrefs);
+        requireNonNull(sourceFormat);
+        requireNonNull(targetFormat);
+
+        Optional<ReadOnlyLoanRecords> loanRecords =
+                createLoanRecordsStorage(sourceFormat, userPrefs).readLoanRecords();
+        if (loanRecords.isEmpty()) {
+            return false;
+        }
+        Optional<ReadOnlyCatalog> catalog =
+                createCatalogStorage(sourceFormat, userPrefs).readCatalog(loanRecords.get());
+        Optional<ReadOnlyBorrowerRecords> borrowerRecords =
+                createBorrowerRecordsStorage(sourceFormat, userPrefs).readBorrowerRecords(loanRecords.get());
+        if (catalog.isEmpty() || borrowerRecords.isEmpty()) {
+            return false;
+        }
+
+        createLoanRecordsStorage(targetFormat, userPrefs).saveLoanRecords(loanRecords.get());
+        createCatalogStorage(targetFormat, userPrefs).saveCatalog(catalog.get());
+        createBorrowerRecordsStorage(targetFormat, userPrefs).saveBorrowerRecords(borrowerRecords.get());
+        logger.info("Converted library records from " + sourceFormat + " to " + targetFormat);
+        return true;
+    }
+
+    /**
+     * Converts the library records into the storage format selected in {@code userPrefs} if they are not found
+     * in that format, from the first other format in which they are found.
+     * Returns the format converted from, or {@code Optional.empty()} if no conversion was done.
+     *
+     * @throws DataConversionException if the data files converted from are not in the expected format.
+     * @throws IOException if there was any problem reading or writing the data files.
+     */
+    public static Optional<StorageFormat> convertToSelectedFormat(ReadOnlyUserPrefs userPrefs)
+            throws DataConversionException, IOException {
+        requireNonNull(userPrefs);
+
+        StorageFormat selectedFormat = userPrefs.getStorageFormat();
+        if (Files.exists(createLoanRecordsStorage(selectedFormat, userPrefs).getLoanRecordsFilePath())) {
+            return Optional.empty();
+        }
+        for (StorageFormat format : StorageFormat.values()) {
+            if (format != selectedFormat && convert(userPrefs, format, selectedFormat)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
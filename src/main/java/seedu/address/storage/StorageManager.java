@@ -1,21 +1,35 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.LoanSlipException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.LoanSlipUtil;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
 import seedu.address.model.ReadOnlyBorrowerRecords;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.ReadOnlyLoanRecords;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.loan.LoanId;
 import seedu.address.storage.borrowerrecords.BorrowerRecordsStorage;
 import seedu.address.storage.catalog.CatalogStorage;
+import seedu.address.storage.journal.JournalEntry;
+import seedu.address.storage.journal.JournalStorage;
 import seedu.address.storage.loanrecords.LoanRecordsStorage;
 
 /**
@@ -23,12 +37,30 @@ import seedu.address.storage.loanrecords.LoanRecordsStorage;
  */
 public class StorageManager implements Storage {
 
+    /** Size of the journal, in bytes, beyond which it is compacted into the data files. */
+    public static final long JOURNAL_COMPACTION_THRESHOLD = 4 * 1024 * 1024;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final String LOAN_RECORDS_SAVE = "loanrecords";
+    private static final String CATALOG_SAVE = "catalog";
+    private static final String BORROWER_RECORDS_SAVE = "borrowerrecords";
+    private static final String JOURNAL_CLEAR = "journal-clear";
+    private static final String JOURNAL_APPEND = "journal-append";
+    private static final String BACKUP_EXTENSION = ".bak";
 
     private UserPrefsStorage userPrefsStorage;
     private LoanRecordsStorage loanRecordsStorage;
     private CatalogStorage catalogStorage;
     private BorrowerRecordsStorage borrowerRecordsStorage;
+    private Optional<JournalStorage> journalStorage;
+    private PersistenceExecutor persistenceExecutor;
+    private final Object journalLock = new Object();
+    /** Entries waiting to be appended to the journal; replaced by a new list whenever the journal is compacted. */
+    private List<JournalEntry> pendingJournalEntries = new ArrayList<>();
+    private final SavedVersion savedLoanRecords = new SavedVersion();
+    private final UnsavedLoanIds unsavedLoanIds = new UnsavedLoanIds();
+    private final SavedVersion savedCatalog = new SavedVersion();
+    private final SavedVersion savedBorrowerRecords = new SavedVersion();
 
     public StorageManager(UserPrefsStorage userPrefsStorage,
                           LoanRecordsStorage loanRecordsStorage, CatalogStorage catalogStorage,
@@ -38,6 +70,27 @@ public class StorageManager implements Storage {
         this.loanRecordsStorage = loanRecordsStorage;
         this.catalogStorage = catalogStorage;
         this.borrowerRecordsStorage = borrowerRecordsStorage;
+        this.journalStorage = Optional.empty();
+        this.persistenceExecutor = new PersistenceExecutor(false);
+    }
+
+    public StorageManager(UserPrefsStorage userPrefsStorage,
+                          LoanRecordsStorage loanRecordsStorage, CatalogStorage catalogStorage,
+                          BorrowerRecordsStorage borrowerRecordsStorage, JournalStorage journalStorage) {
+        this(userPrefsStorage, loanRecordsStorage, catalogStorage, borrowerRecordsStorage);
+        this.journalStorage = Optional.of(journalStorage);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves library records through {@code persistenceExecutor},
+     * which may write them in the background.
+     */
+    public StorageManager(UserPrefsStorage userPrefsStorage,
+                          LoanRecordsStorage loanRecordsStorage, CatalogStorage catalogStorage,
+                          BorrowerRecordsStorage borrowerRecordsStorage, JournalStorage journalStorage,
+                          PersistenceExecutor persistenceExecutor) {
+        this(userPrefsStorage, loanRecordsStorage, catalogStorage, borrowerRecordsStorage, journalStorage);
+        this.persistenceExecutor = persistenceExecutor;
     }
 
     // ================ UserPrefs methods ==============================
@@ -80,6 +133,13 @@ public class StorageManager implements Storage {
         saveLoanRecords(loanRecords, loanRecordsStorage.getLoanRecordsFilePath());
     }
 
+    @Override
+    public void saveLoanRecords(ReadOnlyLoanRecords loanRecords, Set<LoanId> changedLoanIds) throws IOException {
+        logger.fine("Attempting to write " + changedLoanIds.size() + " changed loans to data file: "
+                + getLoanRecordsFilePath());
+        loanRecordsStorage.saveLoanRecords(loanRecords, changedLoanIds);
+    }
+
     @Override
     public void saveLoanRecords(ReadOnlyLoanRecords loanRecords, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
@@ -111,6 +171,12 @@ public class StorageManager implements Storage {
         return catalogStorage.readCatalog(filePath, initialLoanRecords);
     }
 
+    @Override
+    public Optional<UnlinkedRecords<ReadOnlyCatalog>> parseCatalog() throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + catalogStorage.getCatalogFilePath());
+        return catalogStorage.parseCatalog();
+    }
+
     @Override
     public void saveCatalog(ReadOnlyCatalog catalog) throws IOException {
         saveCatalog(catalog, catalogStorage.getCatalogFilePath());
@@ -142,6 +208,13 @@ public class StorageManager implements Storage {
         return borrowerRecordsStorage.readBorrowerRecords(filePath, initialLoanRecords);
     }
 
+    @Override
+    public Optional<UnlinkedRecords<ReadOnlyBorrowerRecords>> parseBorrowerRecords()
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + borrowerRecordsStorage.getBorrowerRecordsFilePath());
+        return borrowerRecordsStorage.parseBorrowerRecords();
+    }
+
     @Override
     public void saveBorrowerRecords(ReadOnlyBorrowerRecords borrowerRecords) throws IOException {
         saveBorrowerRecords(borrowerRecords, borrowerRecordsStorage.getBorrowerRecordsFilePath());
@@ -153,4 +226,237 @@ public class StorageManager implements Storage {
         borrowerRecordsStorage.saveBorrowerRecords(borrowerRecords, filePath);
     }
 
+    @Override
+    public Optional<LibraryRecords> readLibraryRecords() throws DataConversionException, IOException {
+        return new LibraryRecordsLoader(loanRecordsStorage, catalogStorage, borrowerRecordsStorage).load();
+    }
+
+    @Override
+    public void backupLibraryRecords() throws IOException {
+        String backupSuffix = "." + System.currentTimeMillis() + BACKUP_EXTENSION;
+        List<Path> filePaths = new ArrayList<>(List.of(getLoanRecordsFilePath(), getCatalogFilePath(),
+                getBorrowerRecordsFilePath()));
+        journalStorage.ifPresent(journal -> filePaths.add(journal.getJournalFilePath()));
+        for (Path filePath : filePaths) {
+            if (FileUtil.isFileExists(filePath)) {
+                Path backupFilePath = filePath.resolveSibling(filePath.getFileName() + backupSuffix);
+                logger.info("Backing up " + filePath + " to " + backupFilePath);
+                Files.copy(filePath, backupFilePath);
+            }
+        }
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public boolean hasJournalEntries() throws IOException {
+        return journalStorage.isPresent() && journalStorage.get().hasJournalEntries();
+    }
+
+    @Override
+    public void saveChanges(ReadOnlyLoanRecords loanRecords, ReadOnlyCatalog catalog,
+            ReadOnlyBorrowerRecords borrowerRecords) throws IOException {
+        unsavedLoanIds.record(loanRecords, loanRecords.getChangedLoanIds());
+        if (isEveryDataFilePresent()) {
+            if (loanRecords.getChangedLoanIds().isEmpty() && catalog.getChangedSerialNumbers().isEmpty()
+                    && borrowerRecords.getChangedBorrowerIds().isEmpty()) {
+                return;
+            }
+            if (journalStorage.isPresent() && !isJournalFull(journalStorage.get())) {
+                List<JournalEntry> entries;
+                synchronized (journalLock) {
+                    entries = pendingJournalEntries;
+                    entries.add(new JournalEntry(loanRecords, catalog, borrowerRecords));
+                }
+                persistenceExecutor.submit(JOURNAL_APPEND, () -> appendJournalEntries(entries));
+                return;
+            }
+        }
+        compactJournal(loanRecords, catalog, borrowerRecords);
+    }
+
+    @Override
+    public int replayJournal(LoanRecords loanRecords, Catalog catalog, BorrowerRecords borrowerRecords)
+            throws DataConversionException, IOException {
+        if (journalStorage.isEmpty()) {
+            return 0;
+        }
+        logger.fine("Attempting to replay journal: " + journalStorage.get().getJournalFilePath());
+        return journalStorage.get().replayJournal(loanRecords, catalog, borrowerRecords);
+    }
+
+    @Override
+    public void compactJournal(ReadOnlyLoanRecords loanRecords, ReadOnlyCatalog catalog,
+            ReadOnlyBorrowerRecords borrowerRecords) throws IOException {
+        // Records saved in the background are copied first, as they may be modified by later commands.
+        boolean isCopyNeeded = persistenceExecutor.isAsynchronous();
+
+        // The journal entries still waiting to be appended are already part of the records being saved, and
+        // appending them after the journal is cleared would replay them over newer data. Entries of later
+        // commands go to a new list, which is only appended after the journal is cleared.
+        synchronized (journalLock) {
+            pendingJournalEntries.clear();
+            pendingJournalEntries = new ArrayList<>();
+        }
+
+        long loanRecordsVersion = loanRecords.getVersion();
+        if (savedLoanRecords.isOutdated(loanRecords, loanRecordsVersion, getLoanRecordsFilePath())) {
+            ReadOnlyLoanRecords toSave = isCopyNeeded ? new LoanRecords(loanRecords) : loanRecords;
+            unsavedLoanIds.record(loanRecords, loanRecords.getChangedLoanIds());
+            long changeCount = unsavedLoanIds.getChangeCount();
+            Optional<Set<LoanId>> changedLoanIds = unsavedLoanIds.get(loanRecords);
+            persistenceExecutor.submit(LOAN_RECORDS_SAVE, () -> {
+                try {
+                    if (changedLoanIds.isPresent()) {
+                        saveLoanRecords(toSave, changedLoanIds.get());
+                    } else {
+                        saveLoanRecords(toSave);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    unsavedLoanIds.forget(loanRecords);
+                    throw e;
+                }
+                unsavedLoanIds.saved(loanRecords, changeCount);
+                savedLoanRecords.update(loanRecords, loanRecordsVersion);
+            });
+        }
+        long catalogVersion = catalog.getVersion();
+        if (savedCatalog.isOutdated(catalog, catalogVersion, getCatalogFilePath())) {
+            ReadOnlyCatalog toSave = isCopyNeeded ? new Catalog(catalog) : catalog;
+            persistenceExecutor.submit(CATALOG_SAVE, () -> {
+                saveCatalog(toSave);
+                savedCatalog.update(catalog, catalogVersion);
+            });
+        }
+        long borrowerRecordsVersion = borrowerRecords.getVersion();
+        if (savedBorrowerRecords.isOutdated(borrowerRecords, borrowerRecordsVersion, getBorrowerRecordsFilePath())) {
+            ReadOnlyBorrowerRecords toSave = isCopyNeeded ? new BorrowerRecords(borrowerRecords) : borrowerRecords;
+            persistenceExecutor.submit(BORROWER_RECORDS_SAVE, () -> {
+                saveBorrowerRecords(toSave);
+                savedBorrowerRecords.update(borrowerRecords, borrowerRecordsVersion);
+            });
+        }
+        if (journalStorage.isPresent()) {
+            JournalStorage journal = journalStorage.get();
+            persistenceExecutor.submitInOrder(JOURNAL_CLEAR, () -> {
+                logger.fine("Clearing journal: " + journal.getJournalFilePath());
+                journal.clearJournal();
+            });
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        persistenceExecutor.flush();
+    }
+
+    /**
+     * Writes the journal entries waiting in {@code pendingEntries} in a single append.
+     */
+    private void appendJournalEntries(List<JournalEntry> pendingEntries) throws IOException {
+        List<JournalEntry> entries;
+        synchronized (journalLock) {
+            entries = new ArrayList<>(pendingEntries);
+            pendingEntries.clear();
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        logger.fine("Attempting to append " + entries.size() + " entries to journal: "
+                + journalStorage.get().getJournalFilePath());
+        journalStorage.get().appendJournalEntries(entries);
+    }
+
+    private boolean isEveryDataFilePresent() {
+        return FileUtil.isFileExists(getLoanRecordsFilePath())
+                && FileUtil.isFileExists(getCatalogFilePath())
+                && FileUtil.isFileExists(getBorrowerRecordsFilePath());
+    }
+
+    private boolean isJournalFull(JournalStorage journal) throws IOException {
+        Path journalFilePath = journal.getJournalFilePath();
+        return FileUtil.isFileExists(journalFilePath) && Files.size(journalFilePath) >= JOURNAL_COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Remembers which records were last saved to a data file and at which version, so that records which
+     * have not changed since are not written again.
+     */
+    private static class SavedVersion {
+        private Object savedRecords;
+        private long savedVersion;
+
+        /**
+         * Returns true if {@code records} at {@code version} may differ from what is in {@code filePath}.
+         */
+        synchronized boolean isOutdated(Object records, long version, Path filePath) {
+            return records != savedRecords || version != savedVersion || !FileUtil.isFileExists(filePath);
+        }
+
+        synchronized void update(Object records, long version) {
+            savedRecords = records;
+            savedVersion = version;
+        }
+    }
+
+    /**
+     * Remembers the loans that changed in the loan records since they were last written to the data file, so that
+     * storages which can write single loans in place only write those.
+     * The changes are only known for the records last written by this storage; for other records, the data file
+     * may hold anything, and the records are saved in full.
+     */
+    private static class UnsavedLoanIds {
+        private Object records;
+        private boolean isWritten;
+        private long changeCount;
+        private final Map<LoanId, Long> changeCountsById = new HashMap<>();
+
+        /**
+         * Records that the loans with {@code loanIds} changed in {@code loanRecords}.
+         */
+        synchronized void record(Object loanRecords, Set<LoanId> loanIds) {
+            if (loanRecords != records) {
+                forget(loanRecords);
+            }
+            changeCount++;
+            loanIds.forEach(loanId -> changeCountsById.put(loanId, changeCount));
+        }
+
+        synchronized long getChangeCount() {
+            return changeCount;
+        }
+
+        /**
+         * Returns the loans that changed in {@code loanRecords} since they were written to the data file,
+         * or {@code Optional.empty()} if the data file may not hold an earlier version of {@code loanRecords}.
+         */
+        synchronized Optional<Set<LoanId>> get(Object loanRecords) {
+            if (loanRecords != records || !isWritten) {
+                return Optional.empty();
+            }
+            return Optional.of(new HashSet<>(changeCountsById.keySet()));
+        }
+
+        /**
+         * Records that {@code loanRecords} were written to the data file with every change recorded up to
+         * {@code savedChangeCount}.
+         */
+        synchronized void saved(Object loanRecords, long savedChangeCount) {
+            if (loanRecords != records) {
+                return;
+            }
+            changeCountsById.values().removeIf(count -> count <= savedChangeCount);
+            isWritten = true;
+        }
+
+        /**
+         * Starts recording the changes of {@code loanRecords}, which have not been written to the data file.
+         */
+        synchronized void forget(Object loanRecords) {
+            records = loanRecords;
+            isWritten = false;
+            changeCountsById.clear();
+        }
+    }
+
 }
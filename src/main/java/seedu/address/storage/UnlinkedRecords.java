@@ -0,0 +1,24 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyLoanRecords;
+
+/**
+ * Library records that have been read from storage but still refer to their loans by loan ID.
+ *
+ * @param <T> the type of the records once linked to their loans.
+ */
+@FunctionalInterface
+public interface UnlinkedRecords<T> {
+
+    /**
+     * Returns the records with their loan IDs resolved to the loans in {@code loanRecords}.
+     *
+     * @throws DataConversionException if the records are not in the expected format,
+     *     or refer to loans that are not in {@code loanRecords}.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    T link(ReadOnlyLoanRecords loanRecords) throws DataConversionException, IOException;
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage.borrowerrecords;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.borrowerrecords.JsonSerializableBorrowerRecords.MESSAGE_DUPLICATE_BORROWER;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.ReadOnlyBorrowerRecords;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.borrower.Borrower;
+import seedu.address.model.borrower.BorrowerId;
+import seedu.address.model.borrower.Email;
+import seedu.address.model.borrower.Name;
+import seedu.address.model.borrower.Phone;
+import seedu.address.model.loan.LoanList;
+import seedu.address.storage.snapshot.SnapshotReader;
+import seedu.address.storage.snapshot.SnapshotType;
+import seedu.address.storage.snapshot.SnapshotWriter;
+
+/**
+ * A class to access BorrowerRecords data stored as a binary snapshot file on the hard disk.
+ */
+public class BinaryBorrowerRecordsStorage implements BorrowerRecordsStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryBorrowerRecordsStorage.class);
+
+    private Path filePath;
+
+    public BinaryBorrowerRecordsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getBorrowerRecordsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBorrowerRecords> readBorrowerRecords(ReadOnlyLoanRecords initialLoanRecords)
+            throws DataConversionException {
+        return readBorrowerRecords(filePath, initialLoanRecords);
+    }
+
+    /**
+     * Similar to {@link #readBorrowerRecords(ReadOnlyLoanRecords)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyBorrowerRecords> readBorrowerRecords(Path filePath, ReadOnlyLoanRecords initialLoanRecords)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            return SnapshotReader.read(filePath, SnapshotType.BORROWER_RECORDS,
+                reader -> readBorrowers(reader, initialLoanRecords));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveBorrowerRecords(ReadOnlyBorrowerRecords borrowerRecords) throws IOException {
+        saveBorrowerRecords(borrowerRecords, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveBorrowerRecords(ReadOnlyBorrowerRecords)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveBorrowerRecords(ReadOnlyBorrowerRecords borrowerRecords, Path filePath) throws IOException {
+        requireNonNull(borrowerRecords);
+        requireNonNull(filePath);
+
+        SnapshotWriter.write(filePath, SnapshotType.BORROWER_RECORDS,
+            writer -> writeBorrowers(writer, borrowerRecords));
+    }
+
+    private static void writeBorrowers(SnapshotWriter writer, ReadOnlyBorrowerRecords borrowerRecords)
+            throws IOException {
+        List<Borrower> borrowers = borrowerRecords.getBorrowerList();
+        writer.writeVarInt(borrowers.size());
+        for (Borrower borrower : borrowers) {
+            writer.writeBorrowerId(borrower.getBorrowerId());
+            writer.writeString(borrower.getName().name);
+            writer.writeString(borrower.getPhone().value);
+            writer.writeString(borrower.getEmail().value);
+            writer.writeLoanIds(borrower.getCurrentLoanList());
+            writer.writeLoanIds(borrower.getReturnedLoanList());
+        }
+    }
+
+    private static ReadOnlyBorrowerRecords readBorrowers(SnapshotReader reader, ReadOnlyLoanRecords initialLoanRecords)
+            throws IOException, IllegalValueException {
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+        int size = reader.readVarInt();
+        for (int i = 0; i < size; i++) {
+            BorrowerId borrowerId = reader.readBorrowerId();
+
+            String name = reader.readString();
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            String phone = reader.readString();
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            String email = reader.readString();
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            LoanList currentLoanList = reader.readLoanList(initialLoanRecords);
+            LoanList returnedLoanList = reader.readLoanList(initialLoanRecords);
+
+            Borrower borrower = new Borrower(new Name(name), new Phone(phone), new Email(email), borrowerId,
+                    currentLoanList, returnedLoanList);
+            if (borrowerRecords.hasBorrower(borrower)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_BORROWER);
+            }
+            borrowerRecords.addBorrower(borrower);
+        }
+        return borrowerRecords;
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.storage.borrowerrecords;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -8,6 +10,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.BorrowerRecords;
 import seedu.address.model.ReadOnlyBorrowerRecords;
 import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.storage.UnlinkedRecords;
 
 /**
  * Represents a storage for {@link BorrowerRecords}.
@@ -34,6 +37,25 @@ public interface BorrowerRecordsStorage {
     Optional<ReadOnlyBorrowerRecords> readBorrowerRecords(Path filePath, ReadOnlyLoanRecords initialLoanRecords)
             throws DataConversionException, IOException;
 
+    /**
+     * Reads BorrowerRecords data without resolving the loans of its borrowers, so that it can be read before
+     * the loan records are ready. The returned {@code UnlinkedRecords} resolves them.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * By default, all the reading is left to {@link UnlinkedRecords#link(ReadOnlyLoanRecords)}.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<UnlinkedRecords<ReadOnlyBorrowerRecords>> parseBorrowerRecords()
+            throws DataConversionException, IOException {
+        Path filePath = getBorrowerRecordsFilePath();
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(loanRecords -> readBorrowerRecords(filePath, loanRecords)
+                .orElseThrow(() -> new NoSuchFileException(filePath.toString())));
+    }
+
     /**
      * Saves the given {@link ReadOnlyBorrowerRecords} to the storage.
      * @param borrowerRecords cannot be null.
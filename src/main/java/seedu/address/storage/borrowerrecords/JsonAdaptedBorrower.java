@@ -22,7 +22,7 @@ import seedu.address.model.loan.LoanList;
 /**
  * Jackson-friendly version of {@link Borrower}.
  */
-class JsonAdaptedBorrower {
+public class JsonAdaptedBorrower {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Borrower's %s field is missing!";
 
@@ -123,7 +123,7 @@ class JsonAdaptedBorrower {
 
     private LoanList getModelLoanList(List<String> loanList, ReadOnlyLoanRecords initialLoanRecords)
             throws IllegalValueException {
-        LoanList modelLoanList = new LoanList();
+        List<Loan> modelLoans = new ArrayList<>(loanList.size());
 
         for (String loanIdString : loanList) {
             if (!LoanId.isValidLoanId(loanIdString)) {
@@ -136,9 +136,11 @@ class JsonAdaptedBorrower {
                 throw new IllegalValueException(String.format(MESSAGE_LOAN_ID_DOES_NOT_EXISTS, loanId));
             }
 
-            modelLoanList.add(modelLoan);
+            modelLoans.add(modelLoan);
         }
 
+        LoanList modelLoanList = new LoanList();
+        modelLoanList.addAll(modelLoans);
         return modelLoanList;
     }
 }
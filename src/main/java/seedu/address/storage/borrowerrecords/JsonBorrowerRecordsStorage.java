@@ -10,10 +10,9 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyBorrowerRecords;
 import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.storage.UnlinkedRecords;
 
 /**
  * A class to access BorrowerRecords data stored as a json file on the hard disk.
@@ -48,20 +47,33 @@ public class JsonBorrowerRecordsStorage implements BorrowerRecordsStorage {
             throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableBorrowerRecords> jsonBorrowerRecords = JsonUtil.readJsonFile(
-                filePath, JsonSerializableBorrowerRecords.class);
-        if (!jsonBorrowerRecords.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonBorrowerRecords.get().toModelType(initialLoanRecords));
+            return JsonSerializableBorrowerRecords.readBorrowerRecords(filePath, initialLoanRecords)
+                    .map(borrowerRecords -> borrowerRecords);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads the borrowers in the borrower records file, leaving the returned {@code UnlinkedRecords} to convert them
+     * in parallel once the loan records are ready.
+     */
+    @Override
+    public Optional<UnlinkedRecords<ReadOnlyBorrowerRecords>> parseBorrowerRecords()
+            throws DataConversionException {
+        return JsonSerializableBorrowerRecords.parseBorrowerRecords(filePath)
+                .map(jsonBorrowerRecords -> loanRecords -> {
+                    try {
+                        return jsonBorrowerRecords.toModelType(loanRecords);
+                    } catch (IllegalValueException ive) {
+                        logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                        throw new DataConversionException(ive);
+                    }
+                });
+    }
+
     @Override
     public void saveBorrowerRecords(ReadOnlyBorrowerRecords borrowerRecords) throws IOException {
         saveBorrowerRecords(borrowerRecords, filePath);
@@ -76,8 +88,7 @@ public class JsonBorrowerRecordsStorage implements BorrowerRecordsStorage {
         requireNonNull(borrowerRecords);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableBorrowerRecords(borrowerRecords), filePath);
+        JsonSerializableBorrowerRecords.saveBorrowerRecords(borrowerRecords, filePath);
     }
 
 }
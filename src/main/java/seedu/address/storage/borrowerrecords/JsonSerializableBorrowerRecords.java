@@ -1,14 +1,20 @@
 package seedu.address.storage.borrowerrecords;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.BorrowerRecords;
 import seedu.address.model.ReadOnlyBorrowerRecords;
 import seedu.address.model.ReadOnlyLoanRecords;
@@ -22,6 +28,8 @@ class JsonSerializableBorrowerRecords {
 
     public static final String MESSAGE_DUPLICATE_BORROWER = "borrowers list contains duplicate borrower(s).";
 
+    private static final String BORROWERS_FIELD = "borrowers";
+
     private final List<JsonAdaptedBorrower> borrowers = new ArrayList<>();
 
     /**
@@ -47,15 +55,61 @@ class JsonSerializableBorrowerRecords {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public BorrowerRecords toModelType(ReadOnlyLoanRecords initialLoanRecords) throws IllegalValueException {
+        // Each borrower only looks up their own loans, so the borrowers can be converted in parallel.
+        List<Borrower> modelBorrowers = CollectionUtil.mapInParallel(borrowers,
+            jsonAdaptedBorrower -> jsonAdaptedBorrower.toModelType(initialLoanRecords));
         BorrowerRecords borrowerRecords = new BorrowerRecords();
-        for (JsonAdaptedBorrower jsonAdaptedBorrower : borrowers) {
-            Borrower borrower = jsonAdaptedBorrower.toModelType(initialLoanRecords);
-            if (borrowerRecords.hasBorrower(borrower)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BORROWER);
-            }
-            borrowerRecords.addBorrower(borrower);
+        for (Borrower borrower : modelBorrowers) {
+            addToBorrowerRecords(borrowerRecords, borrower);
         }
         return borrowerRecords;
     }
 
+    /**
+     * Reads the borrowers stored in {@code filePath} without converting them, so that the file can be read
+     * before the loan records that the borrowers refer to are ready.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static Optional<JsonSerializableBorrowerRecords> parseBorrowerRecords(Path filePath)
+            throws DataConversionException {
+        List<JsonAdaptedBorrower> borrowers = new ArrayList<>();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, BORROWERS_FIELD, JsonAdaptedBorrower.class,
+            borrowers::add);
+        return isFound ? Optional.of(new JsonSerializableBorrowerRecords(borrowers)) : Optional.empty();
+    }
+
+    /**
+     * Reads the borrower records stored in {@code filePath} borrower by borrower,
+     * converting each borrower as soon as it is parsed.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<BorrowerRecords> readBorrowerRecords(Path filePath, ReadOnlyLoanRecords initialLoanRecords)
+            throws DataConversionException, IllegalValueException {
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, BORROWERS_FIELD, JsonAdaptedBorrower.class,
+            jsonAdaptedBorrower -> addToBorrowerRecords(borrowerRecords,
+                jsonAdaptedBorrower.toModelType(initialLoanRecords)));
+        return isFound ? Optional.of(borrowerRecords) : Optional.empty();
+    }
+
+    /**
+     * Writes {@code source} to {@code filePath} borrower by borrower, in the same format as this class.
+     */
+    public static void saveBorrowerRecords(ReadOnlyBorrowerRecords source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, BORROWERS_FIELD, source.getBorrowerList(), JsonAdaptedBorrower::new);
+    }
+
+    private static void addToBorrowerRecords(BorrowerRecords borrowerRecords, Borrower borrower)
+            throws IllegalValueException {
+        if (borrowerRecords.hasBorrower(borrower)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_BORROWER);
+        }
+        borrowerRecords.addBorrower(borrower);
+    }
+
 }
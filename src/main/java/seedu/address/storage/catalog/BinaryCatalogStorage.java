@@ -0,0 +1,187 @@
+package seedu.address.storage.catalog;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.catalog.JsonSerializableCatalog.MESSAGE_DUPLICATE_BOOK;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Catalog;
+import seedu.address.model.ReadOnlyCatalog;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.book.Author;
+import seedu.address.model.book.Book;
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.book.Title;
+import seedu.address.model.book.exceptions.DuplicateBookException;
+import seedu.address.model.genre.Genre;
+import seedu.address.model.loan.Loan;
+import seedu.address.storage.snapshot.SnapshotReader;
+import seedu.address.storage.snapshot.SnapshotType;
+import seedu.address.storage.snapshot.SnapshotWriter;
+
+/**
+ * A class to access Catalog data stored as a binary snapshot file on the hard disk.
+ * Titles, authors and genres are written once each to a string table that the books refer to.
+ */
+public class BinaryCatalogStorage implements CatalogStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCatalogStorage.class);
+    /** First snapshot version in which books are written without the IDs of the loans in their loan history. */
+    private static final int VERSION_WITHOUT_LOAN_HISTORY = 2;
+
+    private Path filePath;
+
+    public BinaryCatalogStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getCatalogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCatalog> readCatalog(ReadOnlyLoanRecords initialLoanRecords)
+            throws DataConversionException {
+        return readCatalog(filePath, initialLoanRecords);
+    }
+
+    /**
+     * Similar to {@link #readCatalog(ReadOnlyLoanRecords)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyCatalog> readCatalog(Path filePath, ReadOnlyLoanRecords initialLoanRecords)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            return SnapshotReader.read(filePath, SnapshotType.CATALOG, reader -> readBooks(reader, initialLoanRecords));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveCatalog(ReadOnlyCatalog catalog) throws IOException {
+        saveCatalog(catalog, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCatalog(ReadOnlyCatalog)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCatalog(ReadOnlyCatalog catalog, Path filePath) throws IOException {
+        requireNonNull(catalog);
+        requireNonNull(filePath);
+
+        SnapshotWriter.write(filePath, SnapshotType.CATALOG, writer -> writeBooks(writer, catalog));
+    }
+
+    private static void writeBooks(SnapshotWriter writer, ReadOnlyCatalog catalog) throws IOException {
+        List<Book> books = catalog.getBookList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Book book : books) {
+            stringTable.putIfAbsent(book.getTitle().value, stringTable.size());
+            stringTable.putIfAbsent(book.getAuthor().value, stringTable.size());
+            for (Genre genre : book.getGenres()) {
+                stringTable.putIfAbsent(genre.genreName, stringTable.size());
+            }
+        }
+        writer.writeStringTable(new ArrayList<>(stringTable.keySet()));
+
+        writer.writeVarInt(books.size());
+        for (Book book : books) {
+            writer.writeSerialNumber(book.getSerialNumber());
+            writer.writeVarInt(stringTable.get(book.getTitle().value));
+            writer.writeVarInt(stringTable.get(book.getAuthor().value));
+            writer.writeVarInt(book.getGenres().size());
+            for (Genre genre : book.getGenres()) {
+                writer.writeVarInt(stringTable.get(genre.genreName));
+            }
+            writer.writeOptionalLoanId(book.getLoan().orElse(null));
+        }
+    }
+
+    private static ReadOnlyCatalog readBooks(SnapshotReader reader, ReadOnlyLoanRecords initialLoanRecords)
+            throws IOException, IllegalValueException {
+        List<String> stringTable = reader.readStringTable();
+        // Books that share a string also share the model object made from it.
+        Title[] titles = new Title[stringTable.size()];
+        Author[] authors = new Author[stringTable.size()];
+        Genre[] genres = new Genre[stringTable.size()];
+
+        int size = reader.readVarInt();
+        List<Book> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SerialNumber serialNumber = reader.readSerialNumber();
+            Title title = getTitle(titles, stringTable, reader.readTableIndex(stringTable.size()));
+            Author author = getAuthor(authors, stringTable, reader.readTableIndex(stringTable.size()));
+            int genreCount = reader.readVarInt();
+            Set<Genre> bookGenres = new HashSet<>();
+            for (int j = 0; j < genreCount; j++) {
+                bookGenres.add(getGenre(genres, stringTable, reader.readTableIndex(stringTable.size())));
+            }
+            Loan loan = reader.readOptionalLoan(initialLoanRecords);
+            if (reader.getVersion() < VERSION_WITHOUT_LOAN_HISTORY) {
+                reader.skipLoanIds();
+            }
+
+            books.add(new Book(title, serialNumber, author, loan, bookGenres));
+        }
+
+        Catalog catalog = new Catalog();
+        try {
+            catalog.addBooks(books);
+        } catch (DuplicateBookException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
+        }
+        return catalog;
+    }
+
+    private static Title getTitle(Title[] titles, List<String> stringTable, int index) throws IllegalValueException {
+        if (titles[index] == null) {
+            if (!Title.isValidTitle(stringTable.get(index))) {
+                throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+            }
+            titles[index] = new Title(stringTable.get(index));
+        }
+        return titles[index];
+    }
+
+    private static Author getAuthor(Author[] authors, List<String> stringTable, int index)
+            throws IllegalValueException {
+        if (authors[index] == null) {
+            if (!Author.isValidAuthor(stringTable.get(index))) {
+                throw new IllegalValueException(Author.MESSAGE_CONSTRAINTS);
+            }
+            authors[index] = new Author(stringTable.get(index));
+        }
+        return authors[index];
+    }
+
+    private static Genre getGenre(Genre[] genres, List<String> stringTable, int index) throws IllegalValueException {
+        if (genres[index] == null) {
+            if (!Genre.isValidGenreName(stringTable.get(index))) {
+                throw new IllegalValueException(Genre.MESSAGE_CONSTRAINTS);
+            }
+            genres[index] = new Genre(stringTable.get(index));
+        }
+        return genres[index];
+    }
+
+}
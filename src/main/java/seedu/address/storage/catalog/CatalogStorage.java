@@ -1,6 +1,8 @@
 package seedu.address.storage.catalog;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -8,6 +10,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.Catalog;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.storage.UnlinkedRecords;
 
 /**
  * Represents a storage for {@link Catalog}.
@@ -36,6 +39,24 @@ public interface CatalogStorage {
     Optional<ReadOnlyCatalog> readCatalog(Path filePath, ReadOnlyLoanRecords initialLoanRecords)
             throws DataConversionException, IOException;
 
+    /**
+     * Reads Catalog data without resolving the loans of its books, so that it can be read before
+     * the loan records are ready. The returned {@code UnlinkedRecords} resolves them.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * By default, all the reading is left to {@link UnlinkedRecords#link(ReadOnlyLoanRecords)}.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<UnlinkedRecords<ReadOnlyCatalog>> parseCatalog() throws DataConversionException, IOException {
+        Path filePath = getCatalogFilePath();
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(loanRecords -> readCatalog(filePath, loanRecords)
+                .orElseThrow(() -> new NoSuchFileException(filePath.toString())));
+    }
+
     /**
      * Saves the given {@link ReadOnlyCatalog} to the storage.
      * @param catalog cannot be null.
@@ -3,7 +3,6 @@ package seedu.address.storage.catalog;
 import static seedu.address.commons.core.Messages.MESSAGE_LOAN_ID_DOES_NOT_EXISTS;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -22,7 +21,6 @@ import seedu.address.model.book.Title;
 import seedu.address.model.genre.Genre;
 import seedu.address.model.loan.Loan;
 import seedu.address.model.loan.LoanId;
-import seedu.address.model.loan.LoanList;
 
 /**
  * Jackson-friendly version of {@link Book}.
@@ -36,10 +34,11 @@ public class JsonAdaptedBook {
     private final String author;
     private final String loan;
     private final List<JsonAdaptedGenre> genres = new ArrayList<>();
-    private final List<String> loanHistory = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedBook} with the given person details.
+     * {@code loanHistory} is accepted for catalogs saved before loan histories were kept in the loan records,
+     * and is ignored.
      */
     @JsonCreator
     public JsonAdaptedBook(@JsonProperty("title") String title,
@@ -55,9 +54,6 @@ public class JsonAdaptedBook {
             this.genres.addAll(genres);
         }
         this.loan = loan;
-        if (loanHistory != null) {
-            this.loanHistory.addAll(loanHistory);
-        }
     }
 
     /**
@@ -77,16 +73,6 @@ public class JsonAdaptedBook {
         genres.addAll(source.getGenres().stream()
                 .map(JsonAdaptedGenre::new)
                 .collect(Collectors.toList()));
-
-        if (source.getLoanHistory() != null) {
-            LoanList loanHistoryToBeRead = source.getLoanHistory();
-            for (Loan loan : loanHistoryToBeRead) {
-                LoanId id = loan.getLoanId();
-                String str = id.toString();
-                loanHistory.add(str);
-            }
-            //source.getLoanHistory().forEach(loan -> loanHistory.add(loan.getLoanId().toString()));
-        }
     }
 
     /**
@@ -147,14 +133,7 @@ public class JsonAdaptedBook {
         }
 
         final Set<Genre> modelGenres = new HashSet<>(personGenres);
-
-        final LoanList modelLoanList = new LoanList();
-        final HashMap<LoanId, Loan> loansMap = initialLoanRecords.getLoansMap();
-        loanHistory.stream()
-                .map(loanId -> loansMap.get(new LoanId(loanId)))
-                .forEach(loan -> modelLoanList.add(loan));
-
-        return new Book(modelTitle, modelSerialNumber, modelAuthor, modelLoan, modelGenres, modelLoanList);
+        return new Book(modelTitle, modelSerialNumber, modelAuthor, modelLoan, modelGenres);
     }
 
 }
@@ -10,10 +10,9 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.storage.UnlinkedRecords;
 
 /**
  * A class to access Catalog data stored as a json file on the hard disk.
@@ -48,20 +47,30 @@ public class JsonCatalogStorage implements CatalogStorage {
             throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableCatalog> jsonCatalog = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCatalog.class);
-        if (jsonCatalog.isEmpty()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonCatalog.get().toModelType(initialLoanRecords));
+            return JsonSerializableCatalog.readCatalog(filePath, initialLoanRecords).map(catalog -> catalog);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads the books in the catalog file, leaving the returned {@code UnlinkedRecords} to convert them
+     * in parallel once the loan records are ready.
+     */
+    @Override
+    public Optional<UnlinkedRecords<ReadOnlyCatalog>> parseCatalog() throws DataConversionException {
+        return JsonSerializableCatalog.parseCatalog(filePath).map(jsonCatalog -> loanRecords -> {
+            try {
+                return jsonCatalog.toModelType(loanRecords);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        });
+    }
+
     @Override
     public void saveCatalog(ReadOnlyCatalog catalog) throws IOException {
         saveCatalog(catalog, filePath);
@@ -76,8 +85,7 @@ public class JsonCatalogStorage implements CatalogStorage {
         requireNonNull(catalog);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCatalog(catalog), filePath);
+        JsonSerializableCatalog.saveCatalog(catalog, filePath);
     }
 
 }
@@ -1,19 +1,26 @@
 package seedu.address.storage.catalog;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.Catalog;
 import seedu.address.model.LoanRecords;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.ReadOnlyLoanRecords;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.exceptions.DuplicateBookException;
 
 /**
  * An Immutable Catalog that is serializable to JSON format.
@@ -23,6 +30,8 @@ public class JsonSerializableCatalog {
 
     public static final String MESSAGE_DUPLICATE_BOOK = "books list contains duplicate book(s).";
 
+    private static final String BOOKS_FIELD = "books";
+
     private final List<JsonAdaptedBook> books = new ArrayList<>();
 
     /**
@@ -59,13 +68,53 @@ public class JsonSerializableCatalog {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Catalog toModelType(ReadOnlyLoanRecords initialLoanRecords) throws IllegalValueException {
+        // Each book only looks up its own loans, so the books can be converted in parallel.
+        List<Book> modelBooks = CollectionUtil.mapInParallel(books,
+            jsonAdaptedBook -> jsonAdaptedBook.toModelType(initialLoanRecords));
+        return toCatalog(modelBooks);
+    }
+
+    /**
+     * Reads the books stored in {@code filePath} without converting them, so that the file can be read
+     * before the loan records that the books refer to are ready.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static Optional<JsonSerializableCatalog> parseCatalog(Path filePath) throws DataConversionException {
+        List<JsonAdaptedBook> books = new ArrayList<>();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, BOOKS_FIELD, JsonAdaptedBook.class, books::add);
+        return isFound ? Optional.of(new JsonSerializableCatalog(books)) : Optional.empty();
+    }
+
+    /**
+     * Reads the catalog stored in {@code filePath} book by book, converting each book as soon as it is parsed.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<Catalog> readCatalog(Path filePath, ReadOnlyLoanRecords initialLoanRecords)
+            throws DataConversionException, IllegalValueException {
+        List<Book> modelBooks = new ArrayList<>();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, BOOKS_FIELD, JsonAdaptedBook.class,
+            jsonAdaptedBook -> modelBooks.add(jsonAdaptedBook.toModelType(initialLoanRecords)));
+        return isFound ? Optional.of(toCatalog(modelBooks)) : Optional.empty();
+    }
+
+    /**
+     * Writes {@code source} to {@code filePath} book by book, in the same format as this class.
+     */
+    public static void saveCatalog(ReadOnlyCatalog source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, BOOKS_FIELD, source.getBookList(), JsonAdaptedBook::new);
+    }
+
+    private static Catalog toCatalog(List<Book> modelBooks) throws IllegalValueException {
         Catalog catalog = new Catalog();
-        for (JsonAdaptedBook jsonAdaptedBook : books) {
-            Book book = jsonAdaptedBook.toModelType(initialLoanRecords);
-            if (catalog.hasBook(book)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
-            }
-            catalog.addBook(book);
+        try {
+            catalog.addBooks(modelBooks);
+        } catch (DuplicateBookException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
         }
         return catalog;
     }
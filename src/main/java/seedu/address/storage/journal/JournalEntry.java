@@ -0,0 +1,93 @@
+package seedu.address.storage.journal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.ReadOnlyBorrowerRecords;
+import seedu.address.model.ReadOnlyCatalog;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.book.Book;
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.borrower.Borrower;
+import seedu.address.model.borrower.BorrowerId;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanId;
+
+/**
+ * The loans, books and borrowers changed by a single command, captured when the command completes.
+ * Since loans, books and borrowers are immutable, later changes to the records do not affect this entry,
+ * so it can be written to the journal at a later time.
+ */
+public class JournalEntry {
+
+    private final List<Loan> loans = new ArrayList<>();
+    private final List<LoanId> removedLoanIds = new ArrayList<>();
+    private final List<Book> books = new ArrayList<>();
+    private final List<SerialNumber> removedSerialNumbers = new ArrayList<>();
+    private final List<Borrower> borrowers = new ArrayList<>();
+    private final List<BorrowerId> removedBorrowerIds = new ArrayList<>();
+
+    /**
+     * Captures the changes recorded by the given records since their changes were last cleared.
+     */
+    public JournalEntry(ReadOnlyLoanRecords loanRecords, ReadOnlyCatalog catalog,
+                        ReadOnlyBorrowerRecords borrowerRecords) {
+        for (LoanId loanId : loanRecords.getChangedLoanIds()) {
+            Loan loan = loanRecords.getLoansMap().get(loanId);
+            if (loan == null) {
+                removedLoanIds.add(loanId);
+            } else {
+                loans.add(loan);
+            }
+        }
+        for (SerialNumber serialNumber : catalog.getChangedSerialNumbers()) {
+            Book book = catalog.getBook(serialNumber);
+            if (book == null) {
+                removedSerialNumbers.add(serialNumber);
+            } else {
+                books.add(book);
+            }
+        }
+        for (BorrowerId borrowerId : borrowerRecords.getChangedBorrowerIds()) {
+            if (borrowerRecords.checkIfBorrowerIdExists(borrowerId)) {
+                borrowers.add(borrowerRecords.getBorrowerFromId(borrowerId));
+            } else {
+                removedBorrowerIds.add(borrowerId);
+            }
+        }
+    }
+
+    public List<Loan> getLoans() {
+        return Collections.unmodifiableList(loans);
+    }
+
+    public List<LoanId> getRemovedLoanIds() {
+        return Collections.unmodifiableList(removedLoanIds);
+    }
+
+    public List<Book> getBooks() {
+        return Collections.unmodifiableList(books);
+    }
+
+    public List<SerialNumber> getRemovedSerialNumbers() {
+        return Collections.unmodifiableList(removedSerialNumbers);
+    }
+
+    public List<Borrower> getBorrowers() {
+        return Collections.unmodifiableList(borrowers);
+    }
+
+    public List<BorrowerId> getRemovedBorrowerIds() {
+        return Collections.unmodifiableList(removedBorrowerIds);
+    }
+
+    /**
+     * Returns true if this entry does not record any change.
+     */
+    public boolean isEmpty() {
+        return loans.isEmpty() && removedLoanIds.isEmpty() && books.isEmpty() && removedSerialNumbers.isEmpty()
+                && borrowers.isEmpty() && removedBorrowerIds.isEmpty();
+    }
+
+}
@@ -0,0 +1,55 @@
+package seedu.address.storage.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+
+/**
+ * Represents an append-only journal of the changes made to the library records since the
+ * last full save of the loan records, catalog and borrower records.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns true if the journal contains any entries that have not been compacted into the data files.
+     *
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    boolean hasJournalEntries() throws IOException;
+
+    /**
+     * Appends the given entries to the journal, in order, in a single write.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendJournalEntries(List<JournalEntry> entries) throws IOException;
+
+    /**
+     * Applies every entry in the journal, in order, on top of the given records.
+     * An incomplete last entry, left behind when the application stopped midway through writing it, is ignored.
+     *
+     * @return the number of entries applied.
+     * @throws DataConversionException if an entry in the journal is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    int replayJournal(LoanRecords loanRecords, Catalog catalog, BorrowerRecords borrowerRecords)
+            throws DataConversionException, IOException;
+
+    /**
+     * Removes all entries from the journal.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void clearJournal() throws IOException;
+
+}
@@ -0,0 +1,143 @@
+package seedu.address.storage.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.book.Book;
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.borrower.Borrower;
+import seedu.address.model.borrower.BorrowerId;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanId;
+import seedu.address.storage.borrowerrecords.JsonAdaptedBorrower;
+import seedu.address.storage.catalog.JsonAdaptedBook;
+import seedu.address.storage.loanrecords.JsonAdaptedLoan;
+
+/**
+ * Jackson-friendly record of the loans, books and borrowers changed by a single command.
+ * Changed records are stored in full, while removed records are stored by their id only.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final List<JsonAdaptedLoan> loans = new ArrayList<>();
+    private final List<String> removedLoans = new ArrayList<>();
+    private final List<JsonAdaptedBook> books = new ArrayList<>();
+    private final List<String> removedBooks = new ArrayList<>();
+    private final List<JsonAdaptedBorrower> borrowers = new ArrayList<>();
+    private final List<String> removedBorrowers = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("loans") List<JsonAdaptedLoan> loans,
+                                   @JsonProperty("removedLoans") List<String> removedLoans,
+                                   @JsonProperty("books") List<JsonAdaptedBook> books,
+                                   @JsonProperty("removedBooks") List<String> removedBooks,
+                                   @JsonProperty("borrowers") List<JsonAdaptedBorrower> borrowers,
+                                   @JsonProperty("removedBorrowers") List<String> removedBorrowers) {
+        addAllIfPresent(this.loans, loans);
+        addAllIfPresent(this.removedLoans, removedLoans);
+        addAllIfPresent(this.books, books);
+        addAllIfPresent(this.removedBooks, removedBooks);
+        addAllIfPresent(this.borrowers, borrowers);
+        addAllIfPresent(this.removedBorrowers, removedBorrowers);
+    }
+
+    /**
+     * Converts a given {@code JournalEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(JournalEntry source) {
+        source.getLoans().forEach(loan -> loans.add(new JsonAdaptedLoan(loan)));
+        source.getRemovedLoanIds().forEach(loanId -> removedLoans.add(loanId.value));
+        source.getBooks().forEach(book -> books.add(new JsonAdaptedBook(book)));
+        source.getRemovedSerialNumbers().forEach(serialNumber -> removedBooks.add(serialNumber.value));
+        source.getBorrowers().forEach(borrower -> borrowers.add(new JsonAdaptedBorrower(borrower)));
+        source.getRemovedBorrowerIds().forEach(borrowerId -> removedBorrowers.add(borrowerId.value));
+    }
+
+    /**
+     * Applies the changes in this entry to the given records.
+     * Loans are applied first so that the books and borrowers in this entry can refer to them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted records.
+     */
+    public void applyTo(LoanRecords loanRecords, Catalog catalog, BorrowerRecords borrowerRecords)
+            throws IllegalValueException {
+        for (JsonAdaptedLoan jsonAdaptedLoan : loans) {
+            loanRecords.addLoan(jsonAdaptedLoan.toModelType());
+        }
+        for (String loanId : removedLoans) {
+            Loan loan = loanRecords.getLoansMap().get(toLoanId(loanId));
+            if (loan != null) {
+                loanRecords.removeLoan(loan);
+            }
+        }
+
+        for (String serialNumber : removedBooks) {
+            Book book = catalog.getBook(toSerialNumber(serialNumber));
+            if (book != null) {
+                catalog.removeBook(book);
+            }
+        }
+        for (JsonAdaptedBook jsonAdaptedBook : books) {
+            Book book = jsonAdaptedBook.toModelType(loanRecords);
+            Book existingBook = catalog.getBook(book.getSerialNumber());
+            if (existingBook == null) {
+                catalog.addBook(book);
+            } else {
+                catalog.setBook(existingBook, book);
+            }
+        }
+
+        for (String borrowerId : removedBorrowers) {
+            BorrowerId modelBorrowerId = toBorrowerId(borrowerId);
+            if (borrowerRecords.checkIfBorrowerIdExists(modelBorrowerId)) {
+                borrowerRecords.removeBorrower(borrowerRecords.getBorrowerFromId(modelBorrowerId));
+            }
+        }
+        for (JsonAdaptedBorrower jsonAdaptedBorrower : borrowers) {
+            Borrower borrower = jsonAdaptedBorrower.toModelType(loanRecords);
+            if (borrowerRecords.checkIfBorrowerIdExists(borrower.getBorrowerId())) {
+                borrowerRecords.setBorrower(borrowerRecords.getBorrowerFromId(borrower.getBorrowerId()), borrower);
+            } else {
+                borrowerRecords.addBorrower(borrower);
+            }
+        }
+    }
+
+    private static LoanId toLoanId(String loanId) throws IllegalValueException {
+        if (!LoanId.isValidLoanId(loanId)) {
+            throw new IllegalValueException(LoanId.MESSAGE_CONSTRAINTS);
+        }
+        return new LoanId(loanId);
+    }
+
+    private static SerialNumber toSerialNumber(String serialNumber) throws IllegalValueException {
+        if (!SerialNumber.isValidSerialNumber(serialNumber)) {
+            throw new IllegalValueException(SerialNumber.MESSAGE_CONSTRAINTS);
+        }
+        return new SerialNumber(serialNumber);
+    }
+
+    private static BorrowerId toBorrowerId(String borrowerId) throws IllegalValueException {
+        if (!BorrowerId.isValidBorrowerId(borrowerId)) {
+            throw new IllegalValueException(BorrowerId.MESSAGE_CONSTRAINTS);
+        }
+        return new BorrowerId(borrowerId);
+    }
+
+    private static <T> void addAllIfPresent(List<T> target, List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+}
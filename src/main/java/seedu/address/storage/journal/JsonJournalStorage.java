@@ -0,0 +1,113 @@
+package seedu.address.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+
+/**
+ * A class to access the journal stored on the hard disk, with one json object per line.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private Path filePath;
+
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean hasJournalEntries() throws IOException {
+        return FileUtil.isFileExists(filePath) && Files.size(filePath) > 0;
+    }
+
+    @Override
+    public void appendJournalEntries(List<JournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            if (!entry.isEmpty()) {
+                lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(entry)))
+                        .append(System.lineSeparator());
+            }
+        }
+        if (lines.length() == 0) {
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, lines.toString());
+    }
+
+    @Override
+    public int replayJournal(LoanRecords loanRecords, Catalog catalog, BorrowerRecords borrowerRecords)
+            throws DataConversionException, IOException {
+        requireNonNull(loanRecords);
+        requireNonNull(catalog);
+        requireNonNull(borrowerRecords);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        int entriesApplied = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry in journal " + filePath);
+                    break;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal " + filePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+
+            try {
+                entry.applyTo(loanRecords, catalog, borrowerRecords);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in entry " + (i + 1) + " of journal " + filePath + ": "
+                        + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            entriesApplied++;
+        }
+
+        logger.info("Replayed " + entriesApplied + " entries from journal " + filePath);
+        return entriesApplied;
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+}
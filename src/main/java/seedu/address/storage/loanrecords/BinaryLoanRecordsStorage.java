@@ -0,0 +1,109 @@
+package seedu.address.storage.loanrecords;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.loanrecords.JsonSerializableLoanRecords.MESSAGE_DUPLICATE_LOAN;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.loan.Loan;
+import seedu.address.storage.snapshot.SnapshotReader;
+import seedu.address.storage.snapshot.SnapshotType;
+import seedu.address.storage.snapshot.SnapshotWriter;
+
+/**
+ * A class to access LoanRecords data stored as a binary snapshot file on the hard disk.
+ */
+public class BinaryLoanRecordsStorage implements LoanRecordsStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryLoanRecordsStorage.class);
+
+    private Path filePath;
+
+    public BinaryLoanRecordsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getLoanRecordsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLoanRecords> readLoanRecords() throws DataConversionException {
+        return readLoanRecords(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLoanRecords()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyLoanRecords> readLoanRecords(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            return SnapshotReader.read(filePath, SnapshotType.LOAN_RECORDS, BinaryLoanRecordsStorage::readLoans);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveLoanRecords(ReadOnlyLoanRecords loanRecords) throws IOException {
+        saveLoanRecords(loanRecords, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLoanRecords(ReadOnlyLoanRecords)}
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveLoanRecords(ReadOnlyLoanRecords loanRecords, Path filePath) throws IOException {
+        requireNonNull(loanRecords);
+        requireNonNull(filePath);
+
+        SnapshotWriter.write(filePath, SnapshotType.LOAN_RECORDS, writer -> writeLoans(writer, loanRecords));
+    }
+
+    private static void writeLoans(SnapshotWriter writer, ReadOnlyLoanRecords loanRecords) throws IOException {
+        Collection<Loan> loans = loanRecords.getLoanCollection();
+        writer.writeVarInt(loans.size());
+        for (Loan loan : loans) {
+            writer.writeLoanId(loan.getLoanId());
+            writer.writeSerialNumber(loan.getBookSerialNumber());
+            writer.writeBorrowerId(loan.getBorrowerId());
+            writer.writeDate(loan.getStartDate());
+            writer.writeDate(loan.getDueDate());
+            writer.writeOptionalDate(loan.getReturnDate());
+            writer.writeSignedVarInt(loan.getRenewCount());
+            writer.writeSignedVarInt(loan.getRemainingFineAmount());
+            writer.writeSignedVarInt(loan.getPaidFineAmount());
+        }
+    }
+
+    private static ReadOnlyLoanRecords readLoans(SnapshotReader reader) throws IOException, IllegalValueException {
+        LoanRecords loanRecords = new LoanRecords();
+        int size = reader.readVarInt();
+        for (int i = 0; i < size; i++) {
+            Loan loan = new Loan(reader.readLoanId(), reader.readSerialNumber(), reader.readBorrowerId(),
+                    reader.readDate(), reader.readDate(), reader.readOptionalDate(),
+                    reader.readSignedVarInt(), reader.readSignedVarInt(), reader.readSignedVarInt());
+            if (loanRecords.hasLoan(loan)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_LOAN);
+            }
+            loanRecords.addLoan(loan);
+        }
+        return loanRecords;
+    }
+
+}
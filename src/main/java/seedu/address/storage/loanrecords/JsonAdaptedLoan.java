@@ -15,7 +15,7 @@ import seedu.address.model.loan.LoanId;
 /**
  * Jackson-friendly version of {@link Loan}.
  */
-class JsonAdaptedLoan {
+public class JsonAdaptedLoan {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Loan's %s field is missing!";
     public static final String DATE_MESSAGE_CONSTRAINTS = "Date should be in the ISO-8601 format YYYY-MM-DD";
@@ -10,8 +10,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyLoanRecords;
 
 /**
@@ -45,14 +43,8 @@ public class JsonLoanRecordsStorage implements LoanRecordsStorage {
     public Optional<ReadOnlyLoanRecords> readLoanRecords(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableLoanRecords> jsonLoanRecords = JsonUtil.readJsonFile(
-                filePath, JsonSerializableLoanRecords.class);
-        if (!jsonLoanRecords.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonLoanRecords.get().toModelType());
+            return JsonSerializableLoanRecords.readLoanRecords(filePath).map(loanRecords -> loanRecords);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +65,7 @@ public class JsonLoanRecordsStorage implements LoanRecordsStorage {
         requireNonNull(loanRecords);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLoanRecords(loanRecords), filePath);
+        JsonSerializableLoanRecords.saveLoanRecords(loanRecords, filePath);
     }
 
 }
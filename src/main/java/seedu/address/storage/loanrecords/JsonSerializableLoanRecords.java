@@ -1,14 +1,19 @@
 package seedu.address.storage.loanrecords;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.LoanRecords;
 import seedu.address.model.ReadOnlyLoanRecords;
 import seedu.address.model.loan.Loan;
@@ -20,6 +25,8 @@ import seedu.address.model.loan.Loan;
 public class JsonSerializableLoanRecords {
     // NOT IMPORTANT
     public static final String MESSAGE_DUPLICATE_LOAN = "loans list contains duplicate loan(s).";
+    private static final String LOANS_FIELD = "loans";
+
     private final List<JsonAdaptedLoan> loans = new ArrayList<>();
 
     /**
@@ -47,13 +54,40 @@ public class JsonSerializableLoanRecords {
     public LoanRecords toModelType() throws IllegalValueException {
         LoanRecords loanRecords = new LoanRecords();
         for (JsonAdaptedLoan jsonAdaptedLoan : loans) {
-            Loan loan = jsonAdaptedLoan.toModelType();
-            if (loanRecords.hasLoan(loan)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LOAN);
-            }
-            loanRecords.addLoan(loan);
+            addToLoanRecords(loanRecords, jsonAdaptedLoan);
         }
         return loanRecords;
     }
 
+    /**
+     * Reads the loan records stored in {@code filePath} loan by loan, converting each loan as soon as it is parsed.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<LoanRecords> readLoanRecords(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        LoanRecords loanRecords = new LoanRecords();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, LOANS_FIELD, JsonAdaptedLoan.class,
+            jsonAdaptedLoan -> addToLoanRecords(loanRecords, jsonAdaptedLoan));
+        return isFound ? Optional.of(loanRecords) : Optional.empty();
+    }
+
+    /**
+     * Writes {@code source} to {@code filePath} loan by loan, in the same format as this class.
+     */
+    public static void saveLoanRecords(ReadOnlyLoanRecords source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, LOANS_FIELD, source.getLoanCollection(), JsonAdaptedLoan::new);
+    }
+
+    private static void addToLoanRecords(LoanRecords loanRecords, JsonAdaptedLoan jsonAdaptedLoan)
+            throws IllegalValueException {
+        Loan loan = jsonAdaptedLoan.toModelType();
+        if (loanRecords.hasLoan(loan)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LOAN);
+        }
+        loanRecords.addLoan(loan);
+    }
+
 }
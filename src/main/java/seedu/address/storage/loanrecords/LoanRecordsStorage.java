@@ -3,9 +3,11 @@ package seedu.address.storage.loanrecords;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.loan.LoanId;
 
 /**
  * Represents a storage for {@link seedu.address.model.LoanRecords}.
@@ -42,4 +44,16 @@ public interface LoanRecordsStorage {
      */
     void saveLoanRecords(ReadOnlyLoanRecords loanRecords, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyLoanRecords} to the storage, which already holds them as they were before the
+     * loans with {@code changedLoanIds} were added, updated or removed.
+     * Storages that can write single loans in place only write those loans; the others save the records in full.
+     * @param loanRecords cannot be null.
+     * @param changedLoanIds cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveLoanRecords(ReadOnlyLoanRecords loanRecords, Set<LoanId> changedLoanIds) throws IOException {
+        saveLoanRecords(loanRecords);
+    }
+
 }
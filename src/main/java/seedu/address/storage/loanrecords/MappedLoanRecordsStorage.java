@@ -0,0 +1,275 @@
+package seedu.address.storage.loanrecords;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanId;
+import seedu.address.storage.snapshot.SnapshotReader;
+
+/**
+ * A class to access LoanRecords data stored on the hard disk as a memory-mapped file of fixed-width slots,
+ * one for each loan ID number.
+ * Saving the loans that changed since the file was last written writes only their slots, appending slots for new
+ * loan IDs, so updating a loan rewrites just its own slot. Saving the records in full compares every slot and
+ * writes only the slots whose contents have changed.
+ * A save interrupted part way leaves only slots of loans that changed since the last save partially written,
+ * and those changes are still in the journal to be replayed.
+ */
+public class MappedLoanRecordsStorage implements LoanRecordsStorage {
+
+    /** Size of the file header, in bytes. */
+    static final int HEADER_SIZE = 16;
+    /** Size of each loan slot, in bytes. */
+    static final int SLOT_SIZE = 36;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedLoanRecordsStorage.class);
+
+    /** Marks the start of every mapped loan records file, spelling "LBMS". */
+    private static final int MAGIC = 0x4C424D53;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte OCCUPIED = 1;
+    private static final byte RETURNED = 2;
+
+    // Offsets of the fields within a slot. The three bytes after the flags are unused.
+    private static final int FLAGS_OFFSET = 0;
+    private static final int SERIAL_NUMBER_OFFSET = 4;
+    private static final int BORROWER_ID_OFFSET = 8;
+    private static final int START_DATE_OFFSET = 12;
+    private static final int DUE_DATE_OFFSET = 16;
+    private static final int RETURN_DATE_OFFSET = 20;
+    private static final int RENEW_COUNT_OFFSET = 24;
+    private static final int REMAINING_FINE_AMOUNT_OFFSET = 28;
+    private static final int PAID_FINE_AMOUNT_OFFSET = 32;
+
+    private Path filePath;
+
+    public MappedLoanRecordsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getLoanRecordsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLoanRecords> readLoanRecords() throws DataConversionException {
+        return readLoanRecords(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLoanRecords()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyLoanRecords> readLoanRecords(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Mapped loan records file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            int slotCount = getSlotCount(channel);
+            if (slotCount < 0) {
+                throw new IOException("Not a mapped loan records file");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+            LoanRecords loanRecords = new LoanRecords();
+            for (int i = 0; i < slotCount; i++) {
+                int offset = HEADER_SIZE + i * SLOT_SIZE;
+                if ((buffer.get(offset + FLAGS_OFFSET) & OCCUPIED) != 0) {
+                    loanRecords.addLoan(readSlot(buffer, offset, i));
+                }
+            }
+            return Optional.of(loanRecords);
+        } catch (IOException e) {
+            logger.warning("Error reading from mapped loan records file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveLoanRecords(ReadOnlyLoanRecords loanRecords) throws IOException {
+        saveLoanRecords(loanRecords, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLoanRecords(ReadOnlyLoanRecords)}
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveLoanRecords(ReadOnlyLoanRecords loanRecords, Path filePath) throws IOException {
+        requireNonNull(loanRecords);
+        requireNonNull(filePath);
+
+        Map<Integer, Loan> loansByNumber = new HashMap<>();
+        int requiredSlotCount = 0;
+        for (Loan loan : loanRecords.getLoanCollection()) {
+            int number = SnapshotReader.getIdNumber(loan.getLoanId().value);
+            loansByNumber.put(number, loan);
+            requiredSlotCount = Math.max(requiredSlotCount, number + 1);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int existingSlotCount = getSlotCount(channel);
+            if (existingSlotCount < 0) {
+                channel.truncate(0);
+            }
+            int slotCount = Math.max(existingSlotCount, requiredSlotCount);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+            if (existingSlotCount < 0) {
+                buffer.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putInt(8, SLOT_SIZE);
+            }
+
+            byte[] slot = new byte[SLOT_SIZE];
+            int writtenSlotCount = 0;
+            for (int i = 0; i < slotCount; i++) {
+                int offset = HEADER_SIZE + i * SLOT_SIZE;
+                Arrays.fill(slot, (byte) 0);
+                Loan loan = loansByNumber.get(i);
+                if (loan != null) {
+                    encodeSlot(ByteBuffer.wrap(slot), loan);
+                }
+                if (!isSlotEqual(buffer, offset, slot)) {
+                    buffer.duplicate().position(offset).put(slot);
+                    writtenSlotCount++;
+                }
+            }
+            buffer.force();
+            logger.fine("Wrote " + writtenSlotCount + " of " + slotCount + " loan slots to " + filePath);
+        }
+    }
+
+    /**
+     * Writes the slots of the loans with {@code changedLoanIds} only, appending slots for new loan IDs.
+     * The records are saved in full if the file is missing or is not a mapped loan records file.
+     */
+    @Override
+    public void saveLoanRecords(ReadOnlyLoanRecords loanRecords, Set<LoanId> changedLoanIds) throws IOException {
+        requireNonNull(loanRecords);
+        requireNonNull(changedLoanIds);
+
+        if (Files.exists(filePath)) {
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                int existingSlotCount = getSlotCount(channel);
+                if (existingSlotCount >= 0) {
+                    writeSlots(channel, existingSlotCount, loanRecords, changedLoanIds);
+                    return;
+                }
+            }
+        }
+        saveLoanRecords(loanRecords, filePath);
+    }
+
+    private void writeSlots(FileChannel channel, int existingSlotCount, ReadOnlyLoanRecords loanRecords,
+            Set<LoanId> loanIds) throws IOException {
+        int slotCount = existingSlotCount;
+        for (LoanId loanId : loanIds) {
+            slotCount = Math.max(slotCount, SnapshotReader.getIdNumber(loanId.value) + 1);
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+
+        Map<LoanId, Loan> loansMap = loanRecords.getLoansMap();
+        byte[] slot = new byte[SLOT_SIZE];
+        for (LoanId loanId : loanIds) {
+            Arrays.fill(slot, (byte) 0);
+            Loan loan = loansMap.get(loanId);
+            if (loan != null) {
+                encodeSlot(ByteBuffer.wrap(slot), loan);
+            }
+            int offset = HEADER_SIZE + SnapshotReader.getIdNumber(loanId.value) * SLOT_SIZE;
+            buffer.duplicate().position(offset).put(slot);
+        }
+        buffer.force();
+        logger.fine("Wrote " + loanIds.size() + " of " + slotCount + " loan slots to " + filePath);
+    }
+
+    /**
+     * Returns the number of slots in the file opened by {@code channel},
+     * or -1 if the file is empty or is not a mapped loan records file.
+     */
+    private static int getSlotCount(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE || (size - HEADER_SIZE) % SLOT_SIZE != 0) {
+            return -1;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION || header.getInt(8) != SLOT_SIZE) {
+            return -1;
+        }
+        return Math.toIntExact((size - HEADER_SIZE) / SLOT_SIZE);
+    }
+
+    /**
+     * Encodes {@code loan} into {@code slot}, which should be all zeroes.
+     */
+    private static void encodeSlot(ByteBuffer slot, Loan loan) {
+        LocalDate returnDate = loan.getReturnDate();
+        slot.put(FLAGS_OFFSET, (byte) (returnDate == null ? OCCUPIED : OCCUPIED | RETURNED))
+                .putInt(SERIAL_NUMBER_OFFSET, SnapshotReader.getIdNumber(loan.getBookSerialNumber().value))
+                .putInt(BORROWER_ID_OFFSET, SnapshotReader.getIdNumber(loan.getBorrowerId().value))
+                .putInt(START_DATE_OFFSET, Math.toIntExact(loan.getStartDate().toEpochDay()))
+                .putInt(DUE_DATE_OFFSET, Math.toIntExact(loan.getDueDate().toEpochDay()))
+                .putInt(RETURN_DATE_OFFSET, returnDate == null ? 0 : Math.toIntExact(returnDate.toEpochDay()))
+                .putInt(RENEW_COUNT_OFFSET, loan.getRenewCount())
+                .putInt(REMAINING_FINE_AMOUNT_OFFSET, loan.getRemainingFineAmount())
+                .putInt(PAID_FINE_AMOUNT_OFFSET, loan.getPaidFineAmount());
+    }
+
+    private static boolean isSlotEqual(ByteBuffer buffer, int offset, byte[] slot) {
+        for (int i = 0; i < SLOT_SIZE; i++) {
+            if (buffer.get(offset + i) != slot[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Loan readSlot(ByteBuffer buffer, int offset, int loanNumber) throws IllegalValueException {
+        boolean isReturned = (buffer.get(offset + FLAGS_OFFSET) & RETURNED) != 0;
+        return new Loan(SnapshotReader.toLoanId(loanNumber),
+                SnapshotReader.toSerialNumber(buffer.getInt(offset + SERIAL_NUMBER_OFFSET)),
+                SnapshotReader.toBorrowerId(buffer.getInt(offset + BORROWER_ID_OFFSET)),
+                LocalDate.ofEpochDay(buffer.getInt(offset + START_DATE_OFFSET)),
+                LocalDate.ofEpochDay(buffer.getInt(offset + DUE_DATE_OFFSET)),
+                isReturned ? LocalDate.ofEpochDay(buffer.getInt(offset + RETURN_DATE_OFFSET)) : null,
+                buffer.getInt(offset + RENEW_COUNT_OFFSET),
+                buffer.getInt(offset + REMAINING_FINE_AMOUNT_OFFSET),
+                buffer.getInt(offset + PAID_FINE_AMOUNT_OFFSET));
+    }
+
+}
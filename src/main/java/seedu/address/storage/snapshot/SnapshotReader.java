@@ -0,0 +1,295 @@
+package seedu.address.storage.snapshot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_LOAN_ID_DOES_NOT_EXISTS;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.borrower.BorrowerId;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanId;
+import seedu.address.model.loan.LoanList;
+
+/**
+ * Reads the body of a binary snapshot file written by {@link SnapshotWriter}.
+ */
+public class SnapshotReader {
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotReader.class);
+
+    /** Longest string, in bytes, that a well-formed snapshot contains. Guards against corrupt lengths. */
+    private static final int MAX_STRING_LENGTH = 64 * 1024;
+    private static final String LOAN_ID_FORMAT = LoanId.PREFIX + "%06d";
+    private static final String SERIAL_NUMBER_FORMAT = "B%05d";
+    private static final String BORROWER_ID_FORMAT = "K%04d";
+
+    private final DataInputStream in;
+    private int version;
+
+    private SnapshotReader(InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+    }
+
+    /**
+     * Returns the records read by {@code body} from the snapshot of type {@code type} in {@code filePath},
+     * or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not a snapshot of type {@code type} in a supported version.
+     * @throws IllegalValueException if {@code body} finds that any data constraints were violated.
+     */
+    public static <T> Optional<T> read(Path filePath, SnapshotType type, SnapshotBodyReader<T> body)
+            throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(type);
+        requireNonNull(body);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream fileIn = Files.newInputStream(filePath)) {
+            SnapshotReader reader = new SnapshotReader(fileIn);
+            if (reader.in.readInt() != SnapshotWriter.MAGIC) {
+                throw new IOException("Not a snapshot file");
+            }
+            if (reader.in.readUnsignedByte() != type.getCode()) {
+                throw new IOException("Not a snapshot of " + type);
+            }
+            reader.version = reader.readVarInt();
+            if (reader.version > SnapshotWriter.FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + reader.version);
+            }
+            return Optional.of(body.read(reader));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the version of the snapshot format that the snapshot being read was written in.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Reads a non-negative int written by {@link SnapshotWriter#writeVarInt(int)}.
+     */
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Reads an int written by {@link SnapshotWriter#writeSignedVarInt(int)}.
+     */
+    public int readSignedVarInt() throws IOException {
+        int zigzag = readVarInt();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public String readString() throws IOException {
+        int length = readVarInt();
+        if (length > MAX_STRING_LENGTH) {
+            throw new IOException("String of " + length + " bytes is too long");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string table written by {@link SnapshotWriter#writeStringTable(List)}.
+     */
+    public List<String> readStringTable() throws IOException {
+        int size = readVarInt();
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            strings.add(readString());
+        }
+        return strings;
+    }
+
+    /**
+     * Reads an index into a string table of {@code tableSize} strings.
+     */
+    public int readTableIndex(int tableSize) throws IOException {
+        int index = readVarInt();
+        if (index >= tableSize) {
+            throw new IOException("String table index " + index + " is out of range");
+        }
+        return index;
+    }
+
+    public LocalDate readDate() throws IOException {
+        return LocalDate.ofEpochDay(readSignedVarInt());
+    }
+
+    /**
+     * Reads a date written by {@link SnapshotWriter#writeOptionalDate(LocalDate)}, which may be null.
+     */
+    public LocalDate readOptionalDate() throws IOException {
+        int encoded = readVarInt();
+        if (encoded == 0) {
+            return null;
+        }
+        int zigzag = encoded - 1;
+        return LocalDate.ofEpochDay((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+
+    /**
+     * Reads a loan ID.
+     *
+     * @throws IllegalValueException if the number read does not make a valid loan ID.
+     */
+    public LoanId readLoanId() throws IOException, IllegalValueException {
+        return toLoanId(readVarInt());
+    }
+
+    /**
+     * Reads a loan ID written by {@link SnapshotWriter#writeOptionalLoanId(Loan)} and returns the loan with that ID
+     * in {@code loanRecords}, or null if no loan ID was written.
+     *
+     * @throws IllegalValueException if the loan ID is invalid or is not in {@code loanRecords}.
+     */
+    public Loan readOptionalLoan(ReadOnlyLoanRecords loanRecords) throws IOException, IllegalValueException {
+        int encoded = readVarInt();
+        if (encoded == 0) {
+            return null;
+        }
+        return getLoan(loanRecords, toLoanId(encoded - 1));
+    }
+
+    /**
+     * Reads loan IDs written by {@link SnapshotWriter#writeLoanIds(LoanList)} and returns a {@code LoanList}
+     * of the loans with those IDs in {@code loanRecords}.
+     *
+     * @throws IllegalValueException if any loan ID is invalid or is not in {@code loanRecords}.
+     */
+    public LoanList readLoanList(ReadOnlyLoanRecords loanRecords) throws IOException, IllegalValueException {
+        int size = readVarInt();
+        List<Loan> loans = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            loans.add(getLoan(loanRecords, readLoanId()));
+        }
+        LoanList loanList = new LoanList();
+        loanList.addAll(loans);
+        return loanList;
+    }
+
+    /**
+     * Reads and discards loan IDs written by {@link SnapshotWriter#writeLoanIds(LoanList)}.
+     */
+    public void skipLoanIds() throws IOException, IllegalValueException {
+        int size = readVarInt();
+        for (int i = 0; i < size; i++) {
+            readLoanId();
+        }
+    }
+
+    /**
+     * Reads a serial number.
+     *
+     * @throws IllegalValueException if the number read does not make a valid serial number.
+     */
+    public SerialNumber readSerialNumber() throws IOException, IllegalValueException {
+        return toSerialNumber(readVarInt());
+    }
+
+    /**
+     * Reads a borrower ID.
+     *
+     * @throws IllegalValueException if the number read does not make a valid borrower ID.
+     */
+    public BorrowerId readBorrowerId() throws IOException, IllegalValueException {
+        return toBorrowerId(readVarInt());
+    }
+
+    /**
+     * Returns the number after the prefix of an ID such as a {@code LoanId}, {@code SerialNumber}
+     * or {@code BorrowerId}.
+     */
+    public static int getIdNumber(String id) {
+        return Integer.parseInt(id.substring(1));
+    }
+
+    /**
+     * Returns the {@code LoanId} with the given number.
+     *
+     * @throws IllegalValueException if {@code number} does not make a valid loan ID.
+     */
+    public static LoanId toLoanId(int number) throws IllegalValueException {
+        String loanId = String.format(LOAN_ID_FORMAT, number);
+        if (number < 0 || !LoanId.isValidLoanId(loanId)) {
+            throw new IllegalValueException(LoanId.MESSAGE_CONSTRAINTS);
+        }
+        return new LoanId(loanId);
+    }
+
+    /**
+     * Returns the {@code SerialNumber} with the given number.
+     *
+     * @throws IllegalValueException if {@code number} does not make a valid serial number.
+     */
+    public static SerialNumber toSerialNumber(int number) throws IllegalValueException {
+        String serialNumber = String.format(SERIAL_NUMBER_FORMAT, number);
+        if (number < 0 || !SerialNumber.isValidSerialNumber(serialNumber)) {
+            throw new IllegalValueException(SerialNumber.MESSAGE_CONSTRAINTS);
+        }
+        return new SerialNumber(serialNumber);
+    }
+
+    /**
+     * Returns the {@code BorrowerId} with the given number.
+     *
+     * @throws IllegalValueException if {@code number} does not make a valid borrower ID.
+     */
+    public static BorrowerId toBorrowerId(int number) throws IllegalValueException {
+        String borrowerId = String.format(BORROWER_ID_FORMAT, number);
+        if (number < 0 || !BorrowerId.isValidBorrowerId(borrowerId)) {
+            throw new IllegalValueException(BorrowerId.MESSAGE_CONSTRAINTS);
+        }
+        return new BorrowerId(borrowerId);
+    }
+
+    private static Loan getLoan(ReadOnlyLoanRecords loanRecords, LoanId loanId) throws IllegalValueException {
+        Loan loan = loanRecords.getLoansMap().get(loanId);
+        if (loan == null) {
+            throw new IllegalValueException(String.format(MESSAGE_LOAN_ID_DOES_NOT_EXISTS, loanId));
+        }
+        return loan;
+    }
+
+    /**
+     * Reads the body of a snapshot file into records of type {@code T}.
+     */
+    @FunctionalInterface
+    public interface SnapshotBodyReader<T> {
+        T read(SnapshotReader reader) throws IOException, IllegalValueException;
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.storage.snapshot;
+
+/**
+ * Identifies which library records a binary snapshot file holds.
+ */
+public enum SnapshotType {
+    LOAN_RECORDS(1),
+    CATALOG(2),
+    BORROWER_RECORDS(3);
+
+    private final int code;
+
+    SnapshotType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
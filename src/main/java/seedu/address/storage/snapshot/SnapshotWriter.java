@@ -0,0 +1,162 @@
+package seedu.address.storage.snapshot;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.borrower.BorrowerId;
+import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanId;
+import seedu.address.model.loan.LoanList;
+
+/**
+ * Writes the body of a binary snapshot file.
+ * Integers are written as varints, dates as their epoch day and IDs as the number after their prefix.
+ */
+public class SnapshotWriter {
+
+    /** Marks the start of every snapshot file, spelling "LBRY". */
+    static final int MAGIC = 0x4C425259;
+    /**
+     * Version of the snapshot format written by this class.
+     * Version 2 dropped the loan histories of books, which are kept in the loan records instead.
+     */
+    static final int FORMAT_VERSION = 2;
+
+    private final DataOutputStream out;
+
+    private SnapshotWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+    }
+
+    /**
+     * Writes a snapshot of type {@code type} with the body written by {@code body} to {@code filePath}.
+     * The snapshot is written to a temporary file first and then moved over {@code filePath}, so an interrupted save
+     * leaves the previous snapshot intact.
+     */
+    public static void write(Path filePath, SnapshotType type, SnapshotBodyWriter body) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(type);
+        requireNonNull(body);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (OutputStream fileOut = Files.newOutputStream(tempFile)) {
+            SnapshotWriter writer = new SnapshotWriter(fileOut);
+            writer.out.writeInt(MAGIC);
+            writer.out.writeByte(type.getCode());
+            writer.writeVarInt(FORMAT_VERSION);
+            body.write(writer);
+            writer.out.flush();
+        }
+        FileUtil.replaceFile(tempFile, filePath);
+    }
+
+    /**
+     * Writes a non-negative int in as few bytes as needed, seven bits at a time.
+     */
+    public void writeVarInt(int value) throws IOException {
+        assert value >= 0 : "Only non-negative values can be written as varints";
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Writes an int that may be negative, zigzag-encoded so that small magnitudes stay small.
+     */
+    public void writeSignedVarInt(int value) throws IOException {
+        int zigzag = (value << 1) ^ (value >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            out.writeByte((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.writeByte(zigzag);
+    }
+
+    public void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes {@code strings} so that later records can refer to each of them by its index in the list.
+     */
+    public void writeStringTable(List<String> strings) throws IOException {
+        writeVarInt(strings.size());
+        for (String string : strings) {
+            writeString(string);
+        }
+    }
+
+    public void writeDate(LocalDate date) throws IOException {
+        writeSignedVarInt(Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * Writes {@code date}, which may be null, as one more than its zigzag-encoded epoch day, or 0 if null.
+     */
+    public void writeOptionalDate(LocalDate date) throws IOException {
+        if (date == null) {
+            writeVarInt(0);
+            return;
+        }
+        int epochDay = Math.toIntExact(date.toEpochDay());
+        writeVarInt(((epochDay << 1) ^ (epochDay >> 31)) + 1);
+    }
+
+    public void writeLoanId(LoanId loanId) throws IOException {
+        writeVarInt(SnapshotReader.getIdNumber(loanId.value));
+    }
+
+    /**
+     * Writes the ID of {@code loan}, which may be null, as one more than its number, or 0 if null.
+     */
+    public void writeOptionalLoanId(Loan loan) throws IOException {
+        writeVarInt(loan == null ? 0 : SnapshotReader.getIdNumber(loan.getLoanId().value) + 1);
+    }
+
+    /**
+     * Writes the IDs of the loans in {@code loans}, which may be null, preceded by their count.
+     */
+    public void writeLoanIds(LoanList loans) throws IOException {
+        if (loans == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(loans.size());
+        for (Loan loan : loans) {
+            writeLoanId(loan.getLoanId());
+        }
+    }
+
+    public void writeSerialNumber(SerialNumber serialNumber) throws IOException {
+        writeVarInt(SnapshotReader.getIdNumber(serialNumber.value));
+    }
+
+    public void writeBorrowerId(BorrowerId borrowerId) throws IOException {
+        writeVarInt(SnapshotReader.getIdNumber(borrowerId.value));
+    }
+
+    /**
+     * Writes the body of a snapshot file.
+     */
+    @FunctionalInterface
+    public interface SnapshotBodyWriter {
+        void write(SnapshotWriter writer) throws IOException;
+    }
+}
@@ -16,6 +16,7 @@ import javafx.scene.layout.VBox;
 import seedu.address.commons.util.FineUtil;
 import seedu.address.model.book.Book;
 import seedu.address.model.borrower.Borrower;
+import seedu.address.model.loan.LoanTotals;
 
 /**
  * A Ui component containing the borrower's information.
@@ -55,20 +56,37 @@ public class BorrowerPanel extends UiPart<Region> {
      * Sets a borrower when transiting into serve mode
      *
      * @param borrower Borrower being served/
+     * @param accruedFineAmount Fine in cents accrued so far by the books the borrower has not returned.
      * @param observableBookList List of books the borrower loaned from the library.
      */
-    public void setBorrower(Borrower borrower, ObservableList<Book> observableBookList, boolean isDarkTheme) {
+    public void setBorrower(Borrower borrower, long accruedFineAmount, ObservableList<Book> observableBookList,
+            boolean isDarkTheme) {
         requireNonNull(borrower);
         this.isDarkTheme = isDarkTheme;
         name.setText("Borrower: " + borrower.getName().toString());
         id.setText("ID: " + borrower.getBorrowerId().toString());
         phone.setText("Phone: " + borrower.getPhone().toString());
         email.setText("Email: " + borrower.getEmail().toString());
-        fines.setText("Fines: " + FineUtil.centsToDollarString(borrower.getOutstandingFineAmount()));
+        fines.setText("Fines: " + FineUtil.centsToDollarString(borrower.getOutstandingFineAmount())
+                + (accruedFineAmount > 0
+                        ? " (" + FineUtil.centsToDollarString(accruedFineAmount) + " more accruing on overdue books)"
+                        : ""));
         bookListView.setItems(observableBookList);
         bookListView.setCellFactory(listView -> new BorrowerPanel.BookListViewCell());
     }
 
+    /**
+     * Shows the fine totals and loan counts of the whole library when not in serve mode.
+     *
+     * @param loanTotals Totals over all the loans in the library.
+     */
+    public void setLibraryTotals(LoanTotals loanTotals) {
+        requireNonNull(loanTotals);
+        fines.setText("Library fines: " + FineUtil.centsToDollarString(loanTotals.getOutstandingFineAmount())
+                + " outstanding, " + FineUtil.centsToDollarString(loanTotals.getPaidFineAmount()) + " paid, "
+                + loanTotals.getActiveLoanCount() + " books on loan");
+    }
+
     /**
      * Resets the borrower panel when Done command is invoked.
      */
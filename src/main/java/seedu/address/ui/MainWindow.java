@@ -152,6 +152,9 @@ public class MainWindow extends UiPart<Stage> {
 
         borrowerPanel = new BorrowerPanel(guiSettings.isDarkTheme());
         borrowerPanelPlaceholder.getChildren().add(borrowerPanel.getRoot());
+        if (!logic.isServeMode()) {
+            updateLibraryTotals();
+        }
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -244,10 +247,19 @@ public class MainWindow extends UiPart<Stage> {
     private void updateBorrowerPanel() {
         assert logic.isServeMode() : "Not in serve mode";
         borrowerPanel.setBorrower(
-                logic.getServingBorrower(), logic.getServingBorrowerBookList(),
+                logic.getServingBorrower(), logic.getServingBorrowerAccruedFineAmount(),
+                logic.getServingBorrowerBookList(),
                 guiSettings.isDarkTheme());
     }
 
+    /**
+     * Updates the library-wide fine totals shown in the borrower panel in Normal Mode.
+     */
+    private void updateLibraryTotals() {
+        assert !logic.isServeMode() : "In serve mode";
+        borrowerPanel.setLibraryTotals(logic.getLoanTotals());
+    }
+
     /**
      * Resets the borrower panel and sets the label to Normal Mode.
      */
@@ -285,6 +297,8 @@ public class MainWindow extends UiPart<Stage> {
 
             if (logic.isServeMode() && !commandResult.isDone()) {
                 updateBorrowerPanel();
+            } else if (!logic.isServeMode()) {
+                updateLibraryTotals();
             }
 
             return commandResult;
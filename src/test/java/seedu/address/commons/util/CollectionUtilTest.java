@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -95,6 +97,25 @@ public class CollectionUtilTest {
         assertFalse(CollectionUtil.areAllSameSize(new ArrayList<>(list), new ArrayList<>()));
     }
 
+    @Test
+    public void mapInParallel() throws Exception {
+        List<Integer> items = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(i);
+            expected.add(i * 2);
+        }
+
+        // results are in the same order as the items
+        assertEquals(expected, CollectionUtil.mapInParallel(items, i -> i * 2));
+        assertEquals(Collections.emptyList(), CollectionUtil.mapInParallel(Collections.emptyList(), i -> i));
+
+        // the exception thrown for the earliest item is rethrown
+        assertThrows(IOException.class, "0", () -> CollectionUtil.mapInParallel(items, i -> {
+            throw new IOException(String.valueOf(i % 2));
+        }));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
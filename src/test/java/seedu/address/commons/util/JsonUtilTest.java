@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,39 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayFile_sameFormatAsSaveJsonFile() throws Exception {
+        List<String> items = Arrays.asList("first", "second");
+
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "items", items, String::toUpperCase);
+
+        assertEquals(JsonUtil.toJsonString(Collections.singletonMap("items", Arrays.asList("FIRST", "SECOND"))),
+                FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void readJsonArrayFile_savedArray_elementsReadInOrder() throws Exception {
+        List<String> items = Arrays.asList("first", "second", "third");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "items", items, item -> item);
+
+        List<String> readItems = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, readItems::add));
+        assertEquals(items, readItems);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArrayFile(missingFile, "items", String.class, item -> { }));
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsDataConversionException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"first\" ]");
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "items", String.class, item -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
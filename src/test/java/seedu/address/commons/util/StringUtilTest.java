@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -163,6 +166,19 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsPartialWord --------------------------------------
+
+    @Test
+    public void containsPartialWord() {
+        List<String> lowerCaseWords = StringUtil.toLowerCaseWords("Harry  Potter\tand");
+        assertEquals(Arrays.asList("harry", "potter", "and"), lowerCaseWords);
+
+        assertTrue(StringUtil.containsPartialWord(lowerCaseWords, "harry"));
+        assertTrue(StringUtil.containsPartialWord(lowerCaseWords, "ott"));
+        assertFalse(StringUtil.containsPartialWord(lowerCaseWords, "POTTER")); // word must already be in lower case
+        assertFalse(StringUtil.containsPartialWord(lowerCaseWords, "harry potter")); // words are matched one by one
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
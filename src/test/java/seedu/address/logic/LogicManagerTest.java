@@ -115,6 +115,11 @@ public class LogicManagerTest {
         assertEquals(logic.getFilteredBookList(), model.getFilteredBookList());
     }
 
+    @Test
+    public void getLoanTotals_success() {
+        assertEquals(logic.getLoanTotals(), model.getLoanTotals());
+    }
+
     @Test
     public void getCatalogFilePath_success() {
         assertEquals(logic.getCatalogFilePath(), model.getCatalogFilePath());
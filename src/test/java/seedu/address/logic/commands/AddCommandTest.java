@@ -36,6 +36,7 @@ import seedu.address.model.book.SerialNumber;
 import seedu.address.model.borrower.Borrower;
 import seedu.address.model.borrower.BorrowerId;
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanTotals;
 import seedu.address.testutil.BookBuilder;
 
 
@@ -297,6 +298,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceBooks(List<Book> targets, List<Book> editedBooks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Book> getOverdueBooks() {
             throw new AssertionError("This method should not be called");
@@ -334,6 +340,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public LoanTotals getLoanTotals() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addLoan(Loan loan) {
             throw new AssertionError("This method should not be called.");
@@ -354,6 +365,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int payFines(BorrowerId borrowerId, int amountInCents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAccruedFineAmount(BorrowerId borrowerId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getBorrowerRecordsFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -424,6 +445,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void servingBorrowerNewLoans(List<Loan> newLoans) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void servingBorrowerRemoveLoans(List<Loan> removeLoans) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void servingBorrowerReturnLoan(Loan loanToBeReturned, Loan returnedLoan) {
             throw new AssertionError("This method should not be called.");
@@ -474,6 +505,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Borrower> findBorrowers(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void unregisterBorrower(Borrower toUnregister) {
             throw new AssertionError("This method should not be called.");
@@ -513,6 +549,11 @@ public class AddCommandTest {
         public String getLoadStatus() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void clearPendingChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,163 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_SUCH_BORROWER_ID;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DOLLAR_AMOUNT;
+import static seedu.address.testutil.TypicalBorrowers.IDA;
+import static seedu.address.testutil.TypicalBorrowers.JANNA;
+import static seedu.address.testutil.TypicalLoans.LOAN_8;
+import static seedu.address.testutil.TypicalLoans.LOAN_9;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FineUtil;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+class BatchPayCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+        borrowerRecords.addBorrower(IDA);
+        borrowerRecords.addBorrower(JANNA);
+
+        LoanRecords loanRecords = new LoanRecords();
+        loanRecords.addLoan(LOAN_8);
+        loanRecords.addLoan(LOAN_9);
+
+        model = new ModelManager(new Catalog(), loanRecords, borrowerRecords, new UserPrefs());
+        expectedModel = new ModelManager(new Catalog(), new LoanRecords(loanRecords),
+                new BorrowerRecords(borrowerRecords), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validPayments_paymentsSuccessful() throws IOException {
+        Path filePath = writePayments("borrowerId,amount", "K0010,2.00", "", "K0010,1.50", "K0009,1.00");
+
+        expectedModel.payFines(JANNA.getBorrowerId(), 350);
+        expectedModel.payFines(IDA.getBorrowerId(), 100);
+        String expectedMessage = String.format(BatchPayCommand.MESSAGE_SUCCESS, FineUtil.centsToDollarString(350),
+                2, filePath, FineUtil.centsToDollarString(100))
+                + String.format(BatchPayCommand.MESSAGE_CHANGE_GIVEN, IDA, FineUtil.centsToDollarString(100));
+
+        assertCommandSuccess(new BatchPayCommand(filePath), model, expectedMessage, expectedModel);
+        assertEquals(100, model.getBorrowerFromId(JANNA.getBorrowerId()).getOutstandingFineAmount());
+    }
+
+    @Test
+    public void execute_headerAfterByteOrderMarkAndBlankLines_headerSkipped() throws IOException {
+        Path filePath = writePayments("\uFEFF", "", "borrowerId,amount", "K0010,2.00");
+
+        expectedModel.payFines(JANNA.getBorrowerId(), 200);
+        String expectedMessage = String.format(BatchPayCommand.MESSAGE_SUCCESS, FineUtil.centsToDollarString(200),
+                1, filePath, FineUtil.centsToDollarString(0));
+
+        assertCommandSuccess(new BatchPayCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_byteOrderMarkBeforeFirstPayment_paymentRead() throws IOException {
+        Path filePath = writePayments("\uFEFFK0010,2.00");
+
+        expectedModel.payFines(JANNA.getBorrowerId(), 200);
+        String expectedMessage = String.format(BatchPayCommand.MESSAGE_SUCCESS, FineUtil.centsToDollarString(200),
+                1, filePath, FineUtil.centsToDollarString(0));
+
+        assertCommandSuccess(new BatchPayCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_paymentsBeyondIntRange_totalsShownInFull() throws IOException {
+        Path filePath = writePayments("K0010,21474836.47", "K0009,21474836.47");
+
+        expectedModel.payFines(JANNA.getBorrowerId(), Integer.MAX_VALUE);
+        expectedModel.payFines(IDA.getBorrowerId(), Integer.MAX_VALUE);
+        long expectedChange = 2L * Integer.MAX_VALUE - 450;
+        String expectedMessage = String.format(BatchPayCommand.MESSAGE_SUCCESS, FineUtil.centsToDollarString(450),
+                2, filePath, FineUtil.centsToDollarString(expectedChange))
+                + String.format(BatchPayCommand.MESSAGE_CHANGE_GIVEN, JANNA,
+                        FineUtil.centsToDollarString(Integer.MAX_VALUE - 450))
+                + String.format(BatchPayCommand.MESSAGE_CHANGE_GIVEN, IDA,
+                        FineUtil.centsToDollarString(Integer.MAX_VALUE));
+
+        assertCommandSuccess(new BatchPayCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_borrowerPaymentsOverflow_noPaymentMade() throws IOException {
+        Path filePath = writePayments("K0009,1.00", "K0010,21474836.47", "K0010,0.01");
+        String expectedMessage = String.format(BatchPayCommand.MESSAGE_INVALID_PAYMENT, 3, filePath,
+                String.format(BatchPayCommand.MESSAGE_PAYMENTS_TOO_LARGE, JANNA.getBorrowerId(),
+                        FineUtil.centsToDollarString(Integer.MAX_VALUE)));
+
+        assertCommandFailure(new BatchPayCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_invalidAmount_noPaymentMade() throws IOException {
+        Path filePath = writePayments("K0010,2.00", "K0010,abc");
+        String expectedMessage = String.format(BatchPayCommand.MESSAGE_INVALID_PAYMENT, 2, filePath,
+                MESSAGE_INVALID_DOLLAR_AMOUNT);
+
+        assertCommandFailure(new BatchPayCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_unknownBorrower_noPaymentMade() throws IOException {
+        Path filePath = writePayments("K0010,2.00", "K0999,1.00");
+        String expectedMessage = String.format(BatchPayCommand.MESSAGE_INVALID_PAYMENT, 2, filePath,
+                MESSAGE_NO_SUCH_BORROWER_ID);
+
+        assertCommandFailure(new BatchPayCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new BatchPayCommand(filePath), model,
+                String.format(BatchPayCommand.MESSAGE_CANNOT_READ_FILE, filePath));
+    }
+
+    @Test
+    public void equals() {
+        BatchPayCommand batchPayCommand = new BatchPayCommand(Paths.get("payments.csv"));
+
+        // same values -> returns true
+        assertTrue(batchPayCommand.equals(new BatchPayCommand(Paths.get("payments.csv"))));
+
+        // different file -> returns false
+        assertFalse(batchPayCommand.equals(new BatchPayCommand(Paths.get("other.csv"))));
+
+        // different type -> returns false
+        assertFalse(batchPayCommand.equals(new PayCommand(100)));
+    }
+
+    private Path writePayments(String... lines) throws IOException {
+        Path filePath = testFolder.resolve("payments.csv");
+        Files.write(filePath, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return filePath;
+    }
+}
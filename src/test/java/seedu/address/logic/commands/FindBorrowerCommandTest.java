@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.FindBorrowerCommand.MESSAGE_BORROWERS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalBorrowers.BENSON;
+import static seedu.address.testutil.TypicalBorrowers.DANIEL;
+import static seedu.address.testutil.TypicalBorrowers.getTypicalBorrowerRecords;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindBorrowerCommand}.
+ */
+public class FindBorrowerCommandTest {
+    private Model model =
+            new ModelManager(new Catalog(), new LoanRecords(), getTypicalBorrowerRecords(), new UserPrefs());
+    private Model expectedModel =
+            new ModelManager(new Catalog(), new LoanRecords(), getTypicalBorrowerRecords(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindBorrowerCommand findFirstCommand = new FindBorrowerCommand(Collections.singletonList("alice"));
+        FindBorrowerCommand findSecondCommand = new FindBorrowerCommand(Collections.singletonList("benson"));
+
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+        assertTrue(findFirstCommand.equals(new FindBorrowerCommand(Collections.singletonList("alice"))));
+        assertFalse(findFirstCommand.equals(1));
+        assertFalse(findFirstCommand.equals(null));
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatch_noBorrowerFound() {
+        String expectedMessage = String.format(MESSAGE_BORROWERS_LISTED_OVERVIEW, 0);
+        assertCommandSuccess(new FindBorrowerCommand(Collections.singletonList("zzz")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_multipleMatches_allListed() {
+        String expectedMessage = String.format(MESSAGE_BORROWERS_LISTED_OVERVIEW, 2)
+                + "\n" + BENSON + " Phone: " + BENSON.getPhone() + " Email: " + BENSON.getEmail()
+                + "\n" + DANIEL + " Phone: " + DANIEL.getPhone() + " Email: " + DANIEL.getEmail();
+        assertCommandSuccess(new FindBorrowerCommand(Arrays.asList("meier")), model, expectedMessage,
+                expectedModel);
+    }
+}
@@ -11,12 +11,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SERIAL_NUMBER_B
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
 import static seedu.address.testutil.TypicalBooks.BOOK_7;
 import static seedu.address.testutil.TypicalBooks.getTypicalCatalog;
 import static seedu.address.testutil.TypicalBorrowers.HOON;
 import static seedu.address.testutil.TypicalLoans.LOAN_7;
 import static seedu.address.testutil.UserSettingsBuilder.DEFAULT_LOAN_PERIOD;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.util.DateUtil;
@@ -33,14 +36,13 @@ import seedu.address.model.book.SerialNumber;
 import seedu.address.model.borrower.BorrowerId;
 import seedu.address.model.loan.Loan;
 import seedu.address.model.loan.LoanId;
-import seedu.address.model.loan.LoanList;
 import seedu.address.testutil.BookBuilder;
 
 class LoanCommandTest {
 
     @Test
     public void constructor_nullSerialNumber_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new LoanCommand(null));
+        assertThrows(NullPointerException.class, () -> new LoanCommand((SerialNumber) null));
     }
 
     @Test
@@ -59,7 +61,6 @@ class LoanCommandTest {
         Loan loan = new Loan(new LoanId("L000001"), toLoan, servingBorrowerId,
                 DateUtil.getTodayDate(), DateUtil.getTodayPlusDays(DEFAULT_LOAN_PERIOD));
         Book loanedOutBook = BOOK_1.loanOut(loan);
-        Book updatedLoanedOutBook = loanedOutBook.addToLoanHistory(loan);
 
         String actualMessage;
         try {
@@ -69,13 +70,79 @@ class LoanCommandTest {
         } finally {
             LoanSlipUtil.clearSession();
         }
-        String expectedMessage = String.format(LoanCommand.MESSAGE_SUCCESS, updatedLoanedOutBook,
+        String expectedMessage = String.format(LoanCommand.MESSAGE_SUCCESS, loanedOutBook,
                 model.getServingBorrower());
         assertEquals(actualMessage, expectedMessage);
-        LoanList updatedHistory = new LoanList();
-        updatedHistory.add(loan);
         assertTrue(model.getServingBorrower().hasCurrentLoan(loan));
-        assertEquals(updatedLoanedOutBook.getLoanHistory(), updatedHistory);
+        assertEquals(List.of(loan), model.getLoanRecords().getLoanHistory(toLoan));
+    }
+
+    @Test
+    public void execute_multipleUnloanedBooks_loanedTogetherAndUndoneTogether() throws CommandException {
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+        borrowerRecords.addBorrower(HOON);
+        BorrowerId servingBorrowerId = HOON.getBorrowerId();
+
+        Model model = new ModelManager(getTypicalCatalog(), new LoanRecords(),
+                borrowerRecords, new UserPrefs());
+        model.setServingBorrower(servingBorrowerId);
+
+        LoanCommand loanCommand = new LoanCommand(List.of(BOOK_1.getSerialNumber(), BOOK_2.getSerialNumber()));
+
+        Loan firstLoan = new Loan(new LoanId("L000001"), BOOK_1.getSerialNumber(), servingBorrowerId,
+                DateUtil.getTodayDate(), DateUtil.getTodayPlusDays(DEFAULT_LOAN_PERIOD));
+        Loan secondLoan = new Loan(new LoanId("L000002"), BOOK_2.getSerialNumber(), servingBorrowerId,
+                DateUtil.getTodayDate(), DateUtil.getTodayPlusDays(DEFAULT_LOAN_PERIOD));
+
+        try {
+            String actualMessage = loanCommand.execute(model).getFeedbackToUser();
+            String expectedMessage = String.format(LoanCommand.MESSAGE_SUCCESS_MULTIPLE_BOOKS,
+                    BOOK_1.getSerialNumber() + ", " + BOOK_2.getSerialNumber(), HOON);
+            assertEquals(expectedMessage, actualMessage);
+            assertTrue(model.getServingBorrower().hasCurrentLoan(firstLoan));
+            assertTrue(model.getServingBorrower().hasCurrentLoan(secondLoan));
+            assertTrue(model.getBook(BOOK_2.getSerialNumber()).isCurrentlyLoanedOut());
+
+            // a single undo gives back both books
+            loanCommand.getUndoCommand().execute(model);
+            assertFalse(model.getBook(BOOK_1.getSerialNumber()).isCurrentlyLoanedOut());
+            assertFalse(model.getBook(BOOK_2.getSerialNumber()).isCurrentlyLoanedOut());
+            assertEquals(0, model.getServingBorrower().getActiveLoanCount());
+            assertEquals(List.of(), model.getLoanRecords().getLoanHistory(BOOK_1.getSerialNumber()));
+        } finally {
+            LoanSlipUtil.clearSession();
+        }
+    }
+
+    @Test
+    public void execute_oneOfManyBooksOnLoan_noBookLoaned() {
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+        borrowerRecords.addBorrower(HOON);
+        Catalog catalog = new Catalog();
+        catalog.addBook(BOOK_1);
+        catalog.addBook(new BookBuilder(BOOK_7).build().loanOut(LOAN_7));
+
+        Model model = new ModelManager(catalog, new LoanRecords(), borrowerRecords, new UserPrefs());
+        model.setServingBorrower(HOON.getBorrowerId());
+
+        LoanCommand loanCommand = new LoanCommand(List.of(BOOK_1.getSerialNumber(), BOOK_7.getSerialNumber()));
+
+        assertCommandFailure(loanCommand, model, String.format(MESSAGE_BOOK_ON_LOAN, BOOK_7));
+        assertFalse(model.getBook(BOOK_1.getSerialNumber()).isCurrentlyLoanedOut());
+    }
+
+    @Test
+    public void execute_duplicateSerialNumber_loanUnsuccessful() {
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+        borrowerRecords.addBorrower(HOON);
+
+        Model model = new ModelManager(getTypicalCatalog(), new LoanRecords(), borrowerRecords, new UserPrefs());
+        model.setServingBorrower(HOON.getBorrowerId());
+
+        SerialNumber toLoan = BOOK_1.getSerialNumber();
+        LoanCommand loanCommand = new LoanCommand(List.of(toLoan, toLoan));
+
+        assertCommandFailure(loanCommand, model, String.format(LoanCommand.MESSAGE_DUPLICATE_SERIAL_NUMBER, toLoan));
     }
 
     @Test
@@ -146,6 +213,10 @@ class LoanCommandTest {
         // different values -> returns false
         assertFalse(loanCommand1.equals(loanCommand3));
 
+        // different number of serial numbers -> returns false
+        assertFalse(loanCommand1.equals(new LoanCommand(List.of(new SerialNumber(VALID_SERIAL_NUMBER_BOOK_1),
+                new SerialNumber(VALID_SERIAL_NUMBER_BOOK_2)))));
+
         // null -> returns false
         assertFalse(loanCommand1.equals(null));
 
@@ -48,7 +48,7 @@ class RenewCommandTest {
         borrowerRecords.addBorrower(IDA);
 
         Catalog catalog = new Catalog();
-        Book onLoan = new BookBuilder(BOOK_7).withLoan(LOAN_7).build().addToLoanHistory(LOAN_7);
+        Book onLoan = new BookBuilder(BOOK_7).withLoan(LOAN_7).build();
         catalog.addBook(onLoan);
 
         LoanRecords loanRecords = new LoanRecords();
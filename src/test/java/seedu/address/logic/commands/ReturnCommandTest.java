@@ -43,7 +43,7 @@ class ReturnCommandTest {
         borrowerRecords.addBorrower(IDA);
 
         Catalog catalog = new Catalog();
-        Book onLoan = new BookBuilder(BOOK_7).withLoan(LOAN_7).build().addToLoanHistory(LOAN_7);
+        Book onLoan = new BookBuilder(BOOK_7).withLoan(LOAN_7).build();
         catalog.addBook(onLoan);
 
         LoanRecords loanRecords = new LoanRecords();
@@ -61,7 +61,7 @@ class ReturnCommandTest {
         int dailyFineIncrement = expectedModel.getUserSettings().getFineIncrement();
         int fineAmount = DateUtil.getNumOfDaysOverdue(LOAN_7.getDueDate(), returnDate) * dailyFineIncrement;
         Loan returnedLoan = LOAN_7.returnLoan(returnDate, fineAmount);
-        Book returnedBook = onLoan.returnBook().addToLoanHistory(LOAN_7);
+        Book returnedBook = onLoan.returnBook();
 
         expectedModel.setBook(onLoan, returnedBook);
         expectedModel.servingBorrowerReturnLoan(LOAN_7, returnedLoan);
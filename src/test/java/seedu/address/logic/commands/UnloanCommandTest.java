@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
+import static seedu.address.testutil.TypicalBooks.getTypicalCatalog;
+import static seedu.address.testutil.TypicalBorrowers.HOON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.LoanSlipUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.book.SerialNumber;
+
+class UnloanCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+        borrowerRecords.addBorrower(HOON);
+        model = new ModelManager(getTypicalCatalog(), new LoanRecords(), borrowerRecords, new UserPrefs());
+        model.setServingBorrower(HOON.getBorrowerId());
+    }
+
+    @Test
+    public void execute_singleLoanedBook_unloanSuccessful() throws CommandException {
+        LoanCommand loanCommand = new LoanCommand(BOOK_1.getSerialNumber());
+        try {
+            loanCommand.execute(model);
+            String actualMessage = loanCommand.getUndoCommand().execute(model).getFeedbackToUser();
+
+            String expectedMessage = String.format(UnloanCommand.MESSAGE_SUCCESS,
+                    model.getBook(BOOK_1.getSerialNumber()), model.getServingBorrower());
+            assertEquals(expectedMessage, actualMessage);
+            assertFalse(model.getBook(BOOK_1.getSerialNumber()).isCurrentlyLoanedOut());
+        } finally {
+            LoanSlipUtil.clearSession();
+        }
+    }
+
+    @Test
+    public void execute_multipleLoanedBooks_serialNumbersListedOnce() throws CommandException {
+        List<SerialNumber> toLoan = List.of(BOOK_1.getSerialNumber(), BOOK_2.getSerialNumber());
+        LoanCommand loanCommand = new LoanCommand(toLoan);
+        try {
+            loanCommand.execute(model);
+            String actualMessage = loanCommand.getUndoCommand().execute(model).getFeedbackToUser();
+
+            String expectedMessage = String.format(UnloanCommand.MESSAGE_SUCCESS_MULTIPLE_BOOKS,
+                    BOOK_1.getSerialNumber() + ", " + BOOK_2.getSerialNumber(), model.getServingBorrower());
+            assertEquals(expectedMessage, actualMessage);
+            assertFalse(model.getBook(BOOK_1.getSerialNumber()).isCurrentlyLoanedOut());
+            assertFalse(model.getBook(BOOK_2.getSerialNumber()).isCurrentlyLoanedOut());
+        } finally {
+            LoanSlipUtil.clearSession();
+        }
+    }
+}
@@ -19,6 +19,8 @@ import static seedu.address.testutil.TypicalBorrowers.ID_FIRST_BORROWER;
 import static seedu.address.testutil.TypicalBorrowers.getTypicalBorrowerRecords;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_BOOK;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.UserSettings;
@@ -29,6 +31,7 @@ import seedu.address.logic.commands.DeleteBySerialNumberCommand;
 import seedu.address.logic.commands.DoneCommand;
 import seedu.address.logic.commands.EditBorrowerCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindBorrowerCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LoanCommand;
@@ -111,6 +114,13 @@ public class CatalogParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + SPACE_AND_VALID_INDEX) instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_findBorrower() throws Exception {
+        FindBorrowerCommand command = (FindBorrowerCommand) parser.parseCommand(
+                FindBorrowerCommand.COMMAND_WORD + " alice 9435");
+        assertEquals(new FindBorrowerCommand(Arrays.asList("alice", "9435")), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         SerialNumberGenerator.setCatalog(new Catalog());
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindBorrowerCommand;
+
+public class FindBorrowerCommandParserTest {
+    private FindBorrowerCommandParser parser = new FindBorrowerCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBorrowerCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindBorrowerCommand() {
+        FindBorrowerCommand expectedCommand = new FindBorrowerCommand(Arrays.asList("alice", "9435"));
+        assertParseSuccess(parser, "alice 9435", expectedCommand);
+        assertParseSuccess(parser, " \n alice \n \t 9435  \t", expectedCommand);
+    }
+}
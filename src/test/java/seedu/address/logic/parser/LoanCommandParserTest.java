@@ -3,10 +3,14 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_SERIAL_NUMBER_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.SERIAL_NUMBER_DESC_BOOK_1;
+import static seedu.address.logic.commands.CommandTestUtil.SERIAL_NUMBER_DESC_BOOK_2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SERIAL_NUMBER_BOOK_1;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SERIAL_NUMBER_BOOK_2;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.LoanCommand;
@@ -23,6 +27,14 @@ class LoanCommandParserTest {
         assertParseSuccess(loanCommandParser, SERIAL_NUMBER_DESC_BOOK_1, new LoanCommand(bookSn));
     }
 
+    @Test
+    public void parse_multipleSerialNumbers_success() {
+        List<SerialNumber> bookSns = List.of(new SerialNumber(VALID_SERIAL_NUMBER_BOOK_1),
+                new SerialNumber(VALID_SERIAL_NUMBER_BOOK_2));
+        assertParseSuccess(loanCommandParser, SERIAL_NUMBER_DESC_BOOK_1 + SERIAL_NUMBER_DESC_BOOK_2,
+                new LoanCommand(bookSns));
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         assertParseFailure(loanCommandParser, EMPTY_STRING,
@@ -32,5 +44,9 @@ class LoanCommandParserTest {
     @Test
     public void parse_invalidValue_failure() {
         assertParseFailure(loanCommandParser, INVALID_SERIAL_NUMBER_DESC, SerialNumber.MESSAGE_CONSTRAINTS);
+
+        // one invalid serial number among valid ones
+        assertParseFailure(loanCommandParser, SERIAL_NUMBER_DESC_BOOK_1 + INVALID_SERIAL_NUMBER_DESC,
+                SerialNumber.MESSAGE_CONSTRAINTS);
     }
 }
@@ -5,8 +5,11 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DOLLAR_AMOUNT;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.BatchPayCommand;
 import seedu.address.logic.commands.PayCommand;
 
 class PayCommandParserTest {
@@ -33,4 +36,17 @@ class PayCommandParserTest {
     public void parse_invalidValue_failure() {
         assertParseFailure(payCommandParser, INVALID_DOLLAR_AMOUNT, MESSAGE_INVALID_DOLLAR_AMOUNT);
     }
+
+    @Test
+    public void parse_filePresent_returnsBatchPayCommand() {
+        assertParseSuccess(payCommandParser, " f/payments.csv", new BatchPayCommand(Paths.get("payments.csv")));
+    }
+
+    @Test
+    public void parse_fileWithAmount_failure() {
+        assertParseFailure(payCommandParser, " f/payments.csv $1.23",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayCommand.MESSAGE_USAGE));
+        assertParseFailure(payCommandParser, " f/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayCommand.MESSAGE_USAGE));
+    }
 }
@@ -80,4 +80,33 @@ public class BorrowerRecordsTest {
 
         assertThrows(DuplicateBorrowerException.class, () -> borrowerRecords.setBorrower(ALICE, BENSON));
     }
+
+    @Test
+    public void setBorrower_editedPhone_indexesUpdated() {
+        BorrowerRecords borrowerRecords = getTypicalBorrowerRecords();
+        Borrower editedCarl = new BorrowerBuilder(CARL).withPhone("91234567").build();
+
+        borrowerRecords.setBorrower(CARL, editedCarl);
+
+        assertFalse(borrowerRecords.hasBorrower(new BorrowerBuilder(IDA).withPhone(CARL.getPhone().value)
+                .withEmail("new@example.com").actualBuild()));
+        assertTrue(borrowerRecords.hasDuplicateBorrower(new BorrowerBuilder(ALICE).withPhone("91234567")
+                .build()));
+        assertFalse(borrowerRecords.hasDuplicateBorrower(editedCarl));
+    }
+
+    @Test
+    public void removeBorrower_laterBorrowersStillFound() {
+        BorrowerRecords borrowerRecords = getTypicalBorrowerRecords();
+        Borrower loanAddedCarl = new Borrower(CARL.getName(), CARL.getPhone(), CARL.getEmail(),
+                CARL.getBorrowerId(), CARL.getAddedCurrentLoanList(LOAN_1), CARL.getReturnedLoanList());
+
+        borrowerRecords.removeBorrower(ALICE);
+        borrowerRecords.setBorrower(CARL, loanAddedCarl);
+
+        assertFalse(borrowerRecords.listContains(ALICE));
+        assertFalse(borrowerRecords.hasBorrower(ALICE));
+        assertEquals(BENSON, borrowerRecords.getBorrowerList().get(0));
+        assertTrue(borrowerRecords.getBorrowerList().get(1).hasCurrentLoan(LOAN_1));
+    }
 }
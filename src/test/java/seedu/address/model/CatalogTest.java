@@ -10,26 +10,36 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SERIAL_NUMBER_B
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SERIAL_NUMBER_BOOK_4;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
+import static seedu.address.testutil.TypicalBooks.BOOK_3;
+import static seedu.address.testutil.TypicalBooks.BOOK_4;
 import static seedu.address.testutil.TypicalBooks.getTypicalCatalog;
 import static seedu.address.testutil.UserSettingsBuilder.DEFAULT_LOAN_PERIOD;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.DateUtil;
+import seedu.address.logic.parser.Flag;
 import seedu.address.model.book.Book;
+import seedu.address.model.book.BookPredicate;
 import seedu.address.model.book.SerialNumber;
 import seedu.address.model.book.exceptions.DuplicateBookException;
 import seedu.address.model.borrower.BorrowerId;
 import seedu.address.model.loan.Loan;
 import seedu.address.model.loan.LoanId;
 import seedu.address.testutil.BookBuilder;
+import seedu.address.testutil.LoanBuilder;
 
 public class CatalogTest {
 
@@ -70,6 +80,81 @@ public class CatalogTest {
         assertThrows(DuplicateBookException.class, () -> catalog.resetData(newData));
     }
 
+    @Test
+    public void getIndexedPredicate_matchesSameBooksAsPredicate() {
+        catalog.resetData(getTypicalCatalog());
+        BookPredicate predicate = new BookPredicate().setTitle("bott").setAuthor("rowling").setGenres("ACTION");
+        Predicate<Book> indexedPredicate = catalog.getIndexedPredicate(predicate);
+        assertEquals(Collections.singletonList(BOOK_4), filter(indexedPredicate));
+
+        // books changed after the predicate is created are found through the updated index
+        Book editedBook1 = new BookBuilder(BOOK_1).withGenres(VALID_GENRE_ACTION).build();
+        catalog.setBook(BOOK_1, editedBook1);
+        assertEquals(Arrays.asList(editedBook1, BOOK_4), filter(indexedPredicate));
+        catalog.removeBook(BOOK_4);
+        assertEquals(Collections.singletonList(editedBook1), filter(indexedPredicate));
+    }
+
+    @Test
+    public void getIndexedPredicate_withDisplayLimit_matchesFirstMatchingBooks() {
+        catalog.resetData(getTypicalCatalog());
+        BookPredicate predicate = new BookPredicate().setGenres("ACTION").setDisplayLimit(1);
+        Predicate<Book> indexedPredicate = catalog.getIndexedPredicate(predicate);
+        assertEquals(Collections.singletonList(BOOK_2), filter(indexedPredicate));
+
+        // books changed after the predicate is created are found again through the updated index
+        Book editedBook1 = new BookBuilder(BOOK_1).withGenres(VALID_GENRE_ACTION).build();
+        catalog.setBook(BOOK_1, editedBook1);
+        assertEquals(Collections.singletonList(editedBook1), filter(indexedPredicate));
+        catalog.removeBook(editedBook1);
+        assertEquals(Collections.singletonList(BOOK_2), filter(indexedPredicate));
+
+        // a plan that scans every book also stops at the display limit
+        indexedPredicate = catalog.getIndexedPredicate(new BookPredicate().setDisplayLimit(2));
+        assertEquals(Arrays.asList(BOOK_2, BOOK_3), filter(indexedPredicate));
+    }
+
+    @Test
+    public void getIndexedPredicate_manyCandidatesToCheck_matchesSameBooksAsPredicate() {
+        List<Book> books = new ArrayList<>();
+        for (int i = 1; i <= 2 * Catalog.PARALLEL_SCAN_THRESHOLD; i++) {
+            List<String> genres = new ArrayList<>();
+            if (i % 3 != 0) {
+                genres.add("FICTION");
+            }
+            if (i % 4 != 0) {
+                genres.add("ACTION");
+            }
+            books.add(new BookBuilder().withSerialNumber(String.format("B%05d", i))
+                    .withGenres(genres.toArray(new String[0])).build());
+        }
+        catalog.addBooks(books);
+
+        // only one genre is looked up in the index, so the other is checked against many candidates in parallel
+        BookPredicate predicate = new BookPredicate().setGenres("FICTION", "ACTION");
+        Predicate<Book> indexedPredicate = catalog.getIndexedPredicate(predicate);
+        List<Book> expectedBooks = books.stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expectedBooks, filter(indexedPredicate));
+
+        // the predicate answers from the results of the parallel check until the index changes
+        Book matchingBook = expectedBooks.get(0);
+        Book unchangedInCatalog = new BookBuilder(matchingBook).withGenres("FICTION").build();
+        assertTrue(indexedPredicate.test(unchangedInCatalog));
+
+        // books changed after the parallel check are tested again
+        catalog.setBook(matchingBook, unchangedInCatalog);
+        assertFalse(indexedPredicate.test(unchangedInCatalog));
+    }
+
+    @Test
+    public void resetData_failedReset_searchIndexUnchanged() {
+        catalog.addBook(BOOK_1);
+        CatalogStub newData = new CatalogStub(Arrays.asList(BOOK_4, BOOK_4));
+        assertThrows(DuplicateBookException.class, () -> catalog.resetData(newData));
+        Predicate<Book> indexedPredicate = catalog.getIndexedPredicate(new BookPredicate().setTitle("botter"));
+        assertEquals(Collections.singletonList(BOOK_1), filter(indexedPredicate));
+    }
+
     @Test
     public void hasBook_nullBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> catalog.hasBook(null));
@@ -149,6 +234,25 @@ public class CatalogTest {
         assertTrue(getTypicalCatalog().getBookList().equals(availableBooks));
     }
 
+    @Test
+    public void countLoanedBooks_loanAndReturn_countsUpdated() {
+        catalog.resetData(getTypicalCatalog());
+        assertEquals(0, catalog.countLoanedBooks());
+        assertEquals(4, catalog.countAvailableBooks());
+
+        Book loanedBook = new BookBuilder(BOOK_4).withLoan(new LoanBuilder().build()).build();
+        catalog.setBook(BOOK_4, loanedBook);
+        assertEquals(1, catalog.countLoanedBooks());
+        assertEquals(3, catalog.countAvailableBooks());
+        assertEquals(Collections.singletonList(loanedBook), catalog.getLoanedBooks());
+        assertEquals(filter(new BookPredicate().setLoanState(Flag.AVAILABLE)),
+                filter(catalog.getIndexedPredicate(new BookPredicate().setLoanState(Flag.AVAILABLE))));
+
+        catalog.setBook(loanedBook, loanedBook.returnBook());
+        assertEquals(0, catalog.countLoanedBooks());
+        assertEquals(4, catalog.countAvailableBooks());
+    }
+
     @Test
     public void hashCode_sameCatalog_returnsSameHashCode() {
         Catalog newData = getTypicalCatalog();
@@ -156,6 +260,10 @@ public class CatalogTest {
         assertEquals(newData.hashCode(), catalog.hashCode());
     }
 
+    private List<Book> filter(Predicate<Book> predicate) {
+        return catalog.getBookList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -170,6 +278,21 @@ public class CatalogTest {
         public ObservableList<Book> getBookList() {
             return books;
         }
+
+        @Override
+        public Book getBook(SerialNumber bookSn) {
+            return books.stream().filter(book -> book.getSerialNumber().equals(bookSn)).findFirst().orElse(null);
+        }
+
+        @Override
+        public Set<SerialNumber> getChangedSerialNumbers() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
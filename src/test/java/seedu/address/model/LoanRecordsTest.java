@@ -9,14 +9,19 @@ import static seedu.address.testutil.TypicalLoans.LOAN_2;
 import static seedu.address.testutil.TypicalLoans.LOAN_3;
 import static seedu.address.testutil.TypicalLoans.LOAN_7;
 import static seedu.address.testutil.TypicalLoans.LOAN_7_RETURNED;
+import static seedu.address.testutil.TypicalLoans.LOAN_8;
+import static seedu.address.testutil.TypicalLoans.LOAN_9;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoanRecords;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoans;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.loan.Loan;
+import seedu.address.model.loan.LoanTotals;
+import seedu.address.testutil.LoanBuilder;
 
 class LoanRecordsTest {
 
@@ -68,4 +73,66 @@ class LoanRecordsTest {
         loanRecords.updateLoan(LOAN_7, LOAN_7_RETURNED);
         assertNotEquals(loanRecords.getLoansMap().get(LOAN_7.getLoanId()).getReturnDate(), null);
     }
+
+    @Test
+    public void getLoanHistory_loansOfBook_oldestFirst() {
+        Loan laterLoan = new LoanBuilder(LOAN_7_RETURNED).withLoanId("L000010").build();
+        LoanRecords loanRecords = new LoanRecords();
+        loanRecords.addLoan(laterLoan);
+        loanRecords.addLoan(LOAN_7);
+        loanRecords.addLoan(LOAN_1);
+
+        assertEquals(List.of(LOAN_7, laterLoan), loanRecords.getLoanHistory(LOAN_7.getBookSerialNumber()));
+        assertEquals(List.of(LOAN_1), loanRecords.getLoanHistory(LOAN_1.getBookSerialNumber()));
+        assertEquals(List.of(), loanRecords.getLoanHistory(LOAN_2.getBookSerialNumber()));
+        assertEquals(List.of(LOAN_7, laterLoan),
+                new LoanRecords(loanRecords).getLoanHistory(LOAN_7.getBookSerialNumber()));
+    }
+
+    @Test
+    public void getLoanHistory_loanUpdatedOrRemoved_historyUpdated() {
+        LoanRecords loanRecords = new LoanRecords();
+        loanRecords.addLoan(LOAN_7);
+        loanRecords.updateLoan(LOAN_7, LOAN_7_RETURNED);
+        assertEquals(List.of(LOAN_7_RETURNED), loanRecords.getLoanHistory(LOAN_7.getBookSerialNumber()));
+
+        loanRecords.removeLoan(LOAN_7_RETURNED);
+        assertEquals(List.of(), loanRecords.getLoanHistory(LOAN_7.getBookSerialNumber()));
+    }
+
+    @Test
+    public void getLoanTotals_loansUpdated_totalsUpdated() {
+        LoanRecords loanRecords = new LoanRecords();
+        loanRecords.addLoan(LOAN_7);
+        assertEquals(1, loanRecords.getLoanTotals().getActiveLoanCount());
+
+        Loan finedLoan = new LoanBuilder(LOAN_7_RETURNED).withRemainingFineAmount(120).build();
+        loanRecords.updateLoan(LOAN_7, finedLoan);
+        LoanTotals totals = loanRecords.getLoanTotals();
+        assertEquals(0, totals.getActiveLoanCount());
+        assertEquals(120, totals.getOutstandingFineAmount());
+
+        loanRecords.updateLoan(finedLoan, finedLoan.payFine(120));
+        assertEquals(0, loanRecords.getLoanTotals().getOutstandingFineAmount());
+        assertEquals(120, loanRecords.getLoanTotals().getPaidFineAmount());
+        assertEquals(loanRecords.getLoanTotals(), new LoanRecords(loanRecords).getLoanTotals());
+
+        loanRecords.removeLoan(finedLoan);
+        assertEquals(new LoanTotals(), loanRecords.getLoanTotals());
+    }
+
+    @Test
+    public void getFinedLoans_finesPaid_paidLoansRemoved() {
+        LoanRecords loanRecords = new LoanRecords();
+        loanRecords.addLoan(LOAN_9);
+        loanRecords.addLoan(LOAN_8);
+        loanRecords.addLoan(LOAN_7_RETURNED);
+        assertEquals(List.of(LOAN_8, LOAN_9), loanRecords.getFinedLoans(LOAN_8.getBorrowerId()));
+        assertEquals(List.of(), loanRecords.getFinedLoans(LOAN_7.getBorrowerId()));
+
+        Loan paidLoan = LOAN_8.payFine(LOAN_8.getRemainingFineAmount());
+        loanRecords.updateLoan(LOAN_8, paidLoan);
+        assertEquals(List.of(LOAN_9), loanRecords.getFinedLoans(LOAN_8.getBorrowerId()));
+        assertEquals(List.of(LOAN_9), new LoanRecords(loanRecords).getFinedLoans(LOAN_8.getBorrowerId()));
+    }
 }
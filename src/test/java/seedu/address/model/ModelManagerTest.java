@@ -43,6 +43,8 @@ import seedu.address.logic.commands.ServeCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.book.Book;
 import seedu.address.model.book.BookPredicate;
+import seedu.address.model.book.SerialNumber;
+import seedu.address.model.book.SerialNumberGenerator;
 import seedu.address.model.borrower.BorrowerId;
 import seedu.address.model.exceptions.NotInServeModeException;
 import seedu.address.model.loan.Loan;
@@ -172,6 +174,22 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredBookList().remove(0));
     }
 
+    @Test
+    public void updateFilteredBookList_displayLimit_showsFirstMatchesOnly() {
+        getTypicalCatalog().getBookList().forEach(modelManager::addBook);
+        BookPredicate predicate = new BookPredicate().setGenres("FICTION").setDisplayLimit(2);
+        modelManager.updateFilteredBookList(predicate);
+        assertEquals(List.of(BOOK_1, BOOK_2), modelManager.getFilteredBookList());
+
+        // re-evaluating the filtered list does not use up the limit
+        assertEquals(List.of(BOOK_1, BOOK_2), modelManager.getFilteredBookList());
+
+        // the same predicate can be used again
+        modelManager.updateFilteredBookList(PREDICATE_SHOW_ALL_BOOKS);
+        modelManager.updateFilteredBookList(predicate);
+        assertEquals(List.of(BOOK_1, BOOK_2), modelManager.getFilteredBookList());
+    }
+
     @Test
     public void getOverdueBooks_success() {
         modelManager = new ModelManager();
@@ -273,11 +291,9 @@ public class ModelManagerTest {
         Loan loan = new Loan(loanId, toBeLoaned.getSerialNumber(), currentBorrowerId,
                 DateUtil.getTodayDate(), DateUtil.getTodayPlusDays(30));
         modelManager.addLoan(loan);
-        Book updatedBook = toBeLoaned.addToLoanHistory(loan);
-        Book loanedBook = new BookBuilder(BOOK_1).withLoan(loan).build();
 
         String expected = "Loan History:\nNo loan history!";
-        assertEquals(expected, modelManager.getLoanHistoryOfBookAsString(loanedBook));
+        assertEquals(expected, modelManager.getLoanHistoryOfBookAsString(new BookBuilder(BOOK_2).build()));
     }
 
     @Test
@@ -364,6 +380,54 @@ public class ModelManagerTest {
         assertEquals(modelManager.getServingBorrower().getOutstandingFineAmount(), 0);
     }
 
+    @Test
+    public void deleteBook_bookWithLoanHistory_serialNumberNotGeneratedAgain() {
+        LoanRecords loanRecords = new LoanRecords();
+        loanRecords.addLoan(LOAN_1);
+        Catalog catalog = new CatalogBuilder().withBook(BOOK_1).withBook(BOOK_2).build();
+        Model modelManager = new ModelManager(catalog, loanRecords, new BorrowerRecords(), new UserPrefs());
+
+        // the serial number of a book without loan history is generated again
+        modelManager.deleteBook(BOOK_2);
+        assertEquals(BOOK_2.getSerialNumber(), SerialNumberGenerator.generateSerialNumber());
+
+        // the serial number of a book with loan history is not, even after it is added back and deleted again
+        modelManager.deleteBook(BOOK_1);
+        modelManager.addBook(BOOK_1);
+        modelManager.deleteBook(BOOK_1);
+        SerialNumberGenerator.setCatalog((Catalog) modelManager.getCatalog());
+        assertEquals(new SerialNumber("B00002"), SerialNumberGenerator.generateSerialNumber());
+        assertEquals(new SerialNumber("B00003"), SerialNumberGenerator.generateSerialNumber());
+    }
+
+    @Test
+    public void constructor_loanHistoryOfDeletedBook_serialNumberNotGenerated() {
+        LoanRecords loanRecords = new LoanRecords();
+        loanRecords.addLoan(LOAN_1);
+        new ModelManager(new CatalogBuilder().withBook(BOOK_2).build(), loanRecords, new BorrowerRecords(),
+                new UserPrefs());
+        assertEquals(new SerialNumber("B00003"), SerialNumberGenerator.generateSerialNumber());
+    }
+
+    @Test
+    public void getAccruedFineAmount_overdueLoans_finesAccruedPerDay() {
+        Model modelManager = new ModelManager();
+        Loan overdueLoan = new LoanBuilder(LOAN_1).withDueDate(DateUtil.getTodayMinusDays(3)).build();
+        Loan returnedLoan = new LoanBuilder(LOAN_8).withDueDate(DateUtil.getTodayMinusDays(5)).build();
+        Loan dueTodayLoan = new LoanBuilder(LOAN_1).withLoanId("L000020").withDueDate(DateUtil.getTodayDate())
+                .build();
+        modelManager.addLoan(overdueLoan);
+        modelManager.addLoan(returnedLoan);
+        modelManager.addLoan(dueTodayLoan);
+
+        int fineIncrement = modelManager.getUserSettings().getFineIncrement();
+        assertEquals(3L * fineIncrement, modelManager.getAccruedFineAmount(LOAN_1.getBorrowerId()));
+        assertEquals(0, modelManager.getAccruedFineAmount(LOAN_8.getBorrowerId()));
+
+        modelManager.updateLoan(overdueLoan, overdueLoan.returnLoan(DateUtil.getTodayDate(), 3 * fineIncrement));
+        assertEquals(0, modelManager.getAccruedFineAmount(LOAN_1.getBorrowerId()));
+    }
+
     @Test
     public void canUndoCommand_newCommandHistory_returnsFalse() {
         assertFalse(modelManager.canUndoCommand());
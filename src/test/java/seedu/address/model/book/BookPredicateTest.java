@@ -1,5 +1,6 @@
 package seedu.address.model.book;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_AUTHOR_BOOK_1;
@@ -13,6 +14,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TITLE_BOOK_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TITLE_BOOK_2;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.OptionalInt;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.util.DateUtil;
@@ -343,19 +346,15 @@ public class BookPredicateTest {
 
     @Test
     public void test_displayLimit_returnsTrue() {
-        BookPredicate predicate = new BookPredicate().setDisplayLimit(2);
-        // display limit = 2
+        BookPredicate predicate = new BookPredicate().setDisplayLimit(1);
+        // the display limit is applied by the filtered list, so testing more books than the limit still matches
         assertTrue(predicate.test(new BookBuilder().build()));
-        // display limit = 1
         assertTrue(predicate.test(new BookBuilder().build()));
     }
 
     @Test
-    public void test_displayLimit_returnsFalse() {
-        BookPredicate predicate = new BookPredicate().setDisplayLimit(1);
-        // display limit = 1
-        predicate.test(new BookBuilder().build());
-        // display limit = 0
-        assertFalse(predicate.test(new BookBuilder().build()));
+    public void getDisplayLimit() {
+        assertEquals(OptionalInt.empty(), new BookPredicate().getDisplayLimit());
+        assertEquals(OptionalInt.of(2), new BookPredicate().setDisplayLimit(2).getDisplayLimit());
     }
 }
@@ -0,0 +1,78 @@
+package seedu.address.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
+import static seedu.address.testutil.TypicalBooks.BOOK_4;
+import static seedu.address.testutil.TypicalBooks.getTypicalBooks;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.Flag;
+import seedu.address.testutil.BookBuilder;
+import seedu.address.testutil.LoanBuilder;
+
+public class BookQueryPlanTest {
+
+    private final BookSearchIndex index = new BookSearchIndex();
+
+    public BookQueryPlanTest() {
+        index.setBooks(getTypicalBooks());
+    }
+
+    @Test
+    public void plan_mostSelectiveIndexedCondition_drivesSearch() {
+        // "prince" is only in BOOK_4, while FICTION is in every typical book but one
+        BookQueryPlan plan = new BookPredicate().setGenres("FICTION").setTitle("prince").plan(index);
+        assertEquals(Optional.of(Collections.singleton(BOOK_4.getSerialNumber())), plan.getCandidates());
+        assertTrue(plan.explain().contains("index lookup: title word containing \"prince\""));
+        assertTrue(plan.explain().contains("check: genre"));
+        assertTrue(plan.test(BOOK_4));
+        assertFalse(plan.test(BOOK_1));
+        assertEquals(1, plan.getCandidateCount());
+        assertTrue(plan.hasChecks());
+    }
+
+    @Test
+    public void plan_noCondition_scansAllBooks() {
+        BookQueryPlan plan = new BookPredicate().plan(index);
+        assertEquals(Optional.empty(), plan.getCandidates());
+        assertTrue(plan.scansAllBooks());
+        assertEquals(getTypicalBooks().size(), plan.getCandidateCount());
+        assertFalse(plan.hasChecks());
+        assertTrue(plan.explain().contains("scan all books"));
+    }
+
+    @Test
+    public void plan_loanState_masksCandidates() {
+        Book loanedBook = new BookBuilder(BOOK_4).withLoan(new LoanBuilder().build()).build();
+        index.remove(BOOK_4);
+        index.add(loanedBook);
+
+        BookQueryPlan plan = new BookPredicate().setTitle("otter").setLoanState(Flag.AVAILABLE).plan(index);
+        assertEquals(Optional.of(Collections.singleton(BOOK_1.getSerialNumber())), plan.getCandidates());
+        assertTrue(plan.explain().contains("bit mask: loan state AVAILABLE"));
+        assertTrue(plan.test(BOOK_1));
+        assertFalse(plan.test(loanedBook));
+
+        plan = new BookPredicate().setLoanState(Flag.LOANED).plan(index);
+        assertEquals(Optional.of(Collections.singleton(BOOK_4.getSerialNumber())), plan.getCandidates());
+    }
+
+    @Test
+    public void test_sameBooksAsPredicate() {
+        BookPredicate predicate = new BookPredicate().setAuthor("yong").setGenres("ACTION");
+        BookQueryPlan plan = predicate.plan(index);
+        assertEquals(new HashSet<>(Collections.singletonList(BOOK_2)),
+                getTypicalBooks().stream().filter(plan::test).collect(Collectors.toSet()));
+        assertEquals(getTypicalBooks().stream().filter(predicate).collect(Collectors.toList()),
+                getTypicalBooks().stream().filter(plan::test).collect(Collectors.toList()));
+    }
+}
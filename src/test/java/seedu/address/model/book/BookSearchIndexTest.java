@@ -0,0 +1,95 @@
+package seedu.address.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
+import static seedu.address.testutil.TypicalBooks.BOOK_4;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.genre.Genre;
+import seedu.address.testutil.BookBuilder;
+import seedu.address.testutil.LoanBuilder;
+
+public class BookSearchIndexTest {
+
+    private final BookSearchIndex index = new BookSearchIndex();
+
+    @Test
+    public void getTitleMatches_partialWordIgnoreCase_returnsMatchingBooks() {
+        index.setBooks(Arrays.asList(BOOK_1, BOOK_2, BOOK_4));
+        assertEquals(serialNumbers(BOOK_1, BOOK_4), index.getTitleMatches("BOTT"));
+        assertEquals(serialNumbers(BOOK_1), index.getTitleMatches("harry"));
+        assertEquals(Collections.emptySet(), index.getTitleMatches("dragon"));
+    }
+
+    @Test
+    public void getTitleMatches_keywordLengths_returnsMatchingBooks() {
+        index.setBooks(Arrays.asList(BOOK_1, BOOK_2, BOOK_4));
+
+        // shorter than a trigram
+        assertEquals(serialNumbers(BOOK_1, BOOK_4), index.getTitleMatches("rr"));
+
+        // has a trigram that is not in any word
+        assertEquals(Collections.emptySet(), index.getTitleMatches("ottott"));
+
+        // longer keyword checked against the words found through its trigrams
+        assertEquals(serialNumbers(BOOK_2), index.getTitleMatches("ondor"));
+        assertEquals(Collections.emptySet(), index.getTitleMatches("harrys"));
+    }
+
+    @Test
+    public void getAuthorMatches_partialWordIgnoreCase_returnsMatchingBooks() {
+        index.setBooks(Arrays.asList(BOOK_1, BOOK_2, BOOK_4));
+        assertEquals(serialNumbers(BOOK_1, BOOK_4), index.getAuthorMatches("rowl"));
+        assertEquals(serialNumbers(BOOK_2), index.getAuthorMatches("yong"));
+    }
+
+    @Test
+    public void getGenreMatches_returnsBooksWithGenre() {
+        index.setBooks(Arrays.asList(BOOK_1, BOOK_2, BOOK_4));
+        assertEquals(serialNumbers(BOOK_2, BOOK_4), index.getGenreMatches(new Genre("ACTION")));
+        assertEquals(Collections.emptySet(), index.getGenreMatches(new Genre("MYSTERY")));
+    }
+
+    @Test
+    public void getOverdueMatches_returnsBooksDueBeforeToday() {
+        Book overdueBook = new BookBuilder(BOOK_1).withLoan(new LoanBuilder()
+                .withDueDate(DateUtil.getTodayMinusDays(1)).build()).build();
+        Book dueTodayBook = new BookBuilder(BOOK_2).withLoan(new LoanBuilder()
+                .withDueDate(DateUtil.getTodayDate()).build()).build();
+        index.setBooks(Arrays.asList(overdueBook, dueTodayBook, BOOK_4));
+
+        assertEquals(serialNumbers(BOOK_1), index.getOverdueMatches(DateUtil.getTodayDate()));
+        assertEquals(1, index.countOverdue(DateUtil.getTodayDate()));
+        assertEquals(serialNumbers(BOOK_1, BOOK_2), index.getOverdueMatches(DateUtil.getTodayPlusDays(1)));
+
+        // returned books are no longer overdue
+        index.remove(overdueBook);
+        index.add(overdueBook.returnBook());
+        assertEquals(Collections.emptySet(), index.getOverdueMatches(DateUtil.getTodayDate()));
+    }
+
+    @Test
+    public void remove_book_removedFromAllIndexes() {
+        index.add(BOOK_1);
+        index.add(BOOK_4);
+        index.remove(BOOK_4);
+        assertEquals(serialNumbers(BOOK_1), index.getTitleMatches("botter"));
+        assertEquals(serialNumbers(BOOK_1), index.getAuthorMatches("rowling"));
+        assertEquals(Collections.emptySet(), index.getTitleMatches("prince"));
+        assertEquals(Collections.emptySet(), index.getGenreMatches(new Genre("ACTION")));
+    }
+
+    private static Set<SerialNumber> serialNumbers(Book... books) {
+        Set<SerialNumber> serialNumbers = new HashSet<>();
+        Arrays.stream(books).forEach(book -> serialNumbers.add(book.getSerialNumber()));
+        return serialNumbers;
+    }
+}
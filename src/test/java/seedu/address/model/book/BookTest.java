@@ -13,7 +13,6 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBooks.BOOK_1;
 import static seedu.address.testutil.TypicalBooks.BOOK_2;
 import static seedu.address.testutil.TypicalLoans.LOAN_1;
-import static seedu.address.testutil.TypicalLoans.LOAN_2;
 
 import org.junit.jupiter.api.Test;
 
@@ -98,35 +97,6 @@ public class BookTest {
         assertFalse(returnedBook.isCurrentlyLoanedOut());
     }
 
-    @Test
-    public void addToLoanHistory() {
-        Book target = new BookBuilder(BOOK_1).build();
-        assertFalse(target.isCurrentlyLoanedOut());
-
-        Book loanedOut = target.loanOut(LOAN_1);
-        assertTrue(loanedOut.isCurrentlyLoanedOut());
-        Book updatedLoanedOut = loanedOut.addToLoanHistory(LOAN_1);
-
-        assertTrue(updatedLoanedOut.getLoanHistory().contains(LOAN_1));
-    }
-
-    @Test
-    public void deleteFromLoanHistory() {
-        Book target = new BookBuilder(BOOK_1).build();
-        assertFalse(target.isCurrentlyLoanedOut());
-
-        Book loanedOut = target.loanOut(LOAN_1);
-        assertTrue(loanedOut.isCurrentlyLoanedOut());
-        assertThrows(AssertionError.class, () -> loanedOut.deleteFromLoanHistory(LOAN_1));
-        Book updatedLoanedOut = loanedOut.addToLoanHistory(LOAN_1);
-        updatedLoanedOut = updatedLoanedOut.addToLoanHistory(LOAN_2);
-
-        assertTrue(updatedLoanedOut.getLoanHistory().contains(LOAN_1));
-
-        Book deletedLoanHistoryBook = updatedLoanedOut.deleteFromLoanHistory(LOAN_1);
-        assertFalse(deletedLoanHistoryBook.getLoanHistory().contains(LOAN_1));
-    }
-
     @Test
     public void equals() {
         // compares all attributes
@@ -37,4 +37,15 @@ class SerialNumberGeneratorTest {
         assertEquals(SerialNumberGenerator.generateSerialNumber(), new SerialNumber("B00007"));
     }
 
+    @Test
+    void generateSerialNumber_bookRemoved_serialNumberReused() {
+        Catalog catalog = getTypicalCatalog();
+        SerialNumberGenerator.setCatalog(catalog);
+        Book newBook = new BookBuilder().withTitle("testBook").withSerialNumber("B00005").build();
+        catalog.addBook(newBook);
+        catalog.removeBook(catalog.getBook(new SerialNumber("B00002")));
+        assertEquals(SerialNumberGenerator.generateSerialNumber(), new SerialNumber("B00002"));
+        assertEquals(SerialNumberGenerator.generateSerialNumber(), new SerialNumber("B00006"));
+    }
+
 }
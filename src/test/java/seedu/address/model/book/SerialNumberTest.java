@@ -1,5 +1,6 @@
 package seedu.address.model.book;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.AUTHOR_DESC_BOOK_2;
@@ -102,6 +103,12 @@ public class SerialNumberTest {
         assertTrue(sn1.hashCode() == sn2.hashCode());
     }
 
+    @Test
+    public void fromInt() {
+        assertEquals(new SerialNumber("B00042"), SerialNumber.fromInt(42));
+        assertEquals(42, SerialNumber.fromInt(42).serialNumberToInt());
+    }
+
     /**
      * Asserts if CommandException is being thrown.
      *
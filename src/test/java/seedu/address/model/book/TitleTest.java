@@ -1,9 +1,13 @@
 package seedu.address.model.book;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class TitleTest {
@@ -19,6 +23,13 @@ public class TitleTest {
         assertThrows(IllegalArgumentException.class, () -> new Title(invalidName));
     }
 
+    @Test
+    public void getLowerCaseWords() {
+        Title title = new Title("Harry Potter 2");
+        assertEquals(Arrays.asList("harry", "potter", "2"), title.getLowerCaseWords());
+        assertSame(title.getLowerCaseWords(), title.getLowerCaseWords());
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GENRE_ACTION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBooks.BOOK_1;
 import static seedu.address.testutil.TypicalBooks.BOOK_2;
+import static seedu.address.testutil.TypicalBooks.BOOK_3;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -57,6 +58,51 @@ public class UniqueBookListTest {
         assertThrows(DuplicateBookException.class, () -> uniqueBookList.add(BOOK_1));
     }
 
+    @Test
+    public void addAll_duplicateSerialNumber_throwsDuplicateBookException() {
+        // duplicate within the batch
+        assertThrows(DuplicateBookException.class, () -> uniqueBookList.addAll(Arrays.asList(BOOK_1, BOOK_1)));
+
+        // duplicate of a book already in the list
+        uniqueBookList.add(BOOK_1);
+        Book editedBook1 = new BookBuilder(BOOK_1).withGenres(VALID_GENRE_ACTION).build();
+        assertThrows(DuplicateBookException.class, () -> uniqueBookList.addAll(Arrays.asList(BOOK_2, editedBook1)));
+    }
+
+    @Test
+    public void addAll_uniqueBooks_sameAsAddingOneByOne() {
+        UniqueBookList expectedUniqueBookList = new UniqueBookList();
+        expectedUniqueBookList.add(BOOK_2);
+        expectedUniqueBookList.add(BOOK_1);
+        uniqueBookList.addAll(Arrays.asList(BOOK_2, BOOK_1));
+        assertEquals(expectedUniqueBookList, uniqueBookList);
+    }
+
+    @Test
+    public void add_booksOutOfOrder_keepsSerialNumberOrder() {
+        uniqueBookList.add(BOOK_3);
+        uniqueBookList.add(BOOK_1);
+        uniqueBookList.add(BOOK_2);
+        assertEquals(Arrays.asList(BOOK_1, BOOK_2, BOOK_3), uniqueBookList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setBook_editedBookHasDifferentSerialNumber_keepsSerialNumberOrder() {
+        uniqueBookList.addAll(Arrays.asList(BOOK_1, BOOK_2, BOOK_3));
+        Book editedBook1 = new BookBuilder(BOOK_1).withSerialNumber("B00004").build();
+        uniqueBookList.setBook(BOOK_1, editedBook1);
+        assertEquals(Arrays.asList(BOOK_2, BOOK_3, editedBook1), uniqueBookList.asUnmodifiableObservableList());
+        assertTrue(uniqueBookList.containsSerialNumber(editedBook1.getSerialNumber()));
+        assertFalse(uniqueBookList.containsSerialNumber(BOOK_1.getSerialNumber()));
+    }
+
+    @Test
+    public void setBook_editedBookHasSerialNumberOfAnotherBook_throwsDuplicateBookException() {
+        uniqueBookList.addAll(Arrays.asList(BOOK_1, BOOK_2));
+        Book editedBook1 = new BookBuilder(BOOK_1).withSerialNumber("B00002").build();
+        assertThrows(DuplicateBookException.class, () -> uniqueBookList.setBook(BOOK_1, editedBook1));
+    }
+
     @Test
     public void setBook_nullTargetBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueBookList.setBook(null, BOOK_1));
@@ -0,0 +1,56 @@
+package seedu.address.model.borrower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBorrowers.ALICE;
+import static seedu.address.testutil.TypicalBorrowers.BENSON;
+import static seedu.address.testutil.TypicalBorrowers.DANIEL;
+import static seedu.address.testutil.TypicalBorrowers.getTypicalBorrowers;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.BorrowerBuilder;
+
+public class BorrowerSearchIndexTest {
+
+    private final BorrowerSearchIndex index = new BorrowerSearchIndex();
+
+    public BorrowerSearchIndexTest() {
+        getTypicalBorrowers().forEach(index::add);
+    }
+
+    @Test
+    public void find_prefixOfNamePhoneEmailOrId_found() {
+        assertEquals(Collections.singletonList(ALICE.getBorrowerId()), index.find(Arrays.asList("PAUL")));
+        assertEquals(Collections.singletonList(ALICE.getBorrowerId()), index.find(Arrays.asList("9435")));
+        assertEquals(Collections.singletonList(BENSON.getBorrowerId()), index.find(Arrays.asList("johnd@")));
+        assertEquals(Collections.singletonList(DANIEL.getBorrowerId()), index.find(Arrays.asList("k0004")));
+        assertEquals(Collections.emptyList(), index.find(Arrays.asList("auline")));
+    }
+
+    @Test
+    public void find_multipleKeywords_allMustMatch() {
+        assertEquals(Arrays.asList(BENSON.getBorrowerId(), DANIEL.getBorrowerId()),
+                index.find(Arrays.asList("meier")));
+        assertEquals(Collections.singletonList(DANIEL.getBorrowerId()), index.find(Arrays.asList("meier", "8765")));
+    }
+
+    @Test
+    public void find_exactMatchesRankedFirst() {
+        Borrower benjamin = new BorrowerBuilder().withName("Ben Meier").withPhone("81111111")
+                .withEmail("ben@example.com").withBorrowerId("K0100").build();
+        index.add(benjamin);
+
+        // "ben" is a whole word of the new borrower's name, but only the start of "benson"
+        assertEquals(Arrays.asList(benjamin.getBorrowerId(), BENSON.getBorrowerId()),
+                index.find(Arrays.asList("ben")));
+    }
+
+    @Test
+    public void remove_borrower_notFound() {
+        index.remove(ALICE);
+        assertEquals(Collections.emptyList(), index.find(Arrays.asList("alice")));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLoans.LOAN_1;
+import static seedu.address.testutil.TypicalLoans.LOAN_2;
+import static seedu.address.testutil.TypicalLoans.LOAN_3;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LoanBuilder;
+
+class FineAccrualTest {
+
+    // LOAN_1 is due on 2019-10-27, LOAN_2 on 2019-10-15 and LOAN_3 on 2019-11-03.
+    private static final LocalDate OCTOBER_30 = LocalDate.parse("2019-10-30");
+
+    @Test
+    public void sweepTo_loansBecomeOverdue_accruedDaysUpdated() {
+        FineAccrual fineAccrual = new FineAccrual();
+        fineAccrual.add(LOAN_1);
+        fineAccrual.add(LOAN_2);
+        fineAccrual.add(LOAN_3);
+
+        fineAccrual.sweepTo(LocalDate.parse("2019-10-15"));
+        assertEquals(0, fineAccrual.getAccruedDays(LOAN_2.getBorrowerId()));
+
+        fineAccrual.sweepTo(OCTOBER_30);
+        assertEquals(3, fineAccrual.getAccruedDays(LOAN_1.getBorrowerId()));
+        assertEquals(15, fineAccrual.getAccruedDays(LOAN_2.getBorrowerId()));
+        assertEquals(0, fineAccrual.getAccruedDays(LOAN_3.getBorrowerId()));
+
+        fineAccrual.sweepTo(LocalDate.parse("2019-11-10"));
+        assertEquals(14, fineAccrual.getAccruedDays(LOAN_1.getBorrowerId()));
+        assertEquals(26, fineAccrual.getAccruedDays(LOAN_2.getBorrowerId()));
+        assertEquals(7, fineAccrual.getAccruedDays(LOAN_3.getBorrowerId()));
+
+        // sweeping back to an earlier date gives the same result as sweeping to it directly
+        fineAccrual.sweepTo(OCTOBER_30);
+        assertEquals(3, fineAccrual.getAccruedDays(LOAN_1.getBorrowerId()));
+        assertEquals(15, fineAccrual.getAccruedDays(LOAN_2.getBorrowerId()));
+        assertEquals(0, fineAccrual.getAccruedDays(LOAN_3.getBorrowerId()));
+    }
+
+    @Test
+    public void addAndRemove_afterSweep_accruedDaysUpdated() {
+        FineAccrual fineAccrual = new FineAccrual();
+        fineAccrual.sweepTo(OCTOBER_30);
+        fineAccrual.add(LOAN_1);
+        fineAccrual.add(LOAN_3);
+        assertEquals(3, fineAccrual.getAccruedDays(LOAN_1.getBorrowerId()));
+
+        // renewing replaces the loan with one due later
+        Loan renewedLoan = new LoanBuilder(LOAN_1).withDueDate("2019-11-10").build();
+        fineAccrual.remove(LOAN_1);
+        fineAccrual.add(renewedLoan);
+        assertEquals(0, fineAccrual.getAccruedDays(LOAN_1.getBorrowerId()));
+
+        fineAccrual.remove(renewedLoan);
+        fineAccrual.remove(LOAN_3);
+        fineAccrual.remove(LOAN_3);
+        fineAccrual.sweepTo(LocalDate.parse("2019-12-01"));
+        assertEquals(0, fineAccrual.getAccruedDays(LOAN_1.getBorrowerId()));
+        assertEquals(0, fineAccrual.getAccruedDays(LOAN_3.getBorrowerId()));
+    }
+}
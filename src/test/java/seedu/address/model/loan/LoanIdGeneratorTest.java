@@ -1,8 +1,12 @@
 package seedu.address.model.loan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLoans.LOAN_2;
+import static seedu.address.testutil.TypicalLoans.LOAN_6;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoanRecords;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.LoanRecords;
@@ -26,4 +30,20 @@ class LoanIdGeneratorTest {
         LoanIdGenerator.setLoanRecords(getTypicalLoanRecords());
         assertEquals(LoanIdGenerator.generateLoanId(), new LoanId("L000007"));
     }
+
+    @Test
+    public void generateLoanId_loansRemoved_doesNotReuseExistingLoanId() {
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        LoanIdGenerator.setLoanRecords(loanRecords);
+
+        // a loan other than the latest is removed, so the number of loans no longer matches the highest loan ID
+        loanRecords.removeLoan(LOAN_2);
+        assertEquals(new LoanId("L000007"), LoanIdGenerator.generateLoanId());
+        assertEquals(Arrays.asList(new LoanId("L000007"), new LoanId("L000008")),
+                LoanIdGenerator.generateLoanIds(2));
+
+        // the latest loan is removed, so its loan ID is no longer in use
+        loanRecords.removeLoan(LOAN_6);
+        assertEquals(new LoanId("L000006"), LoanIdGenerator.generateLoanId());
+    }
 }
@@ -13,10 +13,15 @@ import static seedu.address.testutil.TypicalLoans.LOAN_8;
 import static seedu.address.testutil.TypicalLoans.LOAN_9;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoans;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.LoanBuilder;
+
 class LoanListTest {
 
     @Test
@@ -30,6 +35,17 @@ class LoanListTest {
         }
     }
 
+    @Test
+    public void addAll() {
+        LoanList expectedLoanList = new LoanList();
+        List<Loan> typicalLoans = getTypicalLoans();
+        typicalLoans.forEach(expectedLoanList::add);
+
+        LoanList loanList = new LoanList();
+        loanList.addAll(typicalLoans);
+        assertEquals(expectedLoanList, loanList);
+    }
+
     @Test
     public void size() {
         LoanList loanList = new LoanList();
@@ -85,12 +101,76 @@ class LoanListTest {
     }
 
     @Test
-    public void calculateOutstandingFineAmount() {
+    public void getOutstandingFineAmount() {
         LoanList loanList = new LoanList();
         loanList.add(LOAN_8);
         loanList.add(LOAN_9);
 
-        assertEquals(loanList.calculateOutstandingFineAmount(),
+        assertEquals(loanList.getOutstandingFineAmount(),
                 LOAN_8.getRemainingFineAmount() + LOAN_9.getRemainingFineAmount());
     }
+
+    @Test
+    public void totals_loansAddedReplacedAndRemoved_totalsUpdated() {
+        Loan overdueLoan = new LoanBuilder(LOAN_1).withReturnDate("2019-10-30").withRemainingFineAmount(90).build();
+        LoanList loanList = new LoanList();
+        loanList.addAll(List.of(LOAN_1, LOAN_8));
+        assertEquals(1, loanList.getActiveLoanCount());
+        assertEquals(0, loanList.getOverdueLoanCount());
+        assertEquals(LOAN_8.getRemainingFineAmount(), loanList.getOutstandingFineAmount());
+
+        LoanList returnedList = loanList.replaceInNewCopy(LOAN_1, overdueLoan);
+        assertEquals(0, returnedList.getActiveLoanCount());
+        assertEquals(1, returnedList.getOverdueLoanCount());
+        assertEquals(90 + LOAN_8.getRemainingFineAmount(), returnedList.getOutstandingFineAmount());
+
+        Loan paidLoan = overdueLoan.payFine(40);
+        LoanList paidList = returnedList.replaceInNewCopy(overdueLoan, paidLoan);
+        assertEquals(50 + LOAN_8.getRemainingFineAmount(), paidList.getOutstandingFineAmount());
+        assertEquals(40, paidList.getPaidFineAmount());
+
+        LoanList unreturnedList = paidList.removeFromNewCopy(paidLoan).addToNewCopy(LOAN_1);
+        assertEquals(1, unreturnedList.getActiveLoanCount());
+        assertEquals(0, unreturnedList.getOverdueLoanCount());
+        assertEquals(LOAN_8.getRemainingFineAmount(), unreturnedList.getOutstandingFineAmount());
+        assertEquals(0, unreturnedList.getPaidFineAmount());
+    }
+
+    @Test
+    public void newCopies_manyLoansInAnyOrder_keptInLoanIdOrderWithoutChangingOriginal() {
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            loans.add(new LoanBuilder().withLoanId(String.format("L%06d", i)).build());
+        }
+        List<Loan> shuffledLoans = new ArrayList<>(loans);
+        Collections.shuffle(shuffledLoans, new Random(0));
+
+        LoanList loanList = new LoanList();
+        for (Loan loan : shuffledLoans) {
+            loanList = loanList.addToNewCopy(loan);
+        }
+        assertEquals(loans, toList(loanList));
+
+        LoanList evenLoanList = loanList;
+        for (int i = 0; i < loans.size(); i += 2) {
+            evenLoanList = evenLoanList.removeFromNewCopy(loans.get(i));
+        }
+        assertEquals(loans.size() / 2, evenLoanList.size());
+        for (int i = 0; i < loans.size(); i++) {
+            assertEquals(i % 2 == 1, evenLoanList.contains(loans.get(i)));
+        }
+        assertEquals(loans, toList(loanList));
+
+        Loan returnedLoan = new LoanBuilder(loans.get(1)).withReturnDate("2019-10-30").build();
+        LoanList returnedLoanList = evenLoanList.replaceInNewCopy(loans.get(1), returnedLoan);
+        assertEquals(returnedLoan, toList(returnedLoanList).get(0));
+        assertEquals(loans.get(1), toList(evenLoanList).get(0));
+        assertEquals(evenLoanList.getActiveLoanCount() - 1, returnedLoanList.getActiveLoanCount());
+    }
+
+    private static List<Loan> toList(LoanList loanList) {
+        List<Loan> loans = new ArrayList<>();
+        loanList.forEach(loans::add);
+        return loans;
+    }
 }
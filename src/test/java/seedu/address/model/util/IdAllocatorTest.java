@@ -0,0 +1,39 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class IdAllocatorTest {
+
+    private final IdAllocator allocator = new IdAllocator(1);
+
+    @Test
+    public void allocate_skipsUsedAndAllocatedIds() {
+        allocator.markUsed(1);
+        allocator.markUsed(3);
+        assertEquals(2, allocator.allocate());
+        assertEquals(4, allocator.allocate());
+        assertEquals(5, allocator.allocate());
+    }
+
+    @Test
+    public void markFree_lowerId_allocatedNext() {
+        allocator.markUsed(1);
+        allocator.markUsed(2);
+        assertEquals(3, allocator.allocate());
+        allocator.markFree(2);
+        assertEquals(2, allocator.allocate());
+
+        // 3 was allocated but never marked as used
+        assertEquals(3, allocator.allocate());
+    }
+
+    @Test
+    public void reset_unusedAllocatedIdsAllocatedAgain() {
+        assertEquals(1, allocator.allocate());
+        assertEquals(2, allocator.allocate());
+        allocator.reset();
+        assertEquals(1, allocator.allocate());
+    }
+}
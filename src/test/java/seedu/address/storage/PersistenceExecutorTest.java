@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistenceExecutorTest {
+
+    @Test
+    public void submit_synchronous_runsImmediately() throws Exception {
+        PersistenceExecutor executor = new PersistenceExecutor(false);
+        List<String> saved = new ArrayList<>();
+        executor.submit("catalog", () -> saved.add("catalog"));
+        assertEquals(List.of("catalog"), saved);
+        assertThrows(IOException.class, () -> executor.submit("catalog", () -> {
+            throw new IOException();
+        }));
+    }
+
+    @Test
+    public void submit_asynchronousBurst_coalescedByKey() throws Exception {
+        PersistenceExecutor executor = new PersistenceExecutor(true);
+        List<String> saved = new ArrayList<>();
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        executor.submit("blocker", () -> {
+            writerBlocked.countDown();
+            awaitUninterruptibly(releaseWriter);
+        });
+        writerBlocked.await();
+
+        // While the writer is busy, later saves of the same file replace earlier ones
+        executor.submit("catalog", () -> saved.add("catalog 1"));
+        executor.submit("loans", () -> saved.add("loans 1"));
+        executor.submit("catalog", () -> saved.add("catalog 2"));
+        releaseWriter.countDown();
+        executor.flush();
+
+        assertEquals(List.of("loans 1", "catalog 2"), saved);
+    }
+
+    @Test
+    public void submitInOrder_laterTaskWithWaitingKey_notMovedInFront() throws Exception {
+        PersistenceExecutor executor = new PersistenceExecutor(true);
+        List<String> saved = new ArrayList<>();
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        executor.submit("blocker", () -> {
+            writerBlocked.countDown();
+            awaitUninterruptibly(releaseWriter);
+        });
+        writerBlocked.await();
+
+        // A task with the same key as one waiting before an in-order task is queued behind the in-order task
+        executor.submit("append", () -> saved.add("append 1"));
+        executor.submitInOrder("clear", () -> saved.add("clear"));
+        executor.submit("append", () -> saved.add("append 2"));
+        executor.submit("append", () -> saved.add("append 3"));
+        releaseWriter.countDown();
+        executor.flush();
+
+        assertEquals(List.of("append 1", "clear", "append 3"), saved);
+    }
+
+    @Test
+    public void flush_failedBackgroundSave_throwsIoExceptionOnce() throws Exception {
+        PersistenceExecutor executor = new PersistenceExecutor(true);
+        executor.submit("catalog", () -> {
+            throw new IOException("disk full");
+        });
+        assertThrows(IOException.class, "disk full", executor::flush);
+        executor.flush();
+    }
+
+    @Test
+    public void submitInOrder_earlierTaskOfRunFailed_skipped() throws Exception {
+        PersistenceExecutor executor = new PersistenceExecutor(true);
+        List<String> saved = new ArrayList<>();
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        executor.submit("blocker", () -> {
+            writerBlocked.countDown();
+            awaitUninterruptibly(releaseWriter);
+        });
+        writerBlocked.await();
+
+        executor.submit("catalog", () -> {
+            throw new IOException("disk full");
+        });
+        executor.submit("loans", () -> saved.add("loans"));
+        executor.submitInOrder("clear", () -> saved.add("clear 1"));
+        executor.submit("append", () -> saved.add("append"));
+        executor.submitInOrder("clear", () -> saved.add("clear 2"));
+        releaseWriter.countDown();
+        assertThrows(IOException.class, "disk full", executor::flush);
+
+        // only the in-order task of the run with the failed task is skipped
+        assertEquals(List.of("loans", "append", "clear 2"), saved);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.ReadOnlyBorrowerRecords;
+import seedu.address.model.ReadOnlyCatalog;
+import seedu.address.model.ReadOnlyLoanRecords;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+
+public class StorageFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private UserPrefs getUserPrefs(StorageFormat storageFormat) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setLoanRecordsFilePath(testFolder.resolve("loanrecords.json"));
+        userPrefs.setCatalogFilePath(testFolder.resolve("catalog.json"));
+        userPrefs.setBorrowerRecordsFilePath(testFolder.resolve("borrowerrecords.json"));
+        userPrefs.setStorageFormat(storageFormat);
+        return userPrefs;
+    }
+
+    @Test
+    public void convertToSelectedFormat_jsonToBinaryAndBack_sameRecords() throws Exception {
+        ReadOnlyLoanRecords loanRecords = SampleDataUtil.getSampleLoanRecords();
+        ReadOnlyCatalog catalog = SampleDataUtil.getSampleCatalog(loanRecords);
+        ReadOnlyBorrowerRecords borrowerRecords = SampleDataUtil.getSampleBorrowerRecords(loanRecords);
+        UserPrefs jsonUserPrefs = getUserPrefs(StorageFormat.JSON);
+        StorageFormatConverter.createLoanRecordsStorage(StorageFormat.JSON, jsonUserPrefs).saveLoanRecords(loanRecords);
+        StorageFormatConverter.createCatalogStorage(StorageFormat.JSON, jsonUserPrefs).saveCatalog(catalog);
+        StorageFormatConverter.createBorrowerRecordsStorage(StorageFormat.JSON, jsonUserPrefs)
+                .saveBorrowerRecords(borrowerRecords);
+
+        UserPrefs binaryUserPrefs = getUserPrefs(StorageFormat.BINARY);
+        assertEquals(Optional.of(StorageFormat.JSON), StorageFormatConverter.convertToSelectedFormat(binaryUserPrefs));
+        assertTrue(Files.exists(testFolder.resolve("catalog.bin")));
+        assertRecordsEqual(StorageFormat.BINARY, binaryUserPrefs, loanRecords, catalog, borrowerRecords);
+
+        // binary files are already present
+        assertEquals(Optional.empty(), StorageFormatConverter.convertToSelectedFormat(binaryUserPrefs));
+
+        Files.delete(testFolder.resolve("loanrecords.json"));
+        Files.delete(testFolder.resolve("catalog.json"));
+        Files.delete(testFolder.resolve("borrowerrecords.json"));
+        assertEquals(Optional.of(StorageFormat.BINARY), StorageFormatConverter.convertToSelectedFormat(jsonUserPrefs));
+        assertRecordsEqual(StorageFormat.JSON, jsonUserPrefs, loanRecords, catalog, borrowerRecords);
+    }
+
+    @Test
+    public void convert_missingSourceFiles_returnsFalse() throws Exception {
+        UserPrefs userPrefs = getUserPrefs(StorageFormat.BINARY);
+        assertFalse(StorageFormatConverter.convert(userPrefs, StorageFormat.JSON, StorageFormat.BINARY));
+        assertEquals(Optional.empty(), StorageFormatConverter.convertToSelectedFormat(userPrefs));
+        assertFalse(Files.exists(testFolder.resolve("loanrecords.bin")));
+    }
+
+    private void assertRecordsEqual(StorageFormat storageFormat, UserPrefs userPrefs,
+            ReadOnlyLoanRecords loanRecords, ReadOnlyCatalog catalog, ReadOnlyBorrowerRecords borrowerRecords)
+            throws Exception {
+        ReadOnlyLoanRecords readLoanRecords = StorageFormatConverter.createLoanRecordsStorage(storageFormat, userPrefs)
+                .readLoanRecords().get();
+        ReadOnlyCatalog readCatalog = StorageFormatConverter.createCatalogStorage(storageFormat, userPrefs)
+                .readCatalog(readLoanRecords).get();
+        ReadOnlyBorrowerRecords readBorrowerRecords = StorageFormatConverter
+                .createBorrowerRecordsStorage(storageFormat, userPrefs).readBorrowerRecords(readLoanRecords).get();
+
+        assertEquals(new LoanRecords(loanRecords), new LoanRecords(readLoanRecords));
+        assertEquals(new Catalog(catalog), new Catalog(readCatalog));
+        assertEquals(new BorrowerRecords(borrowerRecords), new BorrowerRecords(readBorrowerRecords));
+    }
+
+}
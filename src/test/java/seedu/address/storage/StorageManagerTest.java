@@ -1,18 +1,34 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
 import static seedu.address.testutil.TypicalBooks.getTypicalCatalog;
 import static seedu.address.testutil.TypicalBorrowers.getTypicalBorrowerRecords;
+import static seedu.address.testutil.TypicalLoans.LOAN_2;
+import static seedu.address.testutil.TypicalLoans.LOAN_3;
+import static seedu.address.testutil.TypicalLoans.LOAN_8;
 import static seedu.address.testutil.TypicalLoans.getTypicalLoanRecords;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.BorrowerRecords;
 import seedu.address.model.Catalog;
 import seedu.address.model.LoanRecords;
@@ -20,9 +36,14 @@ import seedu.address.model.ReadOnlyBorrowerRecords;
 import seedu.address.model.ReadOnlyCatalog;
 import seedu.address.model.ReadOnlyLoanRecords;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.book.Book;
 import seedu.address.storage.borrowerrecords.JsonBorrowerRecordsStorage;
 import seedu.address.storage.catalog.JsonCatalogStorage;
+import seedu.address.storage.journal.JsonJournalStorage;
 import seedu.address.storage.loanrecords.JsonLoanRecordsStorage;
+import seedu.address.storage.loanrecords.MappedLoanRecordsStorage;
+import seedu.address.testutil.BookBuilder;
+import seedu.address.testutil.LoanBuilder;
 
 public class StorageManagerTest {
 
@@ -101,6 +122,178 @@ public class StorageManagerTest {
         assertEquals(original, new BorrowerRecords(retrieved));
     }
 
+    @Test
+    public void readLibraryRecords() throws Exception {
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        Catalog catalog = getTypicalCatalog();
+        BorrowerRecords borrowerRecords = getTypicalBorrowerRecords();
+        storageManager.compactJournal(loanRecords, catalog, borrowerRecords);
+
+        LibraryRecords retrieved = storageManager.readLibraryRecords().get();
+        assertEquals(loanRecords, new LoanRecords(retrieved.getLoanRecords()));
+        assertEquals(catalog, new Catalog(retrieved.getCatalog()));
+        assertEquals(borrowerRecords, new BorrowerRecords(retrieved.getBorrowerRecords()));
+
+        // any missing data file -> empty
+        Files.delete(storageManager.getBorrowerRecordsFilePath());
+        assertFalse(storageManager.readLibraryRecords().isPresent());
+    }
+
+    @Test
+    public void compactJournal_unchangedRecords_notSavedAgain() throws Exception {
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        Catalog catalog = getTypicalCatalog();
+        BorrowerRecords borrowerRecords = getTypicalBorrowerRecords();
+        storageManager.compactJournal(loanRecords, catalog, borrowerRecords);
+
+        // Only the catalog changed, so only the catalog file is written
+        FileUtil.writeToFile(storageManager.getLoanRecordsFilePath(), "not rewritten");
+        FileUtil.writeToFile(storageManager.getCatalogFilePath(), "not rewritten");
+        catalog.removeBook(BOOK_1);
+        storageManager.compactJournal(loanRecords, catalog, borrowerRecords);
+        assertEquals("not rewritten", FileUtil.readFromFile(storageManager.getLoanRecordsFilePath()));
+        assertEquals(catalog, new Catalog(storageManager.readCatalog(new LoanRecords()).get()));
+
+        // A missing data file is always written
+        Files.delete(storageManager.getLoanRecordsFilePath());
+        storageManager.compactJournal(loanRecords, catalog, borrowerRecords);
+        assertEquals(loanRecords, new LoanRecords(storageManager.readLoanRecords().get()));
+    }
+
+    @Test
+    public void saveChanges_asynchronousCompactionBetweenSaves_journalNotReplayedOverSnapshot() throws Exception {
+        PersistenceExecutor executor = new PersistenceExecutor(true);
+        StorageManager asyncStorage = new StorageManager(new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonLoanRecordsStorage(getTempFilePath("lr")), new JsonCatalogStorage(getTempFilePath("ab")),
+                new JsonBorrowerRecordsStorage(getTempFilePath("br")),
+                new JsonJournalStorage(getTempFilePath("journal")), executor);
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        Catalog catalog = getTypicalCatalog();
+        BorrowerRecords borrowerRecords = getTypicalBorrowerRecords();
+        asyncStorage.compactJournal(loanRecords, catalog, borrowerRecords);
+        asyncStorage.flush();
+        catalog.clearChanges();
+
+        // Keep the writer busy so that the saves below are all waiting when the compaction is submitted
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        executor.submit("blocker", () -> {
+            writerBlocked.countDown();
+            try {
+                releaseWriter.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writerBlocked.await();
+
+        Book firstEdit = new BookBuilder(BOOK_1).withTitle("First Edit").build();
+        catalog.setBook(BOOK_1, firstEdit);
+        asyncStorage.saveChanges(loanRecords, catalog, borrowerRecords);
+        catalog.clearChanges();
+
+        Book secondEdit = new BookBuilder(BOOK_1).withTitle("Second Edit").build();
+        catalog.setBook(firstEdit, secondEdit);
+        asyncStorage.compactJournal(loanRecords, catalog, borrowerRecords);
+        catalog.clearChanges();
+
+        catalog.setBook(BOOK_2, new BookBuilder(BOOK_2).withTitle("Third Edit").build());
+        asyncStorage.saveChanges(loanRecords, catalog, borrowerRecords);
+        catalog.clearChanges();
+
+        releaseWriter.countDown();
+        asyncStorage.flush();
+
+        LibraryRecords retrieved = asyncStorage.readLibraryRecords().get();
+        LoanRecords retrievedLoanRecords = new LoanRecords(retrieved.getLoanRecords());
+        Catalog retrievedCatalog = new Catalog(retrieved.getCatalog());
+        asyncStorage.replayJournal(retrievedLoanRecords, retrievedCatalog,
+                new BorrowerRecords(retrieved.getBorrowerRecords()));
+        assertEquals(catalog, retrievedCatalog);
+    }
+
+    @Test
+    public void compactJournal_asynchronousSnapshotSaveFails_journalKept() throws Exception {
+        PersistenceExecutor executor = new PersistenceExecutor(true);
+        AtomicBoolean isDiskFull = new AtomicBoolean(false);
+        JsonCatalogStorage failingCatalogStorage = new JsonCatalogStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveCatalog(ReadOnlyCatalog catalog, Path filePath) throws IOException {
+                if (isDiskFull.get()) {
+                    throw new IOException("disk full");
+                }
+                super.saveCatalog(catalog, filePath);
+            }
+        };
+        StorageManager asyncStorage = new StorageManager(new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonLoanRecordsStorage(getTempFilePath("lr")), failingCatalogStorage,
+                new JsonBorrowerRecordsStorage(getTempFilePath("br")),
+                new JsonJournalStorage(getTempFilePath("journal")), executor);
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        Catalog catalog = getTypicalCatalog();
+        BorrowerRecords borrowerRecords = getTypicalBorrowerRecords();
+        asyncStorage.compactJournal(loanRecords, catalog, borrowerRecords);
+        asyncStorage.flush();
+        catalog.clearChanges();
+        isDiskFull.set(true);
+
+        catalog.setBook(BOOK_1, new BookBuilder(BOOK_1).withTitle("First Edit").build());
+        asyncStorage.saveChanges(loanRecords, catalog, borrowerRecords);
+        asyncStorage.flush();
+        catalog.clearChanges();
+        assertTrue(asyncStorage.hasJournalEntries());
+
+        // The catalog is not written, so the journal is the only copy of the edit and must not be cleared
+        asyncStorage.compactJournal(loanRecords, catalog, borrowerRecords);
+        assertThrows(IOException.class, "disk full", asyncStorage::flush);
+        assertTrue(asyncStorage.hasJournalEntries());
+    }
+
+    @Test
+    public void compactJournal_mappedLoanRecords_changesSinceLastWriteSaved() throws Exception {
+        StorageManager mappedStorage = new StorageManager(new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new MappedLoanRecordsStorage(getTempFilePath("lr.map")), new JsonCatalogStorage(getTempFilePath("ab")),
+                new JsonBorrowerRecordsStorage(getTempFilePath("br")),
+                new JsonJournalStorage(getTempFilePath("journal")));
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        Catalog catalog = getTypicalCatalog();
+        BorrowerRecords borrowerRecords = getTypicalBorrowerRecords();
+        mappedStorage.compactJournal(loanRecords, catalog, borrowerRecords);
+        loanRecords.clearChanges();
+
+        // Changes of several commands are journaled, then all written when the journal is compacted
+        loanRecords.updateLoan(LOAN_2, new LoanBuilder(LOAN_2).withRenewCount(1).build());
+        mappedStorage.saveChanges(loanRecords, catalog, borrowerRecords);
+        loanRecords.clearChanges();
+        loanRecords.addLoan(LOAN_8);
+        mappedStorage.saveChanges(loanRecords, catalog, borrowerRecords);
+        loanRecords.clearChanges();
+        loanRecords.removeLoan(LOAN_3);
+        mappedStorage.compactJournal(loanRecords, catalog, borrowerRecords);
+        loanRecords.clearChanges();
+
+        assertFalse(mappedStorage.hasJournalEntries());
+        assertEquals(loanRecords, new LoanRecords(mappedStorage.readLoanRecords().get()));
+    }
+
+    @Test
+    public void backupLibraryRecords_unreadableFiles_copiedBesideThem() throws Exception {
+        storageManager.compactJournal(getTypicalLoanRecords(), getTypicalCatalog(), getTypicalBorrowerRecords());
+        FileUtil.writeToFile(storageManager.getCatalogFilePath(), "corrupt");
+
+        storageManager.backupLibraryRecords();
+
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> backups = files.filter(file -> file.getFileName().toString().endsWith(".bak"))
+                    .collect(Collectors.toList());
+            assertEquals(3, backups.size());
+            Path catalogBackup = backups.stream()
+                    .filter(file -> file.getFileName().toString().startsWith("ab.")).findFirst().get();
+            assertEquals("corrupt", FileUtil.readFromFile(catalogBackup));
+        }
+        assertEquals("corrupt", FileUtil.readFromFile(storageManager.getCatalogFilePath()));
+    }
+
     @Test
     public void getAllFilePaths() {
         assertNotNull(storageManager.getCatalogFilePath());
@@ -0,0 +1,82 @@
+package seedu.address.storage.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
+import static seedu.address.testutil.TypicalBooks.BOOK_5;
+import static seedu.address.testutil.TypicalBooks.getTypicalCatalog;
+import static seedu.address.testutil.TypicalLoans.LOAN_1;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanRecords;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.ReadOnlyCatalog;
+import seedu.address.testutil.BookBuilder;
+
+public class BinaryCatalogStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonCatalogStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCatalog_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryCatalogStorage(null)
+                .readCatalog(null, new LoanRecords()));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryCatalogStorage(filePath).readCatalog(new LoanRecords()).isPresent());
+    }
+
+    @Test
+    public void read_notSnapshotFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidBookCatalog.json");
+        assertThrows(DataConversionException.class, () ->
+                new BinaryCatalogStorage(filePath).readCatalog(new LoanRecords()));
+    }
+
+    @Test
+    public void read_loanNotInLoanRecords_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempCatalog.bin");
+        Catalog catalog = new Catalog();
+        catalog.addBook(new BookBuilder(BOOK_1).withLoan(LOAN_1).build());
+        new BinaryCatalogStorage(filePath).saveCatalog(catalog);
+
+        assertThrows(DataConversionException.class, () ->
+                new BinaryCatalogStorage(filePath).readCatalog(new LoanRecords()));
+        ReadOnlyCatalog readBack = new BinaryCatalogStorage(filePath).readCatalog(getTypicalLoanRecords()).get();
+        assertEquals(catalog, new Catalog(readBack));
+    }
+
+    @Test
+    public void readAndSaveCatalog_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempCatalog.bin");
+        Catalog original = getTypicalCatalog();
+        BinaryCatalogStorage binaryCatalogStorage = new BinaryCatalogStorage(filePath);
+
+        // Save in new file and read back
+        binaryCatalogStorage.saveCatalog(original, filePath);
+        ReadOnlyCatalog readBack = binaryCatalogStorage.readCatalog(filePath, new LoanRecords()).get();
+        assertEquals(original, new Catalog(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addBook(BOOK_5);
+        original.removeBook(BOOK_2);
+        binaryCatalogStorage.saveCatalog(original);
+        readBack = binaryCatalogStorage.readCatalog(new LoanRecords()).get();
+        assertEquals(original, new Catalog(readBack));
+    }
+
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBooks.BOOK_1;
+import static seedu.address.testutil.TypicalBooks.BOOK_2;
+import static seedu.address.testutil.TypicalBorrowers.ALICE;
+import static seedu.address.testutil.TypicalLoans.LOAN_1;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.BorrowerRecords;
+import seedu.address.model.Catalog;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.book.Book;
+import seedu.address.model.loan.Loan;
+import seedu.address.testutil.BookBuilder;
+import seedu.address.testutil.LoanBuilder;
+
+public class JsonJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void hasJournalEntries_missingFile_returnsFalse() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("NonExistentFile.jsonl"));
+        assertFalse(journalStorage.hasJournalEntries());
+        assertEquals(0, journalStorage.replayJournal(new LoanRecords(), new Catalog(), new BorrowerRecords()));
+    }
+
+    @Test
+    public void appendJournalEntry_noChanges_nothingWritten() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+        journalStorage.appendJournalEntries(
+                List.of(new JournalEntry(new LoanRecords(), new Catalog(), new BorrowerRecords())));
+        assertFalse(journalStorage.hasJournalEntries());
+    }
+
+    @Test
+    public void appendAndReplayJournal_allInOrder_success() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+        LoanRecords loanRecords = new LoanRecords();
+        Catalog catalog = new Catalog();
+        BorrowerRecords borrowerRecords = new BorrowerRecords();
+
+        // Add a loaned book, another book and a borrower
+        Book loanedBook = new BookBuilder(BOOK_1).withLoan(LOAN_1).build();
+        loanRecords.addLoan(LOAN_1);
+        catalog.addBook(loanedBook);
+        catalog.addBook(BOOK_2);
+        borrowerRecords.addBorrower(ALICE);
+        appendAndClearChanges(journalStorage, loanRecords, catalog, borrowerRecords);
+
+        // Return the loan and remove the other book
+        Loan returnedLoan = new LoanBuilder(LOAN_1).withReturnDate("2019-10-20").build();
+        loanRecords.updateLoan(LOAN_1, returnedLoan);
+        catalog.setBook(loanedBook, new BookBuilder(BOOK_1).build());
+        catalog.removeBook(BOOK_2);
+        appendAndClearChanges(journalStorage, loanRecords, catalog, borrowerRecords);
+
+        assertTrue(journalStorage.hasJournalEntries());
+        LoanRecords replayedLoanRecords = new LoanRecords();
+        Catalog replayedCatalog = new Catalog();
+        BorrowerRecords replayedBorrowerRecords = new BorrowerRecords();
+        assertEquals(2, journalStorage.replayJournal(replayedLoanRecords, replayedCatalog, replayedBorrowerRecords));
+        assertEquals(loanRecords, replayedLoanRecords);
+        assertEquals(catalog, replayedCatalog);
+        assertEquals(borrowerRecords, replayedBorrowerRecords);
+        assertFalse(replayedCatalog.getBook(BOOK_1.getSerialNumber()).isCurrentlyLoanedOut());
+
+        journalStorage.clearJournal();
+        assertFalse(journalStorage.hasJournalEntries());
+    }
+
+    @Test
+    public void replayJournal_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonJournalStorage journalStorage = new JsonJournalStorage(filePath);
+        Catalog catalog = new Catalog();
+        catalog.addBook(BOOK_1);
+        journalStorage.appendJournalEntries(
+                List.of(new JournalEntry(new LoanRecords(), catalog, new BorrowerRecords())));
+        FileUtil.appendToFile(filePath, "{\"books\":[{\"title\":\"Legend");
+
+        Catalog replayedCatalog = new Catalog();
+        assertEquals(1, journalStorage.replayJournal(new LoanRecords(), replayedCatalog, new BorrowerRecords()));
+        assertEquals(catalog, replayedCatalog);
+    }
+
+    @Test
+    public void replayJournal_invalidEntryBeforeLast_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonJournalStorage journalStorage = new JsonJournalStorage(filePath);
+        FileUtil.appendToFile(filePath, "not a journal entry" + System.lineSeparator());
+        Catalog catalog = new Catalog();
+        catalog.addBook(BOOK_1);
+        journalStorage.appendJournalEntries(
+                List.of(new JournalEntry(new LoanRecords(), catalog, new BorrowerRecords())));
+
+        assertThrows(DataConversionException.class, () ->
+                journalStorage.replayJournal(new LoanRecords(), new Catalog(), new BorrowerRecords()));
+    }
+
+    /**
+     * Appends the changes in the given records to {@code journalStorage} and clears them, as a command would.
+     */
+    private void appendAndClearChanges(JsonJournalStorage journalStorage, LoanRecords loanRecords, Catalog catalog,
+            BorrowerRecords borrowerRecords) throws Exception {
+        journalStorage.appendJournalEntries(List.of(new JournalEntry(loanRecords, catalog, borrowerRecords)));
+        loanRecords.clearChanges();
+        catalog.clearChanges();
+        borrowerRecords.clearChanges();
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage.loanrecords;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLoans.LOAN_2;
+import static seedu.address.testutil.TypicalLoans.LOAN_3;
+import static seedu.address.testutil.TypicalLoans.LOAN_8;
+import static seedu.address.testutil.TypicalLoans.getTypicalLoanRecords;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.LoanRecords;
+import seedu.address.model.loan.Loan;
+import seedu.address.testutil.LoanBuilder;
+
+public class MappedLoanRecordsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.map");
+        assertFalse(new MappedLoanRecordsStorage(filePath).readLoanRecords().isPresent());
+    }
+
+    @Test
+    public void read_notMappedFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notMappedFormat.map");
+        FileUtil.writeToFile(filePath, "not a mapped loan records file");
+        assertThrows(DataConversionException.class, () -> new MappedLoanRecordsStorage(filePath).readLoanRecords());
+    }
+
+    @Test
+    public void readAndSaveLoanRecords_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempLoanRecords.map");
+        LoanRecords original = getTypicalLoanRecords();
+        original.addLoan(LOAN_8);
+        MappedLoanRecordsStorage storage = new MappedLoanRecordsStorage(filePath);
+
+        storage.saveLoanRecords(original);
+        assertEquals(original, storage.readLoanRecords().get());
+
+        // Update a loan and remove another, then read back
+        Loan paidLoan = new LoanBuilder(LOAN_8).withRemainingFineAmount(0).withPaidFineAmount(150).build();
+        original.updateLoan(LOAN_8, paidLoan);
+        original.removeLoan(LOAN_3);
+        storage.saveLoanRecords(original);
+        assertEquals(original, storage.readLoanRecords().get());
+    }
+
+    @Test
+    public void saveLoanRecords_updatedLoan_onlyItsSlotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempLoanRecords.map");
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        MappedLoanRecordsStorage storage = new MappedLoanRecordsStorage(filePath);
+        storage.saveLoanRecords(loanRecords);
+        byte[] before = Files.readAllBytes(filePath);
+
+        Loan renewedLoan = new LoanBuilder(LOAN_2).withRenewCount(1).withDueDate("2019-10-29").build();
+        loanRecords.updateLoan(LOAN_2, renewedLoan);
+        storage.saveLoanRecords(loanRecords);
+        byte[] after = Files.readAllBytes(filePath);
+
+        assertEquals(before.length, after.length);
+        int slotStart = MappedLoanRecordsStorage.HEADER_SIZE + 2 * MappedLoanRecordsStorage.SLOT_SIZE;
+        int slotEnd = slotStart + MappedLoanRecordsStorage.SLOT_SIZE;
+        for (int i = 0; i < before.length; i++) {
+            if (i < slotStart || i >= slotEnd) {
+                assertEquals(before[i], after[i]);
+            }
+        }
+        assertNotEquals(new String(before, slotStart, slotEnd - slotStart),
+                new String(after, slotStart, slotEnd - slotStart));
+    }
+
+    @Test
+    public void saveLoanRecords_changedLoanIds_onlyTheirSlotsWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempLoanRecords.map");
+        LoanRecords loanRecords = getTypicalLoanRecords();
+        MappedLoanRecordsStorage storage = new MappedLoanRecordsStorage(filePath);
+        storage.saveLoanRecords(loanRecords);
+
+        // Only the given loans are written, so a change to a loan that is not given is not saved
+        Loan renewedLoan = new LoanBuilder(LOAN_2).withRenewCount(1).withDueDate("2019-10-29").build();
+        loanRecords.updateLoan(LOAN_2, renewedLoan);
+        loanRecords.removeLoan(LOAN_3);
+        loanRecords.addLoan(LOAN_8);
+        storage.saveLoanRecords(loanRecords, Set.of(LOAN_3.getLoanId(), LOAN_8.getLoanId()));
+
+        LoanRecords expected = getTypicalLoanRecords();
+        expected.removeLoan(LOAN_3);
+        expected.addLoan(LOAN_8);
+        assertEquals(expected, storage.readLoanRecords().get());
+
+        // A missing file is saved in full
+        Files.delete(filePath);
+        storage.saveLoanRecords(loanRecords, Set.of());
+        assertEquals(loanRecords, storage.readLoanRecords().get());
+    }
+
+}
@@ -10,7 +10,6 @@ import seedu.address.model.book.SerialNumber;
 import seedu.address.model.book.Title;
 import seedu.address.model.genre.Genre;
 import seedu.address.model.loan.Loan;
-import seedu.address.model.loan.LoanList;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -27,7 +26,6 @@ public class BookBuilder {
     private Author author;
     private Optional<Loan> loan;
     private Set<Genre> genres;
-    private LoanList loanHistory;
 
     public BookBuilder() {
         title = new Title(DEFAULT_TITLE);
@@ -35,7 +33,6 @@ public class BookBuilder {
         author = new Author(DEFAULT_AUTHOR);
         loan = Optional.ofNullable(null);
         genres = new HashSet<>();
-        loanHistory = new LoanList();
     }
 
     /**
@@ -47,7 +44,6 @@ public class BookBuilder {
         author = bookToCopy.getAuthor();
         loan = bookToCopy.getLoan();
         genres = new HashSet<>(bookToCopy.getGenres());
-        loanHistory = bookToCopy.getLoanHistory();
     }
 
     /**
@@ -101,7 +97,7 @@ public class BookBuilder {
         } else {
             loanValue = loan.get();
         }
-        return new Book(title, serialNumber, author, loanValue, genres, loanHistory);
+        return new Book(title, serialNumber, author, loanValue, genres);
     }
 
 }
@@ -30,10 +30,10 @@ public class TypicalLoans {
     public static final Loan LOAN_7_RETURNED = new LoanBuilder(LOAN_7).withReturnDate("2019-10-20").build();
 
     public static final Loan LOAN_8 = new LoanBuilder().withLoanId("L000008").withSerialNumber("B00008")
-            .withBorrowerId("K0008").withStartDate("2019-09-01").withDueDate("2019-09-30")
+            .withBorrowerId("K0010").withStartDate("2019-09-01").withDueDate("2019-09-30")
             .withReturnDate("2019-09-15").withRemainingFineAmount(150).build();
     public static final Loan LOAN_9 = new LoanBuilder().withLoanId("L000009").withSerialNumber("B00009")
-            .withBorrowerId("K0009").withStartDate("2019-09-01").withDueDate("2019-09-30")
+            .withBorrowerId("K0010").withStartDate("2019-09-01").withDueDate("2019-09-30")
             .withReturnDate("2019-09-15").withRemainingFineAmount(300).build();
 
     public static final Loan LOAN_1_UNEXPIRED = new LoanBuilder().withLoanId("L000010").withSerialNumber("B00001")